@@ -0,0 +1,309 @@
+package assign03;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * A priority queue that keeps its items in sorted order, split into blocks of at most
+ * BLOCK_CAPACITY items each. The blocks are in ascending order, as are the items within a
+ * block, so the max item is the last item of the last block.
+ *
+ * An insert binary searches the blocks for the one the item belongs in, then shifts at most
+ * one block's items to make room, splitting the block in two when it is full. Its cost is
+ * O(log N) comparisons plus a bounded shift, where SimplePriorityQueue shifts up to N items.
+ * contains binary searches the same way, and findMax and deleteMax take O(1).
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <E> - The type of objects stored in the BlockedPriorityQueue.
+ */
+public class BlockedPriorityQueue<E> implements PriorityQueue<E> {
+
+	private static final int BLOCK_CAPACITY = 512;
+
+	private E[][] blocks;
+	private int[] blockSizes;
+	private int blockCount;
+	private int size;
+	private Comparator<? super E> cmp;
+
+	/**
+	 * Constructor for the priority queue organized in natural order.
+	 */
+	public BlockedPriorityQueue() {
+		this(null);
+	}
+
+	/**
+	 * Constructor for the priority queue organized in custom order.
+	 *
+	 * @param cmp - The comparator and custom ordering used in this queue, or null for
+	 *              natural ordering.
+	 */
+	@SuppressWarnings("unchecked")
+	public BlockedPriorityQueue(Comparator<? super E> cmp) {
+		this.cmp = cmp != null ? cmp : (Comparator<? super E>) Comparator.naturalOrder();
+		clear();
+	}
+
+	/**
+	 * Finds the "max" item in the queue.
+	 *
+	 * @return The max item in the queue.
+	 * @throws NoSuchElementException if the priority queue is empty.
+	 */
+	public E findMax() throws NoSuchElementException {
+		if(size == 0) {
+			throw new NoSuchElementException("Nothing stored in queue.");
+		}
+		return blocks[blockCount-1][blockSizes[blockCount-1]-1];
+	}
+
+	/**
+	 * Retrieves and removes the max item from the queue.
+	 *
+	 * @return The max item in the queue.
+	 * @throws NoSuchElementException if the priority queue is empty.
+	 */
+	public E deleteMax() throws NoSuchElementException {
+		if(size == 0) {
+			throw new NoSuchElementException("Nothing stored in queue.");
+		}
+		int last = blockCount - 1;
+		int index = --blockSizes[last];
+		E max = blocks[last][index];
+		blocks[last][index] = null;
+		if(index == 0) {
+			blocks[last] = null;
+			blockCount--;
+		}
+		size--;
+		return max;
+	}
+
+	/**
+	 * Inserts an item into the priority queue, after any items equal to it.
+	 *
+	 * @param item - The item to be inserted.
+	 */
+	public void insert(E item) {
+		if(blockCount == 0) {
+			addBlock(0, newBlock());
+		}
+		int block = upperBoundBlock(item);
+		if(blockSizes[block] == BLOCK_CAPACITY) {
+			splitBlock(block);
+			if(cmp.compare(item, blocks[block][blockSizes[block]-1]) >= 0) {
+				block++;
+			}
+		}
+		E[] items = blocks[block];
+		int index = upperBound(items, blockSizes[block], item);
+		System.arraycopy(items, index, items, index + 1, blockSizes[block] - index);
+		items[index] = item;
+		blockSizes[block]++;
+		size++;
+	}
+
+	/**
+	 * Inserts all of the items in a collection into the priority queue. The items are
+	 * sorted and merged with the queue's items in a single pass, unless the collection is
+	 * so small compared to the queue that inserting them one at a time shifts fewer items.
+	 *
+	 * @param coll - The collection of items to be inserted.
+	 */
+	@SuppressWarnings("unchecked")
+	public void insertAll(Collection<? extends E> coll) {
+		E[] batch = (E[]) coll.toArray();
+		if((long) batch.length * (BLOCK_CAPACITY / 2) < size) {
+			for(E item : batch) {
+				insert(item);
+			}
+			return;
+		}
+		Arrays.sort(batch, cmp);
+		int total = size + batch.length;
+		// fill blocks to three quarters, so the inserts that follow rarely split them
+		int fill = BLOCK_CAPACITY * 3 / 4;
+		E[][] merged = (E[][]) new Object[Math.max((total + fill - 1) / fill, 1)][];
+		int[] mergedSizes = new int[merged.length];
+		int mergedCount = 0;
+		int block = 0, index = 0, next = 0;
+		for(int i = 0; i < total; i++) {
+			E item;
+			if(next == batch.length || (block < blockCount && cmp.compare(blocks[block][index], batch[next]) <= 0)) {
+				item = blocks[block][index++];
+				if(index == blockSizes[block]) {
+					block++;
+					index = 0;
+				}
+			} else {
+				item = batch[next++];
+			}
+			if(mergedCount == 0 || mergedSizes[mergedCount-1] == fill) {
+				merged[mergedCount++] = newBlock();
+			}
+			merged[mergedCount-1][mergedSizes[mergedCount-1]++] = item;
+		}
+		blocks = merged;
+		blockSizes = mergedSizes;
+		blockCount = mergedCount;
+		size = total;
+	}
+
+	/**
+	 * Indicates whether this priority queue contains the specified item, according to
+	 * equals. Only the items comparing equal to it are checked.
+	 *
+	 * @param item - The item whose containment is being checked.
+	 * @return True if the item is contained in this priority queue
+	 */
+	public boolean contains(E item) {
+		int low = 0, high = blockCount - 1;
+		while(low <= high) {
+			int mid = (low + high) >>> 1;
+			if(cmp.compare(blocks[mid][blockSizes[mid]-1], item) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		int block = low;
+		if(block == blockCount) {
+			return false;
+		}
+		int index = lowerBound(blocks[block], blockSizes[block], item);
+		while(block < blockCount && cmp.compare(blocks[block][index], item) == 0) {
+			if(blocks[block][index].equals(item)) {
+				return true;
+			}
+			if(++index == blockSizes[block]) {
+				block++;
+				index = 0;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Retrieves the size of the queue.
+	 *
+	 * @return The number of items in this priority queue.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks if the queue is empty.
+	 *
+	 * @return true if the queue is empty, false otherwise.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Clears the queue, releasing its items.
+	 */
+	@SuppressWarnings("unchecked")
+	public void clear() {
+		blocks = (E[][]) new Object[4][];
+		blockSizes = new int[4];
+		blockCount = 0;
+		size = 0;
+	}
+
+	/**
+	 * Returns the index of the first block whose last item is greater than the given item,
+	 * or of the last block if there is none.
+	 *
+	 * @param item - The item being searched for
+	 * @return The index of the block the item should be inserted into
+	 */
+	private int upperBoundBlock(E item) {
+		int low = 0, high = blockCount - 1;
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+			if(cmp.compare(blocks[mid][blockSizes[mid]-1], item) > 0) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the first of the first count items which is greater than the
+	 * given item, or count if there is none.
+	 */
+	private int upperBound(E[] items, int count, E item) {
+		int low = 0, high = count;
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+			if(cmp.compare(items[mid], item) > 0) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the first of the first count items which is not less than the
+	 * given item, or count if there is none.
+	 */
+	private int lowerBound(E[] items, int count, E item) {
+		int low = 0, high = count;
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+			if(cmp.compare(items[mid], item) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Moves the upper half of the given full block into a new block placed after it.
+	 *
+	 * @param block - The index of the block being split
+	 */
+	private void splitBlock(int block) {
+		int half = BLOCK_CAPACITY / 2;
+		E[] upper = newBlock();
+		System.arraycopy(blocks[block], half, upper, 0, BLOCK_CAPACITY - half);
+		Arrays.fill(blocks[block], half, BLOCK_CAPACITY, null);
+		blockSizes[block] = half;
+		addBlock(block + 1, upper);
+		blockSizes[block + 1] = BLOCK_CAPACITY - half;
+	}
+
+	/**
+	 * Inserts the given block at the given index of the block list with a size of 0, growing
+	 * the list if needed.
+	 */
+	private void addBlock(int index, E[] block) {
+		if(blockCount == blocks.length) {
+			blocks = Arrays.copyOf(blocks, blockCount * 2);
+			blockSizes = Arrays.copyOf(blockSizes, blockCount * 2);
+		}
+		System.arraycopy(blocks, index, blocks, index + 1, blockCount - index);
+		System.arraycopy(blockSizes, index, blockSizes, index + 1, blockCount - index);
+		blocks[index] = block;
+		blockSizes[index] = 0;
+		blockCount++;
+	}
+
+	@SuppressWarnings("unchecked")
+	private E[] newBlock() {
+		return (E[]) new Object[BLOCK_CAPACITY];
+	}
+}
@@ -0,0 +1,150 @@
+package assign03;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is a tester class for BlockedPriorityQueue.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+class BlockedPriorityQueueTester {
+
+	private BlockedPriorityQueue<Integer> emptyQueue, intQueue, largeIntQueue;
+	private BlockedPriorityQueue<String> stringCustomQueue;
+
+	@BeforeEach
+	void setUp() {
+		emptyQueue = new BlockedPriorityQueue<Integer>();
+		intQueue = new BlockedPriorityQueue<Integer>();
+		intQueue.insert(3);
+		intQueue.insert(-1);
+		intQueue.insert(2);
+		intQueue.insert(38);
+		largeIntQueue = new BlockedPriorityQueue<Integer>();
+		for(int i = 10000; i > 0; i--) {
+			largeIntQueue.insert(i);
+		}
+		stringCustomQueue = new BlockedPriorityQueue<String>((str1, str2) -> (str1.length() - str2.length()));
+		stringCustomQueue.insertAll(List.of("Anton", "Alfredo", "Jake", "apple", "100DogsAndCats", "Zebra"));
+	}
+
+	@Test
+	void testEmptyQueue() {
+		assertTrue(emptyQueue.isEmpty());
+		assertThrows(NoSuchElementException.class, ()-> emptyQueue.findMax());
+		assertThrows(NoSuchElementException.class, ()-> emptyQueue.deleteMax());
+		assertFalse(emptyQueue.contains(5));
+	}
+
+	@Test
+	void testDeleteMaxIntegerQueue() {
+		assertEquals(38, intQueue.deleteMax());
+		assertEquals(3, intQueue.deleteMax());
+		assertEquals(2, intQueue.deleteMax());
+		assertEquals(-1, intQueue.deleteMax());
+		assertTrue(intQueue.isEmpty());
+	}
+
+	@Test
+	void testDeleteMaxLargeIntQueue() {
+		for(int i = 10000; i > 0; i--) {
+			assertEquals(i, largeIntQueue.deleteMax());
+		}
+		assertTrue(largeIntQueue.isEmpty());
+		largeIntQueue.insert(7);
+		assertEquals(7, largeIntQueue.findMax());
+	}
+
+	@Test
+	void testDeleteMaxStringCustomQueue() {
+		assertEquals("100DogsAndCats", stringCustomQueue.deleteMax());
+		assertEquals("Alfredo", stringCustomQueue.deleteMax());
+		assertEquals(5, stringCustomQueue.deleteMax().length());
+	}
+
+	@Test
+	void testContainsLargeIntQueue() {
+		assertTrue(largeIntQueue.contains(1));
+		assertTrue(largeIntQueue.contains(5000));
+		assertTrue(largeIntQueue.contains(10000));
+		assertFalse(largeIntQueue.contains(0));
+		assertFalse(largeIntQueue.contains(10001));
+	}
+
+	@Test
+	void testContainsStringCustomQueueEqualLengths() {
+		assertTrue(stringCustomQueue.contains("Anton"));
+		assertTrue(stringCustomQueue.contains("apple"));
+		assertTrue(stringCustomQueue.contains("Zebra"));
+		assertFalse(stringCustomQueue.contains("zebra"));
+	}
+
+	@Test
+	void testInsertAllMerge() {
+		ArrayList<Integer> numbers = new ArrayList<Integer>();
+		for(int i = 0; i < 100; i++) {
+			numbers.add(i * 3);
+		}
+		intQueue.insertAll(numbers);
+		assertEquals(104, intQueue.size());
+		assertTrue(intQueue.contains(38));
+		assertTrue(intQueue.contains(150));
+		assertEquals(297, intQueue.deleteMax());
+	}
+
+	@Test
+	void testInsertAllSmallBatch() {
+		largeIntQueue.insertAll(List.of(20000, 0, 5000));
+		assertEquals(10003, largeIntQueue.size());
+		assertEquals(20000, largeIntQueue.deleteMax());
+		assertEquals(10000, largeIntQueue.deleteMax());
+		assertTrue(largeIntQueue.contains(0));
+	}
+
+	@Test
+	void testClear() {
+		largeIntQueue.clear();
+		assertEquals(0, largeIntQueue.size());
+		assertFalse(largeIntQueue.contains(5));
+		largeIntQueue.insert(5);
+		assertEquals(5, largeIntQueue.findMax());
+	}
+
+	@Test
+	void testRandomOperations() {
+		Random rng = new Random(15);
+		BlockedPriorityQueue<Integer> queue = new BlockedPriorityQueue<Integer>(Comparator.reverseOrder());
+		List<Integer> expected = new ArrayList<Integer>();
+		for(int round = 0; round < 50; round++) {
+			ArrayList<Integer> batch = new ArrayList<Integer>();
+			for(int i = rng.nextInt(2000); i > 0; i--) {
+				batch.add(rng.nextInt(5000));
+			}
+			queue.insertAll(batch);
+			expected.addAll(batch);
+			for(int i = rng.nextInt(2000); i > 0; i--) {
+				int item = rng.nextInt(5000);
+				queue.insert(item);
+				expected.add(item);
+			}
+			Collections.sort(expected, Comparator.reverseOrder());
+			for(int i = rng.nextInt(1500); i > 0 && !expected.isEmpty(); i--) {
+				assertEquals(expected.remove(expected.size() - 1), queue.deleteMax());
+			}
+			int probe = rng.nextInt(5000);
+			assertEquals(expected.contains(probe), queue.contains(probe));
+			assertEquals(expected.size(), queue.size());
+		}
+	}
+}
@@ -85,7 +85,7 @@ public class SimplePriorityQueue<E> implements PriorityQueue<E>{
 			}
 		}
 		int index = binarySearch(item);
-		for(int i = size; i > binarySearch(item); i--) {
+		for(int i = size; i > index; i--) {
 				backingArray[i] = backingArray[i-1];
 		}
 		backingArray[index] = item;
@@ -5,17 +5,23 @@ import java.util.Random;
 
 public class PriorityQueueTimer extends TimerTemplate{
 
-	private SimplePriorityQueue<Integer> setupQueue;
+	private PriorityQueue<Integer> setupQueue;
+	private boolean blocked;
 	
 	Random random = new Random();
 	
 	public PriorityQueueTimer(int[] problemSizes, int timesToLoop) {
+		this(problemSizes, timesToLoop, false);
+	}
+	
+	public PriorityQueueTimer(int[] problemSizes, int timesToLoop, boolean blocked) {
 		super(problemSizes, timesToLoop);
+		this.blocked = blocked;
 	}
 
 	@Override
 	protected void setup(int n) {
-		setupQueue = new SimplePriorityQueue<Integer>();
+		setupQueue = blocked ? new BlockedPriorityQueue<Integer>() : new SimplePriorityQueue<Integer>();
 		for (int i = setupQueue.size(); i < n; i++) {
 			setupQueue.insert(i);
 		}
@@ -46,13 +52,15 @@ public class PriorityQueueTimer extends TimerTemplate{
 			   problemSizes[i] = ns.get(i);
 		 }
 		 
-		 var timer = new PriorityQueueTimer(problemSizes, 10);
-		 var results = timer.run();
-		 
-		 System.out.println("n, time");
-		 
-		 for(var result : results){
-			 System.out.println(result.n() + ", " + result.avgNanoSecs());
+		 for(boolean blocked : new boolean[] {false, true}) {
+			 var timer = new PriorityQueueTimer(problemSizes, 10, blocked);
+			 var results = timer.run();
+			 
+			 System.out.println((blocked ? "BlockedPriorityQueue" : "SimplePriorityQueue") + "\nn, time");
+			 
+			 for(var result : results){
+				 System.out.println(result.n() + ", " + result.avgNanoSecs());
+			 }
 		 }
 		 
 	}
@@ -0,0 +1,294 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * This class represents an immutable graph in compressed sparse row form. Every vertex is
+ * given a dense int id, from 0 to the number of vertices, and the targets of all edges are
+ * stored in one int array, grouped by source: the edges of vertex v are targets[offsets[v]]
+ * through targets[offsets[v + 1] - 1]. A traversal therefore reads each vertex's edges from
+ * consecutive memory, instead of following a linked list of Edge objects. The weight of
+ * the edge to targets[i] is weights[i], and weights is null if every edge has weight 1.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <T> - The type of data stored in the graph.
+ */
+public class CsrGraph<T> {
+
+	// the data of each vertex, indexed by id
+	private final ArrayList<T> data;
+	private final HashMap<T, Integer> ids;
+	final int[] offsets;
+	final int[] targets;
+	final double[] weights;
+	// the graph with every edge reversed, built on first use
+	private volatile CsrGraph<T> transpose;
+
+	/**
+	 * Freezes the given graph. Each vertex's edges keep the order in which they were added,
+	 * and the weights are kept only if some edge's weight is not 1.
+	 *
+	 * @param graph - The graph being copied.
+	 */
+	public CsrGraph(Graph<T> graph) {
+		int vertexCount = graph.getVertices().size();
+		data = new ArrayList<T>(vertexCount);
+		ids = new HashMap<T, Integer>(vertexCount * 4 / 3 + 1);
+		for(T vertexData : graph.getVertices().keySet()) {
+			intern(vertexData);
+		}
+		offsets = new int[vertexCount + 1];
+		int edgeCount = 0;
+		for(int id = 0; id < vertexCount; id++) {
+			offsets[id] = edgeCount;
+			Iterator<Edge<T>> iter = graph.getVertices().get(data.get(id)).edges();
+			while(iter.hasNext()) {
+				iter.next();
+				edgeCount++;
+			}
+		}
+		offsets[vertexCount] = edgeCount;
+		targets = new int[edgeCount];
+		double[] edgeWeights = new double[edgeCount];
+		boolean weighted = false;
+		for(int id = 0; id < vertexCount; id++) {
+			int edge = offsets[id];
+			Iterator<Edge<T>> iter = graph.getVertices().get(data.get(id)).edges();
+			while(iter.hasNext()) {
+				Edge<T> next = iter.next();
+				weighted |= next.getWeight() != 1;
+				edgeWeights[edge] = next.getWeight();
+				targets[edge++] = ids.get(next.getVertex().getData());
+			}
+		}
+		weights = weighted ? edgeWeights : null;
+	}
+
+	/**
+	 * Builds the graph with an edge from each source to its corresponding destination,
+	 * as in GraphUtility. Vertices are given ids in order of first appearance, and each
+	 * vertex's edges keep the order of the lists.
+	 *
+	 * @param sources      - The source vertices for the graph.
+	 * @param destinations - The corresponding destination vertices for the graph.
+	 * @throws IllegalArgumentException - Thrown if the number of vertices in sources
+	 *                                  and destinations varies.
+	 */
+	public CsrGraph(List<T> sources, List<T> destinations) throws IllegalArgumentException {
+		this(sources, destinations, null);
+	}
+
+	/**
+	 * Builds the graph with an edge of the corresponding weight from each source to its
+	 * corresponding destination, as read by GraphUtility.buildListsFromDot. Vertices are
+	 * given ids in order of first appearance, and each vertex's edges keep the order of
+	 * the lists. The weights are kept only if some edge's weight is not 1.
+	 *
+	 * @param sources      - The source vertices for the graph.
+	 * @param destinations - The corresponding destination vertices for the graph.
+	 * @param weights      - The corresponding edge weights, or null if every edge has weight 1.
+	 * @throws IllegalArgumentException - Thrown if the number of vertices in sources
+	 *                                  and destinations, or the number of weights, varies.
+	 */
+	public CsrGraph(List<T> sources, List<T> destinations, List<Double> weights) throws IllegalArgumentException {
+		if(sources.size() != destinations.size()) {
+			throw new IllegalArgumentException("There is not a destination vertex for every source.");
+		}
+		if(weights != null && weights.size() != sources.size()) {
+			throw new IllegalArgumentException("There is not a weight for every edge.");
+		}
+		int edgeCount = sources.size();
+		data = new ArrayList<T>();
+		ids = new HashMap<T, Integer>();
+		int[] edgeSources = new int[edgeCount];
+		int[] edgeTargets = new int[edgeCount];
+		for(int i = 0; i < edgeCount; i++) {
+			edgeSources[i] = intern(sources.get(i));
+			edgeTargets[i] = intern(destinations.get(i));
+		}
+		int vertexCount = data.size();
+		// count each source's edges, then turn the counts into starting offsets
+		offsets = new int[vertexCount + 1];
+		for(int source : edgeSources) {
+			offsets[source + 1]++;
+		}
+		for(int id = 0; id < vertexCount; id++) {
+			offsets[id + 1] += offsets[id];
+		}
+		targets = new int[edgeCount];
+		double[] edgeWeights = weights == null ? null : new double[edgeCount];
+		boolean weighted = false;
+		int[] next = new int[vertexCount];
+		System.arraycopy(offsets, 0, next, 0, vertexCount);
+		for(int i = 0; i < edgeCount; i++) {
+			int edge = next[edgeSources[i]]++;
+			targets[edge] = edgeTargets[i];
+			if(weights != null) {
+				double weight = weights.get(i);
+				weighted |= weight != 1;
+				edgeWeights[edge] = weight;
+			}
+		}
+		this.weights = weighted ? edgeWeights : null;
+	}
+
+	/**
+	 * Builds the transpose of the given graph, which shares its vertices and ids. Each
+	 * reversed edge keeps its weight.
+	 *
+	 * @param forward - The graph whose edges are reversed.
+	 */
+	private CsrGraph(CsrGraph<T> forward) {
+		data = forward.data;
+		ids = forward.ids;
+		int vertexCount = data.size();
+		offsets = new int[vertexCount + 1];
+		for(int target : forward.targets) {
+			offsets[target + 1]++;
+		}
+		for(int id = 0; id < vertexCount; id++) {
+			offsets[id + 1] += offsets[id];
+		}
+		targets = new int[forward.targets.length];
+		weights = forward.weights == null ? null : new double[forward.weights.length];
+		int[] next = new int[vertexCount];
+		System.arraycopy(offsets, 0, next, 0, vertexCount);
+		for(int source = 0; source < vertexCount; source++) {
+			for(int edge = forward.offsets[source]; edge < forward.offsets[source + 1]; edge++) {
+				int reversed = next[forward.targets[edge]]++;
+				targets[reversed] = source;
+				if(weights != null) {
+					weights[reversed] = forward.weights[edge];
+				}
+			}
+		}
+		transpose = forward;
+	}
+
+	/**
+	 * Retrieves the transpose of this graph: the graph with the same vertices and ids, and
+	 * an edge from w to v for every edge from v to w. It is built on the first call and
+	 * shared by later ones.
+	 *
+	 * @return - The transpose graph.
+	 */
+	public CsrGraph<T> transpose() {
+		CsrGraph<T> result = transpose;
+		if(result == null) {
+			synchronized(this) {
+				result = transpose;
+				if(result == null) {
+					result = new CsrGraph<T>(this);
+					transpose = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the number of vertices in this graph
+	 */
+	public int getVertexCount() {
+		return data.size();
+	}
+
+	/**
+	 * @return the number of edges in this graph
+	 */
+	public int getEdgeCount() {
+		return targets.length;
+	}
+
+	/**
+	 * Retrieves the id of the vertex holding the given data.
+	 *
+	 * @param vertexData - The data of the vertex.
+	 * @return - The vertex's id, or -1 if no vertex holds the data.
+	 */
+	public int getId(T vertexData) {
+		Integer id = ids.get(vertexData);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Retrieves the data of the vertex with the given id.
+	 *
+	 * @param id - The id of the vertex.
+	 * @return - The data stored in the vertex.
+	 * @throws IndexOutOfBoundsException - If no vertex has the id.
+	 */
+	public T getData(int id) throws IndexOutOfBoundsException {
+		return data.get(id);
+	}
+
+	/**
+	 * Retrieves the number of edges for which the given vertex is the source.
+	 *
+	 * @param id - The id of the vertex.
+	 * @return - The vertex's out degree.
+	 */
+	public int outDegree(int id) {
+		return offsets[id + 1] - offsets[id];
+	}
+
+	/**
+	 * Retrieves the destination of one of the given vertex's edges.
+	 *
+	 * @param id    - The id of the source vertex.
+	 * @param index - The index of the edge among the vertex's edges, in the order they
+	 *              were added.
+	 * @return - The id of the destination vertex.
+	 * @throws IndexOutOfBoundsException - If index is not less than the out degree.
+	 */
+	public int getTarget(int id, int index) throws IndexOutOfBoundsException {
+		if(index < 0 || index >= outDegree(id)) {
+			throw new IndexOutOfBoundsException("Vertex " + id + " has no edge " + index + ".");
+		}
+		return targets[offsets[id] + index];
+	}
+
+	/**
+	 * Retrieves the weight of one of the given vertex's edges.
+	 *
+	 * @param id    - The id of the source vertex.
+	 * @param index - The index of the edge among the vertex's edges, in the order they
+	 *              were added.
+	 * @return - The weight of the edge.
+	 * @throws IndexOutOfBoundsException - If index is not less than the out degree.
+	 */
+	public double getWeight(int id, int index) throws IndexOutOfBoundsException {
+		if(index < 0 || index >= outDegree(id)) {
+			throw new IndexOutOfBoundsException("Vertex " + id + " has no edge " + index + ".");
+		}
+		return weights == null ? 1 : weights[offsets[id] + index];
+	}
+
+	/**
+	 * @return true if some edge of this graph has a weight other than 1, false otherwise
+	 */
+	public boolean isWeighted() {
+		return weights != null;
+	}
+
+	/**
+	 * Gives the given data a new id if it does not have one.
+	 *
+	 * @param vertexData - The data of a vertex.
+	 * @return - The vertex's id.
+	 */
+	private int intern(T vertexData) {
+		Integer id = ids.get(vertexData);
+		if(id == null) {
+			id = data.size();
+			ids.put(vertexData, id);
+			data.add(vertexData);
+		}
+		return id;
+	}
+}
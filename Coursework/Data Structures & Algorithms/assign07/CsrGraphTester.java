@@ -0,0 +1,132 @@
+package assign07;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsrGraphTester {
+
+	@Test
+	void testFromLists() {
+		List<String> srcs = List.of("a", "b", "a", "c", "a");
+		List<String> dsts = List.of("b", "c", "c", "a", "d");
+		CsrGraph<String> graph = new CsrGraph<String>(srcs, dsts);
+		assertEquals(4, graph.getVertexCount());
+		assertEquals(5, graph.getEdgeCount());
+		int a = graph.getId("a");
+		assertEquals(0, a);
+		assertEquals("a", graph.getData(a));
+		assertEquals(3, graph.outDegree(a));
+		assertEquals("b", graph.getData(graph.getTarget(a, 0)));
+		assertEquals("c", graph.getData(graph.getTarget(a, 1)));
+		assertEquals("d", graph.getData(graph.getTarget(a, 2)));
+		assertEquals(0, graph.outDegree(graph.getId("d")));
+		assertEquals(-1, graph.getId("e"));
+	}
+
+	@Test
+	void testMismatchedLists() {
+		assertThrows(IllegalArgumentException.class, () -> new CsrGraph<String>(List.of("a", "b"), List.of("c")));
+	}
+
+	@Test
+	void testEmpty() {
+		CsrGraph<String> graph = new CsrGraph<String>(new ArrayList<String>(), new ArrayList<String>());
+		assertEquals(0, graph.getVertexCount());
+		assertEquals(0, graph.getEdgeCount());
+		assertEquals(0, new Graph<String>().freeze().getVertexCount());
+	}
+
+	@Test
+	void testGetTargetOutOfBounds() {
+		CsrGraph<String> graph = new CsrGraph<String>(List.of("a"), List.of("b"));
+		assertThrows(IndexOutOfBoundsException.class, () -> graph.getTarget(graph.getId("a"), 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> graph.getTarget(graph.getId("b"), 0));
+	}
+
+	@Test
+	void testFreezeMatchesGraph() {
+		Graph<Integer> sample = new Graph<Integer>();
+		for(int i = 0; i < 100; i++) {
+			sample.addEdge(i, (i * 7) % 100);
+			sample.addEdge(i, (i + 1) % 100);
+		}
+		sample.addEdge(5, 200);
+		CsrGraph<Integer> graph = sample.freeze();
+		assertEquals(101, graph.getVertexCount());
+		assertEquals(201, graph.getEdgeCount());
+		int five = graph.getId(5);
+		assertEquals(3, graph.outDegree(five));
+		assertEquals(35, graph.getData(graph.getTarget(five, 0)));
+		assertEquals(6, graph.getData(graph.getTarget(five, 1)));
+		assertEquals(200, graph.getData(graph.getTarget(five, 2)));
+	}
+
+	@Test
+	void testTranspose() {
+		CsrGraph<String> graph = new CsrGraph<String>(List.of("a", "b", "a", "c"), List.of("b", "c", "c", "a"));
+		CsrGraph<String> reverse = graph.transpose();
+		assertSame(reverse, graph.transpose());
+		assertSame(graph, reverse.transpose());
+		assertEquals(4, reverse.getEdgeCount());
+		int c = reverse.getId("c");
+		assertEquals(2, reverse.outDegree(c));
+		assertEquals("a", reverse.getData(reverse.getTarget(c, 0)));
+		assertEquals("b", reverse.getData(reverse.getTarget(c, 1)));
+		assertEquals(1, reverse.outDegree(reverse.getId("a")));
+	}
+
+	@Test
+	void testWeightsFromLists() {
+		CsrGraph<String> graph = new CsrGraph<String>(List.of("a", "b", "a"), List.of("b", "c", "c"),
+				List.of(2.5, 0.0, 7.0));
+		assertTrue(graph.isWeighted());
+		int a = graph.getId("a");
+		assertEquals(2.5, graph.getWeight(a, 0));
+		assertEquals(7.0, graph.getWeight(a, 1));
+		assertEquals(0.0, graph.getWeight(graph.getId("b"), 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> graph.getWeight(a, 2));
+		assertThrows(IllegalArgumentException.class,
+				() -> new CsrGraph<String>(List.of("a", "b"), List.of("b", "c"), List.of(1.0)));
+		// weights which are all 1, as read from an unweighted DOT file, are dropped
+		CsrGraph<String> ones = new CsrGraph<String>(List.of("a", "b"), List.of("b", "c"), List.of(1.0, 1.0));
+		assertFalse(ones.isWeighted());
+		assertEquals(1.0, ones.getWeight(ones.getId("b"), 0));
+	}
+
+	@Test
+	void testUnweightedHasWeightOne() {
+		CsrGraph<String> graph = new CsrGraph<String>(List.of("a"), List.of("b"));
+		assertFalse(graph.isWeighted());
+		assertEquals(1.0, graph.getWeight(graph.getId("a"), 0));
+	}
+
+	@Test
+	void testFreezeKeepsWeights() {
+		Graph<Integer> sample = new Graph<Integer>();
+		sample.addEdge(1, 2);
+		sample.addEdge(1, 3, 4.5);
+		CsrGraph<Integer> graph = sample.freeze();
+		assertTrue(graph.isWeighted());
+		assertEquals(1.0, graph.getWeight(graph.getId(1), 0));
+		assertEquals(4.5, graph.getWeight(graph.getId(1), 1));
+		Graph<Integer> unweighted = new Graph<Integer>();
+		unweighted.addEdge(1, 2);
+		assertFalse(unweighted.freeze().isWeighted());
+	}
+
+	@Test
+	void testTransposeKeepsWeights() {
+		CsrGraph<String> graph = new CsrGraph<String>(List.of("a", "b", "a"), List.of("c", "c", "b"),
+				List.of(1.5, 2.5, 3.5));
+		CsrGraph<String> reverse = graph.transpose();
+		int c = reverse.getId("c");
+		assertEquals("a", reverse.getData(reverse.getTarget(c, 0)));
+		assertEquals(1.5, reverse.getWeight(c, 0));
+		assertEquals(2.5, reverse.getWeight(c, 1));
+		assertEquals(3.5, reverse.getWeight(reverse.getId("b"), 0));
+	}
+}
@@ -0,0 +1,298 @@
+package assign07;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class finds the length of a shortest path from a source to every vertex of a
+ * CsrGraph with non-negative edge weights, relaxing many edges in parallel on a
+ * ForkJoinPool with Meyer and Sanders' delta-stepping algorithm.
+ *
+ * Vertices are grouped into buckets by tentative distance, bucket i holding those at
+ * distances from i * delta up to (i + 1) * delta. Rather than settling one vertex at a
+ * time like Dijkstra's algorithm, each step takes the whole lowest bucket, splits it
+ * across tasks, and relaxes its light edges, those of weight at most delta, which may
+ * refill the same bucket; once the bucket stays empty, its vertices' distances are final
+ * and their heavy edges, which can only reach later buckets, are relaxed once. A small
+ * delta does little more work than Dijkstra's algorithm but offers little parallelism;
+ * a large one offers more, at the cost of relaxing some edges more than once.
+ *
+ * Distances are stored as the bits of doubles in an AtomicLongArray and only ever
+ * lowered with compare-and-set. Non-negative doubles order the same way as their bits
+ * do as longs, so whichever task offers the shortest distance wins.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <T> - The type of data stored in the graph.
+ */
+public class DeltaStepping<T> {
+
+	// the number of vertices below which a task stops splitting
+	private static final int THRESHOLD = 1 << 9;
+
+	private final CsrGraph<T> graph;
+	private final double delta;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Creates a delta-stepping search of the given graph on the common ForkJoinPool, with
+	 * the bucket width the algorithm's authors suggest: the largest edge weight over the
+	 * average out degree.
+	 *
+	 * @param graph - The graph to be searched.
+	 * @throws IllegalArgumentException - If an edge of the graph has a negative or NaN weight.
+	 */
+	public DeltaStepping(CsrGraph<T> graph) throws IllegalArgumentException {
+		this(graph, defaultDelta(graph), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a delta-stepping search of the given graph on the given pool.
+	 *
+	 * @param graph - The graph to be searched.
+	 * @param delta - The width of each bucket of distances.
+	 * @param pool  - The pool whose threads relax the edges of each bucket.
+	 * @throws IllegalArgumentException - If delta is not positive and finite, or if an edge
+	 *                                  of the graph has a negative or NaN weight.
+	 */
+	public DeltaStepping(CsrGraph<T> graph, double delta, ForkJoinPool pool) throws IllegalArgumentException {
+		if(!(delta > 0) || delta == Double.POSITIVE_INFINITY) {
+			throw new IllegalArgumentException("Delta must be positive and finite.");
+		}
+		WeightedSearch.requireNonNegativeWeights(graph);
+		this.graph = graph;
+		this.delta = delta;
+		this.pool = pool;
+	}
+
+	/**
+	 * @return the width of each bucket of distances
+	 */
+	public double getDelta() {
+		return delta;
+	}
+
+	/**
+	 * Finds the length of a shortest path from the vertex holding srcData to every vertex.
+	 * Any number of searches may run at once.
+	 *
+	 * @param srcData - The data in the source vertex.
+	 * @return - The distances, indexed by vertex id, with Double.POSITIVE_INFINITY for the
+	 *         vertices which are not reachable.
+	 * @throws IllegalArgumentException - If the graph does not contain srcData.
+	 */
+	public double[] distancesFrom(T srcData) throws IllegalArgumentException {
+		int source = graph.getId(srcData);
+		if(source < 0) {
+			throw new IllegalArgumentException("Source data not found in graph.");
+		}
+		return new Phase(source).run();
+	}
+
+	/**
+	 * Computes the default bucket width of a graph.
+	 *
+	 * @param graph - The graph to be searched.
+	 * @return - The largest edge weight over the average out degree, or 1 if that is zero.
+	 */
+	private static double defaultDelta(CsrGraph<?> graph) {
+		double maxWeight = 1;
+		if(graph.weights != null) {
+			maxWeight = 0;
+			for(double weight : graph.weights) {
+				maxWeight = Math.max(maxWeight, weight);
+			}
+		}
+		double averageDegree = Math.max(1, (double) graph.getEdgeCount() / Math.max(1, graph.getVertexCount()));
+		double result = maxWeight / averageDegree;
+		return result > 0 && result < Double.POSITIVE_INFINITY ? result : 1;
+	}
+
+	/**
+	 * A growable array of vertex ids.
+	 */
+	private static class IdList {
+
+		int[] items = new int[16];
+		int size;
+
+		void add(int id) {
+			if(size == items.length) {
+				items = Arrays.copyOf(items, size * 2);
+			}
+			items[size++] = id;
+		}
+	}
+
+	/**
+	 * The state of one search, advanced a bucket at a time.
+	 */
+	private class Phase {
+
+		final AtomicLongArray dist;
+		// the buckets which may hold vertices, by index; a vertex is left in the bucket of
+		// each distance it was given, and skipped in all but the one its distance is now in
+		final TreeMap<Long, IdList> buckets = new TreeMap<Long, IdList>();
+		// the step in which each vertex was last taken from a bucket, and in which it was
+		// last settled, so it is relaxed once per step however many times it was added
+		final int[] takenIn;
+		final int[] settledIn;
+
+		Phase(int source) {
+			int vertexCount = graph.getVertexCount();
+			dist = new AtomicLongArray(vertexCount);
+			long infinity = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+			for(int v = 0; v < vertexCount; v++) {
+				dist.set(v, infinity);
+			}
+			dist.set(source, Double.doubleToRawLongBits(0));
+			takenIn = new int[vertexCount];
+			settledIn = new int[vertexCount];
+			IdList first = new IdList();
+			first.add(source);
+			buckets.put(0L, first);
+		}
+
+		double[] run() {
+			int step = 0, bucketCount = 0;
+			while(!buckets.isEmpty()) {
+				Map.Entry<Long, IdList> lowest = buckets.pollFirstEntry();
+				long index = lowest.getKey();
+				IdList bucket = lowest.getValue();
+				IdList settled = new IdList();
+				bucketCount++;
+				while(bucket != null) {
+					step++;
+					IdList frontier = new IdList();
+					for(int i = 0; i < bucket.size; i++) {
+						int v = bucket.items[i];
+						if(takenIn[v] != step && bucketOf(v) == index) {
+							takenIn[v] = step;
+							frontier.add(v);
+							if(settledIn[v] != bucketCount) {
+								settledIn[v] = bucketCount;
+								settled.add(v);
+							}
+						}
+					}
+					relax(frontier, true);
+					bucket = buckets.remove(index);
+				}
+				relax(settled, false);
+			}
+			double[] result = new double[dist.length()];
+			for(int v = 0; v < result.length; v++) {
+				result[v] = Double.longBitsToDouble(dist.get(v));
+			}
+			return result;
+		}
+
+		/**
+		 * Relaxes the light or heavy edges of the given vertices, in parallel if there are
+		 * enough of them to be worth splitting.
+		 */
+		void relax(IdList vertices, boolean light) {
+			RelaxTask task = new RelaxTask(this, vertices.items, 0, vertices.size, light);
+			if(vertices.size > THRESHOLD) {
+				pool.invoke(task);
+			} else {
+				task.compute();
+			}
+		}
+
+		/**
+		 * @return the index of the bucket holding the vertex's current distance
+		 */
+		long bucketOf(int vertex) {
+			return (long) (Double.longBitsToDouble(dist.get(vertex)) / delta);
+		}
+
+		/**
+		 * Adds the vertices a task gave shorter distances to the buckets of those distances.
+		 */
+		synchronized void publish(int[] improved, int count) {
+			// neighbors usually share a bucket, so the last one is reused before looking it up
+			long lastIndex = -1;
+			IdList bucket = null;
+			for(int i = 0; i < count; i++) {
+				long index = bucketOf(improved[i]);
+				if(index != lastIndex) {
+					bucket = buckets.get(index);
+					if(bucket == null) {
+						bucket = new IdList();
+						buckets.put(index, bucket);
+					}
+					lastIndex = index;
+				}
+				bucket.add(improved[i]);
+			}
+		}
+	}
+
+	/**
+	 * Relaxes the light or heavy edges of a range of vertices.
+	 */
+	private class RelaxTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+		private final Phase phase;
+		private final int[] vertices;
+		private final int lo;
+		private final int hi;
+		private final boolean light;
+
+		RelaxTask(Phase phase, int[] vertices, int lo, int hi, boolean light) {
+			this.phase = phase;
+			this.vertices = vertices;
+			this.lo = lo;
+			this.hi = hi;
+			this.light = light;
+		}
+
+		@Override
+		protected void compute() {
+			if(hi - lo > THRESHOLD) {
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new RelaxTask(phase, vertices, lo, mid, light), new RelaxTask(phase, vertices, mid, hi, light));
+				return;
+			}
+			int[] offsets = graph.offsets;
+			int[] targets = graph.targets;
+			double[] weights = graph.weights;
+			AtomicLongArray dist = phase.dist;
+			int[] improved = new int[64];
+			int count = 0;
+			for(int i = lo; i < hi; i++) {
+				int current = vertices[i];
+				double base = Double.longBitsToDouble(dist.get(current));
+				for(int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+					double weight = weights == null ? 1 : weights[edge];
+					if((weight <= delta) != light) {
+						continue;
+					}
+					int next = targets[edge];
+					long candidate = Double.doubleToRawLongBits(base + weight);
+					long old = dist.get(next);
+					while(candidate < old) {
+						if(dist.compareAndSet(next, old, candidate)) {
+							if(count == improved.length) {
+								improved = Arrays.copyOf(improved, count * 2);
+							}
+							improved[count++] = next;
+							break;
+						}
+						old = dist.get(next);
+					}
+				}
+			}
+			if(count > 0) {
+				phase.publish(improved, count);
+			}
+		}
+	}
+}
@@ -11,15 +11,28 @@ package assign07;
 public class Edge<T> {
 
 	private Vertex<T> dst;
+	private double weight;
 	
 	/**
-	 * Creates an Edge object, given the Vertex that is the destination.
+	 * Creates an Edge object of weight 1, given the Vertex that is the destination.
 	 * (The Vertex that stores this Edge object is the source.)
 	 * 
 	 * @param dst - the destination Vertex
 	 */
 	public Edge(Vertex<T> dst) {
+		this(dst, 1);
+	}
+	
+	/**
+	 * Creates an Edge object, given the Vertex that is the destination and the weight.
+	 * (The Vertex that stores this Edge object is the source.)
+	 * 
+	 * @param dst    - the destination Vertex
+	 * @param weight - the weight, e.g. the length or cost, of the edge
+	 */
+	public Edge(Vertex<T> dst, double weight) {
 		this.dst = dst;
+		this.weight = weight;
 	}
 
 	/**
@@ -29,6 +42,13 @@ public class Edge<T> {
 		return this.dst;
 	}
 
+	/**
+	 * @return the weight of this Edge
+	 */
+	public double getWeight() {
+		return this.weight;
+	}
+
 	/**
 	 * Returns the name of the destination Vertex as a textual representation of this Edge.
 	 */
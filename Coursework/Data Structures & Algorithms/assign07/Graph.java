@@ -36,6 +36,15 @@ public class Graph<T> {
 		return this.vertices;
 	}
 	
+	/**
+	 * Creates an immutable copy of this graph in compressed sparse row form.
+	 * 
+	 * @return - The frozen graph.
+	 */
+	public CsrGraph<T> freeze() {
+		return new CsrGraph<T>(this);
+	}
+	
 	/**
 	 * Resets the visited status of all vertices in the graph.
 	 */
@@ -187,6 +196,19 @@ public class Graph<T> {
 	 * @param data2 - data for destination vertex
 	 */
 	public void addEdge(T data1, T data2) {
+		addEdge(data1, data2, 1);
+	}
+
+	/**
+	 * Adds to the graph a directed edge of the given weight from the vertex with data
+	 * "data1" to the vertex with data "data2". (If either vertex does not already exist in
+	 * the graph, it is added.)
+	 * 
+	 * @param data1  - data for source vertex
+	 * @param data2  - data for destination vertex
+	 * @param weight - the weight of the edge
+	 */
+	public void addEdge(T data1, T data2, double weight) {
 		Vertex<T> vertex1;
 		// if vertex already exists in graph, get its object
 		if (vertices.containsKey(data1))
@@ -206,7 +228,7 @@ public class Graph<T> {
 			vertices.put(data2, vertex2);
 		}
 		// add new directed edge from vertex1 to vertex2
-		vertex1.addEdge(vertex2);
+		vertex1.addEdge(vertex2, weight);
 	}
 
 	/**
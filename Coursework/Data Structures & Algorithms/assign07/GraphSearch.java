@@ -0,0 +1,361 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class runs searches on a CsrGraph without changing it. The state of a search (which
+ * vertices have been visited, and the queue or stack of vertices still to visit) is kept in
+ * arrays owned by this object and reused by every search, so isReachable allocates nothing
+ * and costs time in proportion to the vertices it reaches, not to the size of the graph.
+ *
+ * A vertex counts as visited when its stamp equals the current epoch, and each search
+ * starts by moving to a new epoch, which unvisits every vertex at once.
+ *
+ * A GraphSearch must only be used by one thread at a time, but any number of them may
+ * search the same CsrGraph concurrently, e.g. one per thread.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <T> - The type of data stored in the graph.
+ */
+public class GraphSearch<T> {
+
+	private final CsrGraph<T> graph;
+	private final int[] visitedEpoch;
+	private final int[] worklist;
+	// the vertex each visited vertex was reached from, or -1 for the source
+	private final int[] cameFrom;
+	private int epoch;
+	// the backward half of a bidirectional search, allocated on first use
+	private int[] backEpoch, towardGoal, forwardDist, backDist, backWorklist;
+
+	/**
+	 * Creates the scratch state for searching the given graph.
+	 *
+	 * @param graph - The graph to be searched.
+	 */
+	public GraphSearch(CsrGraph<T> graph) {
+		this.graph = graph;
+		visitedEpoch = new int[graph.getVertexCount()];
+		worklist = new int[graph.getVertexCount()];
+		cameFrom = new int[graph.getVertexCount()];
+		epoch = 0;
+	}
+
+	/**
+	 * @return the graph this object searches
+	 */
+	public CsrGraph<T> getGraph() {
+		return graph;
+	}
+
+	/**
+	 * Determines whether a path exists from the vertex holding srcData to the vertex
+	 * holding dstData. Every vertex has a path to itself.
+	 *
+	 * @param srcData - The data in the source vertex.
+	 * @param dstData - The data in the destination vertex.
+	 * @return - True if a path is found.
+	 * @throws IllegalArgumentException - If the graph does not contain srcData or dstData.
+	 */
+	public boolean isReachable(T srcData, T dstData) throws IllegalArgumentException {
+		return isReachableById(requireId(srcData, "Source"), requireId(dstData, "Destination"));
+	}
+
+	/**
+	 * Determines whether a path exists between two vertices, with a depth first search
+	 * which stops as soon as it reaches the goal.
+	 *
+	 * @param source - The id of the source vertex.
+	 * @param goal   - The id of the goal vertex.
+	 * @return - True if a path is found.
+	 */
+	public boolean isReachableById(int source, int goal) {
+		if(source == goal) {
+			return true;
+		}
+		int stamp = nextEpoch();
+		int[] offsets = graph.offsets;
+		int[] targets = graph.targets;
+		int top = 0;
+		worklist[top++] = source;
+		visitedEpoch[source] = stamp;
+		while(top > 0) {
+			int current = worklist[--top];
+			for(int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+				int next = targets[edge];
+				if(visitedEpoch[next] != stamp) {
+					if(next == goal) {
+						return true;
+					}
+					visitedEpoch[next] = stamp;
+					worklist[top++] = next;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Finds every vertex reachable from the vertex holding srcData, itself included, with
+	 * a breadth first search.
+	 *
+	 * @param srcData - The data in the source vertex.
+	 * @return - The data of the reachable vertices, in the order the search reached them.
+	 * @throws IllegalArgumentException - If the graph does not contain srcData.
+	 */
+	public List<T> reachableFrom(T srcData) throws IllegalArgumentException {
+		int source = requireId(srcData, "Source");
+		int stamp = nextEpoch();
+		int[] offsets = graph.offsets;
+		int[] targets = graph.targets;
+		int head = 0, tail = 0;
+		worklist[tail++] = source;
+		visitedEpoch[source] = stamp;
+		while(head < tail) {
+			int current = worklist[head++];
+			for(int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+				int next = targets[edge];
+				if(visitedEpoch[next] != stamp) {
+					visitedEpoch[next] = stamp;
+					worklist[tail++] = next;
+				}
+			}
+		}
+		List<T> reached = new ArrayList<T>(tail);
+		for(int i = 0; i < tail; i++) {
+			reached.add(graph.getData(worklist[i]));
+		}
+		return reached;
+	}
+
+	/**
+	 * Finds a shortest path from the vertex holding srcData to the vertex holding dstData,
+	 * with a single breadth first search which stops as soon as it reaches the goal.
+	 *
+	 * @param srcData - The data in the source vertex.
+	 * @param dstData - The data in the destination vertex.
+	 * @return - The data of the vertices on the path, from source to destination.
+	 * @throws IllegalArgumentException - If the graph does not contain srcData or dstData,
+	 *                                  or if no path exists between the two vertices.
+	 */
+	public List<T> shortestPath(T srcData, T dstData) throws IllegalArgumentException {
+		int source = requireId(srcData, "Source");
+		int goal = requireId(dstData, "Destination");
+		int stamp = nextEpoch();
+		int[] offsets = graph.offsets;
+		int[] targets = graph.targets;
+		int head = 0, tail = 0;
+		worklist[tail++] = source;
+		visitedEpoch[source] = stamp;
+		cameFrom[source] = -1;
+		search:
+		while(head < tail && visitedEpoch[goal] != stamp) {
+			int current = worklist[head++];
+			for(int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+				int next = targets[edge];
+				if(visitedEpoch[next] != stamp) {
+					visitedEpoch[next] = stamp;
+					cameFrom[next] = current;
+					if(next == goal) {
+						break search;
+					}
+					worklist[tail++] = next;
+				}
+			}
+		}
+		if(visitedEpoch[goal] != stamp) {
+			throw new IllegalArgumentException("There does not exist a path between the two vertices.");
+		}
+		return pathTo(goal, -1, null);
+	}
+
+	/**
+	 * Finds a shortest path from the vertex holding srcData to the vertex holding dstData,
+	 * with two breadth first searches: one forward from the source, and one backward from
+	 * the destination along the edges of the transpose graph. Each step expands one whole
+	 * level of whichever search has the smaller frontier, and the searches stop after the
+	 * first level in which they meet. On large graphs each search only has to go about half
+	 * the distance, so together they usually visit far fewer vertices than shortestPath.
+	 *
+	 * @param srcData - The data in the source vertex.
+	 * @param dstData - The data in the destination vertex.
+	 * @return - The data of the vertices on the path, from source to destination.
+	 * @throws IllegalArgumentException - If the graph does not contain srcData or dstData,
+	 *                                  or if no path exists between the two vertices.
+	 */
+	public List<T> bidirectionalShortestPath(T srcData, T dstData) throws IllegalArgumentException {
+		int source = requireId(srcData, "Source");
+		int goal = requireId(dstData, "Destination");
+		if(source == goal) {
+			cameFrom[source] = -1;
+			return pathTo(source, -1, null);
+		}
+		if(backEpoch == null) {
+			int vertexCount = graph.getVertexCount();
+			backEpoch = new int[vertexCount];
+			towardGoal = new int[vertexCount];
+			forwardDist = new int[vertexCount];
+			backDist = new int[vertexCount];
+			backWorklist = new int[vertexCount];
+		}
+		int stamp = nextEpoch();
+		CsrGraph<T> reverse = graph.transpose();
+		int fHead = 0, fTail = 0, bHead = 0, bTail = 0;
+		worklist[fTail++] = source;
+		visitedEpoch[source] = stamp;
+		cameFrom[source] = -1;
+		forwardDist[source] = 0;
+		backWorklist[bTail++] = goal;
+		backEpoch[goal] = stamp;
+		towardGoal[goal] = -1;
+		backDist[goal] = 0;
+		// the shortest path found so far runs through the edge from meetFrom to meetTo
+		int best = Integer.MAX_VALUE, meetFrom = -1, meetTo = -1;
+		while(best == Integer.MAX_VALUE && fHead < fTail && bHead < bTail) {
+			if(fTail - fHead <= bTail - bHead) {
+				int levelEnd = fTail;
+				while(fHead < levelEnd) {
+					int current = worklist[fHead++];
+					for(int edge = graph.offsets[current]; edge < graph.offsets[current + 1]; edge++) {
+						int next = graph.targets[edge];
+						if(backEpoch[next] == stamp && forwardDist[current] + 1 + backDist[next] < best) {
+							best = forwardDist[current] + 1 + backDist[next];
+							meetFrom = current;
+							meetTo = next;
+						}
+						if(visitedEpoch[next] != stamp) {
+							visitedEpoch[next] = stamp;
+							cameFrom[next] = current;
+							forwardDist[next] = forwardDist[current] + 1;
+							worklist[fTail++] = next;
+						}
+					}
+				}
+			} else {
+				int levelEnd = bTail;
+				while(bHead < levelEnd) {
+					int current = backWorklist[bHead++];
+					for(int edge = reverse.offsets[current]; edge < reverse.offsets[current + 1]; edge++) {
+						int previous = reverse.targets[edge];
+						if(visitedEpoch[previous] == stamp && forwardDist[previous] + 1 + backDist[current] < best) {
+							best = forwardDist[previous] + 1 + backDist[current];
+							meetFrom = previous;
+							meetTo = current;
+						}
+						if(backEpoch[previous] != stamp) {
+							backEpoch[previous] = stamp;
+							towardGoal[previous] = current;
+							backDist[previous] = backDist[current] + 1;
+							backWorklist[bTail++] = previous;
+						}
+					}
+				}
+			}
+		}
+		if(best == Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("There does not exist a path between the two vertices.");
+		}
+		return pathTo(meetFrom, meetTo, towardGoal);
+	}
+
+	/**
+	 * Generates a sorted ordering of the vertices in the graph using the topological
+	 * sorting algorithm. The in degrees are counted into a scratch array, so the graph
+	 * is left unchanged.
+	 *
+	 * @return - The sorted list of vertices.
+	 * @throws IllegalArgumentException - Thrown if the graph contains a cycle.
+	 */
+	public List<T> toposort() throws IllegalArgumentException {
+		int vertexCount = graph.getVertexCount();
+		int[] offsets = graph.offsets;
+		int[] targets = graph.targets;
+		int[] indegree = new int[vertexCount];
+		for(int target : targets) {
+			indegree[target]++;
+		}
+		int head = 0, tail = 0;
+		for(int id = 0; id < vertexCount; id++) {
+			if(indegree[id] == 0) {
+				worklist[tail++] = id;
+			}
+		}
+		while(head < tail) {
+			int current = worklist[head++];
+			for(int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+				if(--indegree[targets[edge]] == 0) {
+					worklist[tail++] = targets[edge];
+				}
+			}
+		}
+		if(tail != vertexCount) {
+			throw new IllegalArgumentException("Graph contains a cycle.");
+		}
+		List<T> ordering = new ArrayList<T>(vertexCount);
+		for(int i = 0; i < vertexCount; i++) {
+			ordering.add(graph.getData(worklist[i]));
+		}
+		return ordering;
+	}
+
+	/**
+	 * Builds a path in time linear in its length: the cameFrom links from the source to
+	 * end, followed by the given links from start to the goal. The ArrayList is filled
+	 * backward and reversed once, rather than prepended to at every step.
+	 *
+	 * @param end   - The last vertex reached from the source.
+	 * @param start - The first vertex of the second part, or -1 if there is none.
+	 * @param next  - The links toward the goal from start, or null if there is none.
+	 * @return - The data of the vertices on the path.
+	 */
+	private List<T> pathTo(int end, int start, int[] next) {
+		List<T> path = new ArrayList<T>();
+		for(int v = end; v != -1; v = cameFrom[v]) {
+			path.add(graph.getData(v));
+		}
+		// the first part was collected from end back to the source
+		Collections.reverse(path);
+		for(int v = start; v != -1; v = next[v]) {
+			path.add(graph.getData(v));
+		}
+		return path;
+	}
+
+	/**
+	 * Moves to a new epoch, which unvisits every vertex. The stamps of both directions are
+	 * only cleared when the epoch counter wraps around, once every 2^32 searches.
+	 *
+	 * @return - The stamp of visited vertices in the new epoch.
+	 */
+	private int nextEpoch() {
+		if(++epoch == 0) {
+			Arrays.fill(visitedEpoch, 0);
+			if(backEpoch != null) {
+				Arrays.fill(backEpoch, 0);
+			}
+			epoch = 1;
+		}
+		return epoch;
+	}
+
+	/**
+	 * Retrieves the id of the vertex holding the given data.
+	 *
+	 * @param vertexData - The data of the vertex.
+	 * @param role       - "Source" or "Destination", for the exception message.
+	 * @return - The vertex's id.
+	 * @throws IllegalArgumentException - If the graph does not contain the data.
+	 */
+	private int requireId(T vertexData, String role) throws IllegalArgumentException {
+		int id = graph.getId(vertexData);
+		if(id < 0) {
+			throw new IllegalArgumentException(role + " data not found in graph.");
+		}
+		return id;
+	}
+}
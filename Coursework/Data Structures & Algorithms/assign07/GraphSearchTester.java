@@ -0,0 +1,177 @@
+package assign07;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GraphSearchTester {
+
+	private CsrGraph<String> graph;
+	private GraphSearch<String> search;
+
+	@BeforeEach
+	void setup() {
+		// a -> b -> c -> d, b -> d, c -> a, e -> d, and f has only a loop to itself
+		List<String> srcs = List.of("a", "b", "c", "b", "c", "e", "f");
+		List<String> dsts = List.of("b", "c", "d", "d", "a", "d", "f");
+		graph = new CsrGraph<String>(srcs, dsts);
+		search = new GraphSearch<String>(graph);
+	}
+
+	@Test
+	void testBidirectionalAfterEpochWraps() throws ReflectiveOperationException {
+		CsrGraph<String> chain = new CsrGraph<String>(List.of("a", "b", "c", "d", "x", "d"),
+				List.of("b", "c", "d", "e", "d", "y"));
+		GraphSearch<String> wrapping = new GraphSearch<String>(chain);
+		assertEquals(List.of("a", "b", "c", "d", "e"), wrapping.bidirectionalShortestPath("a", "e"));
+		// the next search wraps the epoch counter around to the first query's stamp
+		Field epoch = GraphSearch.class.getDeclaredField("epoch");
+		epoch.setAccessible(true);
+		epoch.setInt(wrapping, -1);
+		assertEquals(List.of("x", "d", "y"), wrapping.bidirectionalShortestPath("x", "y"));
+	}
+
+	@Test
+	void testIsReachable() {
+		assertTrue(search.isReachable("a", "d"));
+		assertTrue(search.isReachable("c", "b"));
+		assertTrue(search.isReachable("e", "e"));
+		assertFalse(search.isReachable("d", "a"));
+		assertFalse(search.isReachable("a", "e"));
+		assertFalse(search.isReachable("a", "f"));
+	}
+
+	@Test
+	void testIsReachableMissing() {
+		assertThrows(IllegalArgumentException.class, () -> search.isReachable("a", "z"));
+		assertThrows(IllegalArgumentException.class, () -> search.isReachable("z", "a"));
+	}
+
+	@Test
+	void testRepeatedQueriesDoNotLeak() {
+		for(int i = 0; i < 1000; i++) {
+			assertTrue(search.isReachable("a", "d"));
+			assertFalse(search.isReachable("d", "c"));
+		}
+	}
+
+	@Test
+	void testReachableFrom() {
+		assertEquals(List.of("b", "c", "d", "a"), search.reachableFrom("b"));
+		assertEquals(List.of("d"), search.reachableFrom("d"));
+		assertEquals(List.of("f"), search.reachableFrom("f"));
+	}
+
+	@Test
+	void testToposort() {
+		CsrGraph<String> dag = new CsrGraph<String>(List.of("a", "b", "a", "c"), List.of("b", "c", "c", "d"));
+		assertEquals(List.of("a", "b", "c", "d"), new GraphSearch<String>(dag).toposort());
+		assertThrows(IllegalArgumentException.class, () -> search.toposort());
+	}
+
+	@Test
+	void testMatchesGraph() {
+		Random rng = new Random(15);
+		Graph<Integer> sample = new Graph<Integer>();
+		for(int i = 0; i < 400; i++) {
+			sample.addEdge(rng.nextInt(200), rng.nextInt(200));
+		}
+		CsrGraph<Integer> frozen = sample.freeze();
+		GraphSearch<Integer> intSearch = new GraphSearch<Integer>(frozen);
+		for(int source = 0; source < frozen.getVertexCount(); source++) {
+			List<Integer> reached = intSearch.reachableFrom(frozen.getData(source));
+			for(int goal = 0; goal < frozen.getVertexCount(); goal++) {
+				assertEquals(reached.contains(frozen.getData(goal)), intSearch.isReachableById(source, goal));
+			}
+		}
+	}
+
+	@Test
+	void testConcurrentSearches() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+			for(int t = 0; t < 4; t++) {
+				results.add(pool.submit(() -> {
+					GraphSearch<String> own = new GraphSearch<String>(graph);
+					boolean correct = true;
+					for(int i = 0; i < 10000; i++) {
+						correct &= own.isReachable("a", "d") && !own.isReachable("d", "a");
+					}
+					return correct;
+				}));
+			}
+			for(Future<Boolean> result : results) {
+				assertTrue(result.get());
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testShortestPath() {
+		assertEquals(List.of("a", "b", "d"), search.shortestPath("a", "d"));
+		assertEquals(List.of("c", "a", "b"), search.shortestPath("c", "b"));
+		assertEquals(List.of("e"), search.shortestPath("e", "e"));
+		assertThrows(IllegalArgumentException.class, () -> search.shortestPath("d", "a"));
+		assertThrows(IllegalArgumentException.class, () -> search.shortestPath("a", "z"));
+	}
+
+	@Test
+	void testBidirectionalShortestPath() {
+		assertEquals(List.of("a", "b", "d"), search.bidirectionalShortestPath("a", "d"));
+		assertEquals(List.of("c", "a", "b"), search.bidirectionalShortestPath("c", "b"));
+		assertEquals(List.of("f"), search.bidirectionalShortestPath("f", "f"));
+		assertThrows(IllegalArgumentException.class, () -> search.bidirectionalShortestPath("d", "a"));
+		assertThrows(IllegalArgumentException.class, () -> search.bidirectionalShortestPath("z", "a"));
+	}
+
+	@Test
+	void testShortestPathsAgree() {
+		Random rng = new Random(15);
+		List<Integer> srcs = new ArrayList<Integer>();
+		List<Integer> dsts = new ArrayList<Integer>();
+		for(int i = 0; i < 1200; i++) {
+			srcs.add(rng.nextInt(500));
+			dsts.add(rng.nextInt(500));
+		}
+		CsrGraph<Integer> random = new CsrGraph<Integer>(srcs, dsts);
+		GraphSearch<Integer> intSearch = new GraphSearch<Integer>(random);
+		for(int query = 0; query < 500; query++) {
+			Integer source = random.getData(rng.nextInt(random.getVertexCount()));
+			Integer goal = random.getData(rng.nextInt(random.getVertexCount()));
+			if(!intSearch.isReachable(source, goal)) {
+				assertThrows(IllegalArgumentException.class, () -> intSearch.bidirectionalShortestPath(source, goal));
+				continue;
+			}
+			List<Integer> path = intSearch.shortestPath(source, goal);
+			List<Integer> bidirectional = intSearch.bidirectionalShortestPath(source, goal);
+			assertEquals(path.size(), bidirectional.size());
+			assertEquals(source, bidirectional.get(0));
+			assertEquals(goal, bidirectional.get(bidirectional.size() - 1));
+			for(int i = 0; i + 1 < bidirectional.size(); i++) {
+				assertTrue(hasEdge(random, bidirectional.get(i), bidirectional.get(i + 1)));
+			}
+		}
+	}
+
+	private static <T> boolean hasEdge(CsrGraph<T> graph, T from, T to) {
+		int id = graph.getId(from);
+		for(int i = 0; i < graph.outDegree(id); i++) {
+			if(graph.getTarget(id, i) == graph.getId(to)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -5,16 +5,23 @@ import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * Contains several methods for solving problems on generic, directed,
- * unweighted, sparse graphs.
+ * Contains several methods for solving problems on generic, directed, sparse
+ * graphs, and for reading their edges and edge weights from DOT files.
  * 
  * @author CS 2420 instructors and Jake Heairld and Anton Smolyanyy
  * @version Mar 13, 2024
  */
 public class GraphUtility {
 
+	// the weight attribute of an edge, e.g. [weight=2.5] or [label="a", weight = "3"],
+	// whose value, quoted or not, must be a decimal number like 2, -.5 or 1.5e3
+	private static final Pattern WEIGHT = Pattern.compile("\\bweight\\s*=\\s*(\"[^\"]*\"|[^\\s,;\\]]*)");
+	private static final Pattern NUMBER = Pattern.compile("[-+]?(\\d+\\.?\\d*|\\.\\d+)([eE][-+]?\\d+)?");
+
 	/**
 	 * Checks if two vertices in a graph are linked to one another from source to
 	 * destination.
@@ -41,8 +48,7 @@ public class GraphUtility {
 		if (!(destinations.contains(dstData) || sources.contains(dstData))) {
 			throw new IllegalArgumentException("Destination data not found in lists.");
 		}
-		Graph<Type> graph = graphMaker(sources, destinations);
-		return graph.dfs(graph.getVertices().get(srcData), graph.getVertices().get(dstData));
+		return new GraphSearch<Type>(new CsrGraph<Type>(sources, destinations)).isReachable(srcData, dstData);
 	}
 
 	/**
@@ -64,8 +70,7 @@ public class GraphUtility {
 		if (sources.size() != destinations.size()) {
 			throw new IllegalArgumentException("There is not a destination vertex for every source.");
 		}
-		Graph<Type> graph = graphMaker(sources, destinations);
-		return graph.bfs(graph.getVertices().get(srcData), graph.getVertices().get(dstData));
+		return new GraphSearch<Type>(new CsrGraph<Type>(sources, destinations)).shortestPath(srcData, dstData);
 	}
 
 	/**
@@ -110,7 +115,7 @@ public class GraphUtility {
 	 * 
 	 * Accepts many valid "digraph" DOT files (see examples posted on Canvas).
 	 * --accepts \\-style comments --accepts one edge per line or edges terminated
-	 * with ; --does not accept attributes in [] (e.g., [label = "a label"])
+	 * with ; --ignores edge attributes in [] (e.g., [label = "a label"])
 	 * 
 	 * @param filename     - name of the DOT file
 	 * @param sources      - empty ArrayList, when method returns it is a valid
@@ -121,6 +126,29 @@ public class GraphUtility {
 	 *                     methods in this class
 	 */
 	public static void buildListsFromDot(String filename, ArrayList<String> sources, ArrayList<String> destinations) {
+		buildListsFromDot(filename, sources, destinations, null);
+	}
+
+	/**
+	 * Builds "sources", "destinations" and "weights" lists according to the edges
+	 * specified in the given DOT file (e.g., "a -> b [weight=2.5]"). Assumes that
+	 * the vertex data type is String. An edge without a weight attribute has
+	 * weight 1; its other attributes are ignored.
+	 * 
+	 * @param filename     - name of the DOT file
+	 * @param sources      - empty ArrayList, when method returns it is a valid
+	 *                     "sources" list that can be passed to the public methods
+	 *                     in this class
+	 * @param destinations - empty ArrayList, when method returns it is a valid
+	 *                     "destinations" list that can be passed to the public
+	 *                     methods in this class
+	 * @param weights      - empty ArrayList, when method returns it holds the weight
+	 *                     of each edge, or null if the weights are not wanted
+	 * @throws IllegalArgumentException - Thrown if an edge's weight attribute is not
+	 *                                  a decimal number
+	 */
+	public static void buildListsFromDot(String filename, ArrayList<String> sources, ArrayList<String> destinations,
+			ArrayList<Double> weights) throws IllegalArgumentException {
 
 		Scanner scan = null;
 		try {
@@ -166,8 +194,15 @@ public class GraphUtility {
 					continue;
 				}
 
-				// do the same for the node string on the right
-				String vertex2 = substring[1].replace("\"", "").trim();
+				// split any attributes off the node string on the right, then do the same
+				String vertex2 = substring[1];
+				String attributes = "";
+				int bracket = vertex2.indexOf('[');
+				if (bracket >= 0) {
+					attributes = vertex2.substring(bracket);
+					vertex2 = vertex2.substring(0, bracket);
+				}
+				vertex2 = vertex2.replace("\"", "").trim();
 				if (vertex2.equals("")) {
 					continue;
 				}
@@ -175,6 +210,9 @@ public class GraphUtility {
 				// indicate edge between vertex1 and vertex2
 				sources.add(vertex1);
 				destinations.add(vertex2);
+				if (weights != null) {
+					weights.add(parseWeight(attributes, line, scan));
+				}
 			}
 
 			// do until the "}" has been read
@@ -190,4 +228,30 @@ public class GraphUtility {
 
 		scan.close();
 	}
+
+	/**
+	 * Reads the weight attribute of an edge.
+	 * 
+	 * @param attributes - the edge's attribute list, e.g. [label="a", weight=2.5]
+	 * @param line       - the DOT statement holding the edge, for error messages
+	 * @param scan       - the scanner reading the DOT file, closed if the weight is bad
+	 * @return the edge's weight, or 1 if it has no weight attribute
+	 * @throws IllegalArgumentException - Thrown if the weight is not a decimal number
+	 */
+	private static double parseWeight(String attributes, String line, Scanner scan) throws IllegalArgumentException {
+		Matcher weight = WEIGHT.matcher(attributes);
+		if (!weight.find()) {
+			return 1.0;
+		}
+		String value = weight.group(1).replace("\"", "").trim();
+		try {
+			if (NUMBER.matcher(value).matches()) {
+				return Double.parseDouble(value);
+			}
+		} catch (NumberFormatException e) {
+			// fall through to the error below
+		}
+		scan.close();
+		throw new IllegalArgumentException("Malformed edge weight \"" + value + "\" in DOT line: " + line.trim());
+	}
 }
@@ -0,0 +1,368 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class finds the distance and BFS parent of every vertex reachable from a source in a
+ * CsrGraph, processing each level of the breadth first search in parallel on a ForkJoinPool.
+ *
+ * Each level is expanded in one of two directions. Top-down, the frontier's vertices are
+ * split across tasks, and each scans its out edges and claims unvisited targets by setting
+ * their bits in a shared visited bitset with compare-and-set. Bottom-up, the unvisited
+ * vertices are split across tasks, and each scans its in edges, stopping at the first
+ * parent found in the frontier. Top-down is cheaper while the frontier is small; bottom-up
+ * is cheaper once the frontier's out edges outnumber those of the unvisited vertices, since
+ * most unvisited vertices then find a parent after a few edges. The search switches to
+ * bottom-up when the frontier's out edges exceed 1 / ALPHA of the unexplored edges, and
+ * back to top-down once the frontier is shrinking and below 1 / BETA of the vertices, as
+ * in Beamer, Asanovic and Patterson's direction-optimizing BFS.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <T> - The type of data stored in the graph.
+ */
+public class ParallelBfs<T> {
+
+	private static final int ALPHA = 14;
+	private static final int BETA = 24;
+	// the number of frontier vertices, or of 64-vertex words, below which a task stops splitting
+	private static final int TOP_DOWN_THRESHOLD = 1 << 10;
+	private static final int BOTTOM_UP_THRESHOLD = 1 << 6;
+
+	private final CsrGraph<T> graph;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Creates a parallel BFS of the given graph on the common ForkJoinPool.
+	 *
+	 * @param graph - The graph to be searched.
+	 */
+	public ParallelBfs(CsrGraph<T> graph) {
+		this(graph, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a parallel BFS of the given graph on the given pool. The graph's transpose,
+	 * which the bottom-up steps read, is built now rather than during the first search.
+	 *
+	 * @param graph - The graph to be searched.
+	 * @param pool  - The pool whose threads expand each level.
+	 */
+	public ParallelBfs(CsrGraph<T> graph, ForkJoinPool pool) {
+		this.graph = graph;
+		this.pool = pool;
+		graph.transpose();
+	}
+
+	/**
+	 * Finds the distance and BFS parent of every vertex reachable from the vertex holding
+	 * srcData. Any number of searches may run at once.
+	 *
+	 * @param srcData - The data in the source vertex.
+	 * @return - The distances and parents, indexed by vertex id.
+	 * @throws IllegalArgumentException - If the graph does not contain srcData.
+	 */
+	public Result<T> search(T srcData) throws IllegalArgumentException {
+		int source = graph.getId(srcData);
+		if(source < 0) {
+			throw new IllegalArgumentException("Source data not found in graph.");
+		}
+		return new Level(source).run();
+	}
+
+	/**
+	 * The distances and BFS parents found by a search.
+	 */
+	public static class Result<T> {
+
+		private final CsrGraph<T> graph;
+		private final int[] distance;
+		private final int[] parent;
+		private final int reached;
+
+		private Result(CsrGraph<T> graph, int[] distance, int[] parent, int reached) {
+			this.graph = graph;
+			this.distance = distance;
+			this.parent = parent;
+			this.reached = reached;
+		}
+
+		/**
+		 * @return the number of vertices reachable from the source, itself included
+		 */
+		public int getReachedCount() {
+			return reached;
+		}
+
+		/**
+		 * Retrieves the number of edges on a shortest path from the source to a vertex.
+		 *
+		 * @param id - The id of the vertex.
+		 * @return - The distance, or -1 if the vertex is not reachable.
+		 */
+		public int getDistance(int id) {
+			return distance[id];
+		}
+
+		/**
+		 * Retrieves the vertex a vertex was reached from.
+		 *
+		 * @param id - The id of the vertex.
+		 * @return - The id of the parent, or -1 for the source and unreachable vertices.
+		 */
+		public int getParent(int id) {
+			return parent[id];
+		}
+
+		/**
+		 * Follows the parents from the vertex holding dstData back to the source.
+		 *
+		 * @param dstData - The data in the destination vertex.
+		 * @return - The data of the vertices on a shortest path, from source to destination.
+		 * @throws IllegalArgumentException - If the graph does not contain dstData, or if it
+		 *                                  is not reachable from the source.
+		 */
+		public List<T> pathTo(T dstData) throws IllegalArgumentException {
+			int goal = graph.getId(dstData);
+			if(goal < 0) {
+				throw new IllegalArgumentException("Destination data not found in graph.");
+			}
+			if(distance[goal] < 0) {
+				throw new IllegalArgumentException("There does not exist a path between the two vertices.");
+			}
+			List<T> path = new ArrayList<T>(distance[goal] + 1);
+			for(int v = goal; v != -1; v = parent[v]) {
+				path.add(graph.getData(v));
+			}
+			Collections.reverse(path);
+			return path;
+		}
+	}
+
+	/**
+	 * The state of one search, advanced a level at a time.
+	 */
+	private class Level {
+
+		final int vertexCount = graph.getVertexCount();
+		final int words = (vertexCount + 63) >>> 6;
+		final int[] distance = new int[vertexCount];
+		final int[] parent = new int[vertexCount];
+		final AtomicLongArray visited = new AtomicLongArray(words);
+		// the frontier as a list of ids, and as a bitset while searching bottom-up
+		int[] frontier = new int[vertexCount];
+		int frontierSize;
+		long[] frontierBits;
+		long[] spareBits;
+		int[] next = new int[vertexCount];
+		final AtomicInteger nextSize = new AtomicInteger();
+		// the out edges of the vertices added to the next frontier
+		final AtomicLong nextEdges = new AtomicLong();
+		int depth;
+
+		Level(int source) {
+			Arrays.fill(distance, -1);
+			Arrays.fill(parent, -1);
+			distance[source] = 0;
+			visited.set(source >>> 6, 1L << source);
+			frontier[0] = source;
+			frontierSize = 1;
+		}
+
+		Result<T> run() {
+			long frontierEdges = graph.outDegree(frontier[0]);
+			long unexploredEdges = graph.getEdgeCount() - frontierEdges;
+			int reached = 1;
+			int previousSize = 0;
+			boolean bottomUp = false;
+			while(frontierSize > 0) {
+				if(!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+					bottomUp = true;
+				} else if(bottomUp && frontierSize < previousSize && frontierSize < vertexCount / BETA) {
+					bottomUp = false;
+				}
+				previousSize = frontierSize;
+				nextSize.set(0);
+				nextEdges.set(0);
+				if(bottomUp) {
+					long[] nextBits = spareBits != null ? spareBits : new long[words];
+					if(frontierBits == null) {
+						frontierBits = new long[words];
+						for(int i = 0; i < frontierSize; i++) {
+							frontierBits[frontier[i] >>> 6] |= 1L << frontier[i];
+						}
+					}
+					pool.invoke(new BottomUpTask(this, nextBits, 0, words));
+					// every word of nextBits was overwritten, so the old frontier can be reused
+					spareBits = frontierBits;
+					frontierBits = nextBits;
+				} else {
+					pool.invoke(new TopDownTask(this, 0, frontierSize));
+					frontierBits = null;
+				}
+				int[] temp = frontier;
+				frontier = next;
+				next = temp;
+				frontierSize = nextSize.get();
+				frontierEdges = nextEdges.get();
+				unexploredEdges -= frontierEdges;
+				reached += frontierSize;
+				depth++;
+			}
+			return new Result<T>(graph, distance, parent, reached);
+		}
+
+		/**
+		 * Appends a task's newly reached vertices to the next frontier.
+		 */
+		void publish(int[] found, int count, long edges) {
+			if(count > 0) {
+				int start = nextSize.getAndAdd(count);
+				System.arraycopy(found, 0, next, start, count);
+				nextEdges.addAndGet(edges);
+			}
+		}
+	}
+
+	/**
+	 * Expands a range of the frontier along its out edges.
+	 */
+	private class TopDownTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+		private final Level level;
+		private final int lo;
+		private final int hi;
+
+		TopDownTask(Level level, int lo, int hi) {
+			this.level = level;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected void compute() {
+			if(hi - lo > TOP_DOWN_THRESHOLD) {
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new TopDownTask(level, lo, mid), new TopDownTask(level, mid, hi));
+				return;
+			}
+			int[] offsets = graph.offsets;
+			int[] targets = graph.targets;
+			int[] found = new int[64];
+			int count = 0;
+			long edges = 0;
+			for(int i = lo; i < hi; i++) {
+				int current = level.frontier[i];
+				for(int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+					int next = targets[edge];
+					if(claim(level.visited, next)) {
+						level.distance[next] = level.depth + 1;
+						level.parent[next] = current;
+						if(count == found.length) {
+							found = Arrays.copyOf(found, count * 2);
+						}
+						found[count++] = next;
+						edges += offsets[next + 1] - offsets[next];
+					}
+				}
+			}
+			level.publish(found, count, edges);
+		}
+
+		/**
+		 * Sets the vertex's visited bit.
+		 *
+		 * @return - True if this thread set it, false if it was already set.
+		 */
+		private boolean claim(AtomicLongArray visited, int vertex) {
+			int word = vertex >>> 6;
+			long bit = 1L << vertex;
+			long old = visited.get(word);
+			while((old & bit) == 0) {
+				if(visited.compareAndSet(word, old, old | bit)) {
+					return true;
+				}
+				old = visited.get(word);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Looks for a frontier parent of every unvisited vertex in a range of 64-vertex words.
+	 * The words of the visited and next frontier bitsets in the range belong to this task
+	 * alone, so it updates them without compare-and-set.
+	 */
+	private class BottomUpTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+		private final Level level;
+		private final long[] nextBits;
+		private final int lo;
+		private final int hi;
+
+		BottomUpTask(Level level, long[] nextBits, int lo, int hi) {
+			this.level = level;
+			this.nextBits = nextBits;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected void compute() {
+			if(hi - lo > BOTTOM_UP_THRESHOLD) {
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new BottomUpTask(level, nextBits, lo, mid), new BottomUpTask(level, nextBits, mid, hi));
+				return;
+			}
+			CsrGraph<T> reverse = graph.transpose();
+			int[] offsets = graph.offsets;
+			int[] inOffsets = reverse.offsets;
+			int[] sources = reverse.targets;
+			long[] frontierBits = level.frontierBits;
+			int[] found = new int[64];
+			int count = 0;
+			long edges = 0;
+			for(int word = lo; word < hi; word++) {
+				long unvisited = ~level.visited.get(word);
+				long reachedBits = 0;
+				while(unvisited != 0) {
+					int vertex = (word << 6) + Long.numberOfTrailingZeros(unvisited);
+					unvisited &= unvisited - 1;
+					if(vertex >= level.vertexCount) {
+						break;
+					}
+					for(int edge = inOffsets[vertex]; edge < inOffsets[vertex + 1]; edge++) {
+						int previous = sources[edge];
+						if((frontierBits[previous >>> 6] & (1L << previous)) != 0) {
+							level.distance[vertex] = level.depth + 1;
+							level.parent[vertex] = previous;
+							reachedBits |= 1L << vertex;
+							if(count == found.length) {
+								found = Arrays.copyOf(found, count * 2);
+							}
+							found[count++] = vertex;
+							edges += offsets[vertex + 1] - offsets[vertex];
+							break;
+						}
+					}
+				}
+				if(reachedBits != 0) {
+					level.visited.set(word, level.visited.get(word) | reachedBits);
+				}
+				nextBits[word] = reachedBits;
+			}
+			level.publish(found, count, edges);
+		}
+	}
+}
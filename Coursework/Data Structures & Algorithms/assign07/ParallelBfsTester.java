@@ -0,0 +1,65 @@
+package assign07;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelBfsTester {
+
+	@Test
+	void testSmallGraph() {
+		CsrGraph<String> graph = new CsrGraph<String>(List.of("a", "b", "c", "b", "e"), List.of("b", "c", "d", "d", "a"));
+		ParallelBfs.Result<String> result = new ParallelBfs<String>(graph).search("a");
+		assertEquals(4, result.getReachedCount());
+		assertEquals(0, result.getDistance(graph.getId("a")));
+		assertEquals(2, result.getDistance(graph.getId("d")));
+		assertEquals(-1, result.getDistance(graph.getId("e")));
+		assertEquals(-1, result.getParent(graph.getId("a")));
+		assertEquals(graph.getId("b"), result.getParent(graph.getId("d")));
+		assertEquals(List.of("a", "b", "d"), result.pathTo("d"));
+		assertThrows(IllegalArgumentException.class, () -> result.pathTo("e"));
+		assertThrows(IllegalArgumentException.class, () -> new ParallelBfs<String>(graph).search("z"));
+	}
+
+	@Test
+	void testMatchesSequentialSearch() {
+		Random rng = new Random(15);
+		int vertexCount = 50000;
+		List<Integer> srcs = new ArrayList<Integer>();
+		List<Integer> dsts = new ArrayList<Integer>();
+		for(int i = 0; i < 8 * vertexCount; i++) {
+			srcs.add(rng.nextInt(vertexCount));
+			dsts.add(rng.nextInt(vertexCount));
+		}
+		CsrGraph<Integer> graph = new CsrGraph<Integer>(srcs, dsts);
+		GraphSearch<Integer> sequential = new GraphSearch<Integer>(graph);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for(int trial = 0; trial < 3; trial++) {
+				Integer source = graph.getData(rng.nextInt(graph.getVertexCount()));
+				ParallelBfs.Result<Integer> result = new ParallelBfs<Integer>(graph, pool).search(source);
+				assertEquals(sequential.reachableFrom(source).size(), result.getReachedCount());
+				for(int q = 0; q < 200; q++) {
+					int goal = rng.nextInt(graph.getVertexCount());
+					if(result.getDistance(goal) < 0) {
+						assertFalse(sequential.isReachableById(graph.getId(source), goal));
+						continue;
+					}
+					List<Integer> path = sequential.shortestPath(source, graph.getData(goal));
+					assertEquals(path.size() - 1, result.getDistance(goal));
+					int parent = result.getParent(goal);
+					if(parent >= 0) {
+						assertEquals(result.getDistance(goal) - 1, result.getDistance(parent));
+					}
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
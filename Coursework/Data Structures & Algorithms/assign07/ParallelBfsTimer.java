@@ -0,0 +1,102 @@
+package assign07;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Times a full breadth first search from one source of a random graph from
+ * RandomDOTGenerator with n vertices and 2n edges, from a source which reaches more than
+ * half of the vertices. Compares Graph.bfs, the sequential BFS of
+ * GraphSearch.reachableFrom, and ParallelBfs on the common ForkJoinPool.
+ *
+ * Graph.bfs is given the source's first neighbor as its goal, which passes its depth first
+ * pre-check, and its search then runs until the queue drains, visiting every reachable
+ * vertex like the other two.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class ParallelBfsTimer extends TimerTemplate {
+
+	public enum Kind {
+		GRAPH_BFS, SEQUENTIAL, PARALLEL
+	}
+
+	private Kind kind;
+	private Graph<String> graph;
+	private CsrGraph<String> csrGraph;
+	private GraphSearch<String> search;
+	private ParallelBfs<String> parallelBfs;
+	private Vertex<String> sourceVertex;
+	private Vertex<String> goalVertex;
+
+	public ParallelBfsTimer(int[] problemSizes, int timesToLoop, Kind kind) {
+		super(problemSizes, timesToLoop);
+		this.kind = kind;
+	}
+
+	@Override
+	protected void setup(int n) {
+		ArrayList<String> sources = new ArrayList<String>();
+		ArrayList<String> destinations = new ArrayList<String>();
+		try {
+			File dotFile = File.createTempFile("bfs", ".dot");
+			dotFile.deleteOnExit();
+			RandomDOTGenerator.generateRandomDotFile(dotFile.getPath(), n);
+			GraphUtility.buildListsFromDot(dotFile.getPath(), sources, destinations);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		graph = new Graph<String>();
+		for(int i = 0; i < sources.size(); i++) {
+			graph.addEdge(sources.get(i), destinations.get(i));
+		}
+		csrGraph = graph.freeze();
+		search = new GraphSearch<String>(csrGraph);
+		parallelBfs = new ParallelBfs<String>(csrGraph);
+		// start from a vertex which reaches most of the graph, and whose first neighbor is
+		// another vertex
+		for(Vertex<String> vertex : graph.getVertices().values()) {
+			Iterator<Edge<String>> edges = vertex.edges();
+			if(edges.hasNext()) {
+				Vertex<String> neighbor = edges.next().getVertex();
+				if(neighbor != vertex && search.reachableFrom(vertex.getData()).size() > n / 2) {
+					sourceVertex = vertex;
+					goalVertex = neighbor;
+					break;
+				}
+			}
+		}
+	}
+
+	@Override
+	protected void timingIteration(int n) {
+		switch(kind) {
+		case GRAPH_BFS:
+			graph.bfs(sourceVertex, goalVertex);
+			break;
+		case SEQUENTIAL:
+			search.reachableFrom(sourceVertex.getData());
+			break;
+		default:
+			parallelBfs.search(sourceVertex.getData());
+		}
+	}
+
+	@Override
+	protected void compensationIteration(int n) {
+		sourceVertex.getData();
+	}
+
+	public static void main(String[] args) {
+		int[] problemSizes = {100000, 400000, 1600000};
+		System.out.println("ForkJoinPool parallelism " + ForkJoinPool.getCommonPoolParallelism());
+		for(Kind kind : Kind.values()) {
+			System.out.println(kind + "\nn, time");
+			new ParallelBfsTimer(problemSizes, 10, kind).run();
+		}
+	}
+}
@@ -128,6 +128,16 @@ public class Vertex<T> {
 		adj.add(new Edge<T>(otherVertex));
 	}
 
+	/**
+	 * Adds a weighted directed edge from this Vertex to another.
+	 * 
+	 * @param otherVertex - the Vertex object that is the destination of the edge
+	 * @param weight      - the weight of the edge
+	 */
+	public void addEdge(Vertex<T> otherVertex, double weight) {
+		adj.add(new Edge<T>(otherVertex, weight));
+	}
+
 	/**
 	 * @return a iterator for accessing the edges for which this Vertex is the source
 	 */
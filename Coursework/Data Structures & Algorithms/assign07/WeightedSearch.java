@@ -0,0 +1,356 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class finds shortest paths in a CsrGraph whose edges have non-negative weights,
+ * with Dijkstra's algorithm or, given a heuristic, with A*. An unweighted CsrGraph is
+ * searched as if every edge had weight 1.
+ *
+ * The vertices waiting to be settled are kept in an indexed 4-ary min heap of vertex ids,
+ * keyed by a primitive double: the distance from the source, plus the heuristic's estimate
+ * of the distance left for A*. A vertex's position in the heap is recorded, so a shorter
+ * distance moves it up in place instead of adding a second copy. A 4-ary heap is half the
+ * height of a binary one, which speeds up the many decrease-keys of a search, and its four
+ * children share a cache line, which keeps the extra comparisons of each removal cheap.
+ *
+ * As in GraphSearch, the state of a search is kept in arrays owned by this object and
+ * stamped with an epoch, so a search which stops at its goal costs time in proportion to
+ * the vertices it reaches, not to the size of the graph. A WeightedSearch must only be
+ * used by one thread at a time, but any number of them may search the same CsrGraph.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <T> - The type of data stored in the graph.
+ */
+public class WeightedSearch<T> {
+
+	/**
+	 * Estimates the length of the shortest path from a vertex to the goal of an A* search.
+	 * The estimate must never exceed the true length, or A* may return a longer path; an
+	 * estimate which also never decreases by more than an edge's weight along the edge,
+	 * such as a straight-line distance, lets A* settle each vertex only once.
+	 *
+	 * @param <T> - The type of data stored in the graph.
+	 */
+	@FunctionalInterface
+	public interface Heuristic<T> {
+
+		/**
+		 * @param vertexData - The data of a vertex.
+		 * @param goalData   - The data of the goal vertex.
+		 * @return - A lower bound on the distance from the vertex to the goal.
+		 */
+		double estimate(T vertexData, T goalData);
+	}
+
+	private static final int ARITY = 4;
+
+	private final CsrGraph<T> graph;
+	private final int[] visitedEpoch;
+	// for each vertex reached in the current epoch: its distance from the source, its
+	// heuristic estimate, and the vertex it was reached from, or -1 for the source
+	private final double[] dist;
+	private final double[] estimate;
+	private final int[] cameFrom;
+	// the heap of vertex ids, and the index of each reached vertex in it, or -1 once settled
+	private final int[] heap;
+	private final int[] heapIndex;
+	private final double[] key;
+	private int heapSize;
+	private int epoch;
+
+	/**
+	 * Creates the scratch state for searching the given graph.
+	 *
+	 * @param graph - The graph to be searched.
+	 * @throws IllegalArgumentException - If an edge of the graph has a negative or NaN weight.
+	 */
+	public WeightedSearch(CsrGraph<T> graph) throws IllegalArgumentException {
+		requireNonNegativeWeights(graph);
+		this.graph = graph;
+		int vertexCount = graph.getVertexCount();
+		visitedEpoch = new int[vertexCount];
+		dist = new double[vertexCount];
+		estimate = new double[vertexCount];
+		cameFrom = new int[vertexCount];
+		heap = new int[vertexCount];
+		heapIndex = new int[vertexCount];
+		key = new double[vertexCount];
+		epoch = 0;
+	}
+
+	/**
+	 * @return the graph this object searches
+	 */
+	public CsrGraph<T> getGraph() {
+		return graph;
+	}
+
+	/**
+	 * Finds a shortest path from the vertex holding srcData to the vertex holding dstData,
+	 * with Dijkstra's algorithm, which stops as soon as it settles the goal.
+	 *
+	 * @param srcData - The data in the source vertex.
+	 * @param dstData - The data in the destination vertex.
+	 * @return - The data of the vertices on the path, from source to destination.
+	 * @throws IllegalArgumentException - If the graph does not contain srcData or dstData,
+	 *                                  or if no path exists between the two vertices.
+	 */
+	public List<T> shortestPath(T srcData, T dstData) throws IllegalArgumentException {
+		return shortestPath(srcData, dstData, null);
+	}
+
+	/**
+	 * Finds a shortest path from the vertex holding srcData to the vertex holding dstData,
+	 * with A*, which settles vertices in order of their distance from the source plus the
+	 * heuristic's estimate of their distance to the goal.
+	 *
+	 * @param srcData   - The data in the source vertex.
+	 * @param dstData   - The data in the destination vertex.
+	 * @param heuristic - The estimate of each vertex's distance to the goal, or null for
+	 *                  Dijkstra's algorithm.
+	 * @return - The data of the vertices on the path, from source to destination.
+	 * @throws IllegalArgumentException - If the graph does not contain srcData or dstData,
+	 *                                  or if no path exists between the two vertices.
+	 */
+	public List<T> shortestPath(T srcData, T dstData, Heuristic<T> heuristic) throws IllegalArgumentException {
+		int goal = requireId(dstData, "Destination");
+		if(!search(requireId(srcData, "Source"), goal, heuristic)) {
+			throw new IllegalArgumentException("There does not exist a path between the two vertices.");
+		}
+		List<T> path = new ArrayList<T>();
+		for(int v = goal; v != -1; v = cameFrom[v]) {
+			path.add(graph.getData(v));
+		}
+		Collections.reverse(path);
+		return path;
+	}
+
+	/**
+	 * Finds the length of a shortest path from the vertex holding srcData to the vertex
+	 * holding dstData, with Dijkstra's algorithm.
+	 *
+	 * @param srcData - The data in the source vertex.
+	 * @param dstData - The data in the destination vertex.
+	 * @return - The sum of the weights on the path, or Double.POSITIVE_INFINITY if there
+	 *         is no path.
+	 * @throws IllegalArgumentException - If the graph does not contain srcData or dstData.
+	 */
+	public double distance(T srcData, T dstData) throws IllegalArgumentException {
+		return distance(srcData, dstData, null);
+	}
+
+	/**
+	 * Finds the length of a shortest path from the vertex holding srcData to the vertex
+	 * holding dstData, with A*.
+	 *
+	 * @param srcData   - The data in the source vertex.
+	 * @param dstData   - The data in the destination vertex.
+	 * @param heuristic - The estimate of each vertex's distance to the goal, or null for
+	 *                  Dijkstra's algorithm.
+	 * @return - The sum of the weights on the path, or Double.POSITIVE_INFINITY if there
+	 *         is no path.
+	 * @throws IllegalArgumentException - If the graph does not contain srcData or dstData.
+	 */
+	public double distance(T srcData, T dstData, Heuristic<T> heuristic) throws IllegalArgumentException {
+		int goal = requireId(dstData, "Destination");
+		return search(requireId(srcData, "Source"), goal, heuristic) ? dist[goal] : Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Finds the length of a shortest path from the vertex holding srcData to every vertex,
+	 * with Dijkstra's algorithm.
+	 *
+	 * @param srcData - The data in the source vertex.
+	 * @return - The distances, indexed by vertex id, with Double.POSITIVE_INFINITY for the
+	 *         vertices which are not reachable.
+	 * @throws IllegalArgumentException - If the graph does not contain srcData.
+	 */
+	public double[] distancesFrom(T srcData) throws IllegalArgumentException {
+		search(requireId(srcData, "Source"), -1, null);
+		double[] result = new double[graph.getVertexCount()];
+		for(int v = 0; v < result.length; v++) {
+			result[v] = visitedEpoch[v] == epoch ? dist[v] : Double.POSITIVE_INFINITY;
+		}
+		return result;
+	}
+
+	/**
+	 * Settles vertices in order of key until the goal is settled or the heap is empty. A
+	 * vertex settled early through an estimate which was too high is reopened when a
+	 * shorter path to it is found, so any heuristic which never overestimates gives a
+	 * shortest path.
+	 *
+	 * @param source    - The id of the source vertex.
+	 * @param goal      - The id of the goal vertex, or -1 to settle every reachable vertex.
+	 * @param heuristic - The estimate of each vertex's distance to the goal, or null.
+	 * @return - True if the goal was reached.
+	 */
+	private boolean search(int source, int goal, Heuristic<T> heuristic) {
+		int stamp = nextEpoch();
+		int[] offsets = graph.offsets;
+		int[] targets = graph.targets;
+		double[] weights = graph.weights;
+		T goalData = goal >= 0 && heuristic != null ? graph.getData(goal) : null;
+		heapSize = 0;
+		visitedEpoch[source] = stamp;
+		dist[source] = 0;
+		estimate[source] = goalData == null ? 0 : heuristic.estimate(graph.getData(source), goalData);
+		cameFrom[source] = -1;
+		push(source, estimate[source]);
+		while(heapSize > 0) {
+			int current = pop();
+			if(current == goal) {
+				return true;
+			}
+			double base = dist[current];
+			for(int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+				int next = targets[edge];
+				double candidate = base + (weights == null ? 1 : weights[edge]);
+				boolean reached = visitedEpoch[next] == stamp;
+				if(!reached) {
+					visitedEpoch[next] = stamp;
+					estimate[next] = goalData == null ? 0 : heuristic.estimate(graph.getData(next), goalData);
+				} else if(candidate >= dist[next]) {
+					continue;
+				}
+				dist[next] = candidate;
+				cameFrom[next] = current;
+				if(!reached || heapIndex[next] < 0) {
+					push(next, candidate + estimate[next]);
+				} else {
+					key[next] = candidate + estimate[next];
+					siftUp(heapIndex[next]);
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds a vertex which is not in the heap.
+	 */
+	private void push(int vertex, double vertexKey) {
+		key[vertex] = vertexKey;
+		heap[heapSize] = vertex;
+		heapIndex[vertex] = heapSize;
+		siftUp(heapSize++);
+	}
+
+	/**
+	 * Removes the vertex with the smallest key and marks it settled.
+	 */
+	private int pop() {
+		int top = heap[0];
+		heapIndex[top] = -1;
+		int last = heap[--heapSize];
+		if(heapSize > 0) {
+			heap[0] = last;
+			heapIndex[last] = 0;
+			siftDown(0);
+		}
+		return top;
+	}
+
+	/**
+	 * Moves the vertex at the given index toward the root until its parent's key is no
+	 * larger, shifting each larger parent down into the hole rather than swapping.
+	 */
+	private void siftUp(int index) {
+		int vertex = heap[index];
+		double vertexKey = key[vertex];
+		while(index > 0) {
+			int parentIndex = (index - 1) / ARITY;
+			int parent = heap[parentIndex];
+			if(key[parent] <= vertexKey) {
+				break;
+			}
+			heap[index] = parent;
+			heapIndex[parent] = index;
+			index = parentIndex;
+		}
+		heap[index] = vertex;
+		heapIndex[vertex] = index;
+	}
+
+	/**
+	 * Moves the vertex at the given index toward the leaves until no child has a smaller key.
+	 */
+	private void siftDown(int index) {
+		int vertex = heap[index];
+		double vertexKey = key[vertex];
+		while(true) {
+			int first = index * ARITY + 1;
+			if(first >= heapSize) {
+				break;
+			}
+			int smallest = first;
+			int end = Math.min(first + ARITY, heapSize);
+			for(int child = first + 1; child < end; child++) {
+				if(key[heap[child]] < key[heap[smallest]]) {
+					smallest = child;
+				}
+			}
+			int child = heap[smallest];
+			if(key[child] >= vertexKey) {
+				break;
+			}
+			heap[index] = child;
+			heapIndex[child] = index;
+			index = smallest;
+		}
+		heap[index] = vertex;
+		heapIndex[vertex] = index;
+	}
+
+	/**
+	 * Moves to a new epoch, which unvisits every vertex. The stamps are only cleared when
+	 * the epoch counter wraps around, once every 2^32 searches.
+	 *
+	 * @return - The stamp of visited vertices in the new epoch.
+	 */
+	private int nextEpoch() {
+		if(++epoch == 0) {
+			Arrays.fill(visitedEpoch, 0);
+			epoch = 1;
+		}
+		return epoch;
+	}
+
+	/**
+	 * Retrieves the id of the vertex holding the given data.
+	 *
+	 * @param vertexData - The data of the vertex.
+	 * @param role       - "Source" or "Destination", for the exception message.
+	 * @return - The vertex's id.
+	 * @throws IllegalArgumentException - If the graph does not contain the data.
+	 */
+	private int requireId(T vertexData, String role) throws IllegalArgumentException {
+		int id = graph.getId(vertexData);
+		if(id < 0) {
+			throw new IllegalArgumentException(role + " data not found in graph.");
+		}
+		return id;
+	}
+
+	/**
+	 * Checks that a graph's edge weights can be searched by Dijkstra's algorithm.
+	 *
+	 * @param graph - The graph to be searched.
+	 * @throws IllegalArgumentException - If an edge of the graph has a negative or NaN weight.
+	 */
+	static void requireNonNegativeWeights(CsrGraph<?> graph) throws IllegalArgumentException {
+		if(graph.weights != null) {
+			for(double weight : graph.weights) {
+				if(!(weight >= 0)) {
+					throw new IllegalArgumentException("Edge weights must not be negative.");
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,286 @@
+package assign07;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class WeightedSearchTester {
+
+	@Test
+	void testLighterLongerPath() {
+		CsrGraph<String> graph = new CsrGraph<String>(List.of("a", "a", "b", "c", "d"), List.of("d", "b", "c", "d", "e"),
+				List.of(10.0, 1.0, 2.0, 3.0, 0.5));
+		WeightedSearch<String> search = new WeightedSearch<String>(graph);
+		assertEquals(List.of("a", "b", "c", "d", "e"), search.shortestPath("a", "e"));
+		assertEquals(6.5, search.distance("a", "e"));
+		assertEquals(List.of("c"), search.shortestPath("c", "c"));
+		assertEquals(0.0, search.distance("c", "c"));
+	}
+
+	@Test
+	void testUnweightedCountsEdges() {
+		CsrGraph<Integer> graph = new CsrGraph<Integer>(List.of(1, 2, 3, 1), List.of(2, 3, 4, 3));
+		WeightedSearch<Integer> search = new WeightedSearch<Integer>(graph);
+		assertEquals(List.of(1, 3, 4), search.shortestPath(1, 4));
+		assertEquals(2.0, search.distance(1, 4));
+	}
+
+	@Test
+	void testNoPathAndMissingVertex() {
+		CsrGraph<String> graph = new CsrGraph<String>(List.of("a", "c"), List.of("b", "d"), List.of(1.0, 1.0));
+		WeightedSearch<String> search = new WeightedSearch<String>(graph);
+		assertThrows(IllegalArgumentException.class, () -> search.shortestPath("a", "d"));
+		assertEquals(Double.POSITIVE_INFINITY, search.distance("a", "d"));
+		assertThrows(IllegalArgumentException.class, () -> search.shortestPath("a", "z"));
+		assertThrows(IllegalArgumentException.class, () -> search.distance("z", "a"));
+		assertEquals(List.of("a", "b"), search.shortestPath("a", "b"));
+	}
+
+	@Test
+	void testNegativeWeight() {
+		CsrGraph<String> graph = new CsrGraph<String>(List.of("a", "b"), List.of("b", "c"), List.of(1.0, -1.0));
+		assertThrows(IllegalArgumentException.class, () -> new WeightedSearch<String>(graph));
+		assertThrows(IllegalArgumentException.class, () -> new DeltaStepping<String>(graph));
+		CsrGraph<String> nan = new CsrGraph<String>(List.of("a"), List.of("b"), List.of(Double.NaN));
+		assertThrows(IllegalArgumentException.class, () -> new WeightedSearch<String>(nan));
+	}
+
+	@Test
+	void testDistancesMatchBellmanFord() {
+		Random rng = new Random(15);
+		for(int trial = 0; trial < 20; trial++) {
+			CsrGraph<Integer> graph = randomGraph(rng, 200, 600);
+			WeightedSearch<Integer> search = new WeightedSearch<Integer>(graph);
+			for(int source = 0; source < 200; source += 37) {
+				double[] expected = bellmanFord(graph, graph.getId(source));
+				assertArrayEquals(expected, search.distancesFrom(source));
+				for(int goal = 0; goal < 200; goal += 13) {
+					double distance = expected[graph.getId(goal)];
+					assertEquals(distance, search.distance(source, goal));
+					if(distance < Double.POSITIVE_INFINITY) {
+						assertEquals(distance, pathLength(graph, search.shortestPath(source, goal)));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void testAStarOnGrid() {
+		int side = 40;
+		Random rng = new Random(15);
+		CsrGraph<Integer> graph = grid(rng, side);
+		WeightedSearch<Integer> search = new WeightedSearch<Integer>(graph);
+		WeightedSearch.Heuristic<Integer> manhattan = (v, goal) -> Math.abs(v / side - goal / side)
+				+ Math.abs(v % side - goal % side);
+		for(int query = 0; query < 50; query++) {
+			int source = rng.nextInt(side * side), goal = rng.nextInt(side * side);
+			double distance = search.distance(source, goal);
+			assertEquals(distance, search.distance(source, goal, manhattan));
+			assertEquals(distance, pathLength(graph, search.shortestPath(source, goal, manhattan)));
+		}
+	}
+
+	@Test
+	void testAStarInconsistentHeuristic() {
+		int side = 30;
+		Random rng = new Random(15);
+		CsrGraph<Integer> graph = grid(rng, side);
+		WeightedSearch<Integer> search = new WeightedSearch<Integer>(graph);
+		for(int query = 0; query < 20; query++) {
+			int source = rng.nextInt(side * side), goal = rng.nextInt(side * side);
+			// a random fraction of the true distance to the goal never overestimates it, but
+			// may drop by more than an edge's weight along an edge
+			double[] toGoal = new WeightedSearch<Integer>(graph.transpose()).distancesFrom(goal);
+			double[] fraction = new double[side * side];
+			for(int v = 0; v < fraction.length; v++) {
+				fraction[v] = rng.nextDouble();
+			}
+			WeightedSearch.Heuristic<Integer> heuristic = (v, g) -> toGoal[graph.getId(v)] * fraction[graph.getId(v)];
+			double distance = search.distance(source, goal);
+			assertEquals(distance, search.distance(source, goal, heuristic));
+			assertEquals(distance, pathLength(graph, search.shortestPath(source, goal, heuristic)));
+		}
+	}
+
+	@Test
+	void testDeltaSteppingMatchesDijkstra() {
+		Random rng = new Random(15);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for(int trial = 0; trial < 5; trial++) {
+				CsrGraph<Integer> graph = randomGraph(rng, 5000, 40000);
+				WeightedSearch<Integer> search = new WeightedSearch<Integer>(graph);
+				for(double delta : new double[] {0.5, 3, 100, new DeltaStepping<Integer>(graph).getDelta()}) {
+					DeltaStepping<Integer> stepping = new DeltaStepping<Integer>(graph, delta, pool);
+					for(int source = 0; source < 5000; source += 1700) {
+						assertArrayEquals(search.distancesFrom(source), stepping.distancesFrom(source));
+					}
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testDeltaSteppingUnweighted() {
+		CsrGraph<Integer> graph = new CsrGraph<Integer>(List.of(1, 2, 3, 1, 5), List.of(2, 3, 4, 3, 6));
+		double[] distances = new DeltaStepping<Integer>(graph).distancesFrom(1);
+		assertEquals(2.0, distances[graph.getId(4)]);
+		assertEquals(Double.POSITIVE_INFINITY, distances[graph.getId(6)]);
+		assertThrows(IllegalArgumentException.class, () -> new DeltaStepping<Integer>(graph).distancesFrom(9));
+		assertThrows(IllegalArgumentException.class,
+				() -> new DeltaStepping<Integer>(graph, 0, ForkJoinPool.commonPool()));
+	}
+
+	@Test
+	void testBuildListsFromDotWeights() throws IOException {
+		File dotFile = File.createTempFile("weighted", ".dot");
+		dotFile.deleteOnExit();
+		try (PrintWriter out = new PrintWriter(dotFile)) {
+			out.println("digraph G {");
+			out.println("\ta -> b [weight=2.5];");
+			out.println("\tb -> c [label=\"x\", weight = \"3\"]");
+			out.println("\ta -> c");
+			out.println("\t\"c\" -> \"d\" [color=red];");
+			out.println("}");
+		}
+		ArrayList<String> sources = new ArrayList<String>();
+		ArrayList<String> destinations = new ArrayList<String>();
+		ArrayList<Double> weights = new ArrayList<Double>();
+		GraphUtility.buildListsFromDot(dotFile.getPath(), sources, destinations, weights);
+		assertEquals(List.of("a", "b", "a", "c"), sources);
+		assertEquals(List.of("b", "c", "c", "d"), destinations);
+		assertEquals(List.of(2.5, 3.0, 1.0, 1.0), weights);
+		WeightedSearch<String> search = new WeightedSearch<String>(new CsrGraph<String>(sources, destinations, weights));
+		assertEquals(List.of("a", "c", "d"), search.shortestPath("a", "d"));
+
+		ArrayList<String> unweightedDestinations = new ArrayList<String>();
+		GraphUtility.buildListsFromDot(dotFile.getPath(), new ArrayList<String>(), unweightedDestinations);
+		assertEquals(destinations, unweightedDestinations);
+	}
+
+	@Test
+	void testBuildListsFromDotMalformedWeights() throws IOException {
+		for(String weight : new String[] {"e", ".", "-", "1e", "abc", "\"2.5x\"", "", "1.2.3", "NaN", "0x10"}) {
+			File dotFile = File.createTempFile("malformed", ".dot");
+			dotFile.deleteOnExit();
+			try (PrintWriter out = new PrintWriter(dotFile)) {
+				out.println("digraph G {");
+				out.println("\ta -> b [weight=1];");
+				out.println("\tb -> c [weight=" + weight + "];");
+				out.println("}");
+			}
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> GraphUtility
+					.buildListsFromDot(dotFile.getPath(), new ArrayList<String>(), new ArrayList<String>(),
+							new ArrayList<Double>()));
+			assertTrue(e.getMessage().contains("b -> c [weight=" + weight + "]"), e.getMessage());
+		}
+	}
+
+	@Test
+	void testBuildListsFromDotWeightFormats() throws IOException {
+		File dotFile = File.createTempFile("formats", ".dot");
+		dotFile.deleteOnExit();
+		try (PrintWriter out = new PrintWriter(dotFile)) {
+			out.println("digraph G {");
+			out.println("\ta -> b [weight=-.5];");
+			out.println("\tb -> c [weight=+2.];");
+			out.println("\tc -> d [weight=\"1.5e3\", color=red];");
+			out.println("\td -> e [weight=4E-1]");
+			out.println("}");
+		}
+		ArrayList<Double> weights = new ArrayList<Double>();
+		GraphUtility.buildListsFromDot(dotFile.getPath(), new ArrayList<String>(), new ArrayList<String>(), weights);
+		assertEquals(List.of(-0.5, 2.0, 1500.0, 0.4), weights);
+	}
+
+	/**
+	 * Builds a random graph on the integers 0 to vertexCount - 1 with whole-number weights
+	 * from 0 to 9, so every algorithm sums any path to exactly the same double.
+	 */
+	private static CsrGraph<Integer> randomGraph(Random rng, int vertexCount, int edgeCount) {
+		List<Integer> sources = new ArrayList<Integer>();
+		List<Integer> destinations = new ArrayList<Integer>();
+		List<Double> weights = new ArrayList<Double>();
+		for(int v = 0; v < vertexCount; v++) {
+			sources.add(v);
+			destinations.add(v);
+			weights.add(0.0);
+		}
+		for(int i = 0; i < edgeCount; i++) {
+			sources.add(rng.nextInt(vertexCount));
+			destinations.add(rng.nextInt(vertexCount));
+			weights.add((double) rng.nextInt(10));
+		}
+		return new CsrGraph<Integer>(sources, destinations, weights);
+	}
+
+	/**
+	 * Builds a side by side grid, the vertex in row r and column c holding r * side + c,
+	 * with edges both ways between neighbors and whole-number weights from 1 to 9.
+	 */
+	private static CsrGraph<Integer> grid(Random rng, int side) {
+		List<Integer> sources = new ArrayList<Integer>();
+		List<Integer> destinations = new ArrayList<Integer>();
+		List<Double> weights = new ArrayList<Double>();
+		for(int v = 0; v < side * side; v++) {
+			for(int neighbor : new int[] {v - side, v + side, v % side > 0 ? v - 1 : -1, v % side < side - 1 ? v + 1 : -1}) {
+				if(neighbor >= 0 && neighbor < side * side) {
+					sources.add(v);
+					destinations.add(neighbor);
+					weights.add(1.0 + rng.nextInt(9));
+				}
+			}
+		}
+		return new CsrGraph<Integer>(sources, destinations, weights);
+	}
+
+	private static double[] bellmanFord(CsrGraph<Integer> graph, int source) {
+		double[] dist = new double[graph.getVertexCount()];
+		Arrays.fill(dist, Double.POSITIVE_INFINITY);
+		dist[source] = 0;
+		for(boolean changed = true; changed;) {
+			changed = false;
+			for(int v = 0; v < dist.length; v++) {
+				for(int i = 0; i < graph.outDegree(v); i++) {
+					int w = graph.getTarget(v, i);
+					if(dist[v] + graph.getWeight(v, i) < dist[w]) {
+						dist[w] = dist[v] + graph.getWeight(v, i);
+						changed = true;
+					}
+				}
+			}
+		}
+		return dist;
+	}
+
+	/**
+	 * Sums the weights along a path, taking the lightest of any parallel edges.
+	 */
+	private static double pathLength(CsrGraph<Integer> graph, List<Integer> path) {
+		double length = 0;
+		for(int i = 0; i + 1 < path.size(); i++) {
+			int v = graph.getId(path.get(i)), w = graph.getId(path.get(i + 1));
+			double lightest = Double.POSITIVE_INFINITY;
+			for(int edge = 0; edge < graph.outDegree(v); edge++) {
+				if(graph.getTarget(v, edge) == w) {
+					lightest = Math.min(lightest, graph.getWeight(v, edge));
+				}
+			}
+			assertTrue(lightest < Double.POSITIVE_INFINITY);
+			length += lightest;
+		}
+		return length;
+	}
+}
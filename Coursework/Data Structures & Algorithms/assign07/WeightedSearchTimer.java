@@ -0,0 +1,121 @@
+package assign07;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Times weighted searches of a square grid with n vertices, like a road map, whose edges
+ * go both ways between neighbors with random weights from 1 to 9. Single-pair queries run
+ * between random vertices, or between vertices at most NEARBY rows and columns apart,
+ * with Dijkstra's algorithm and with A* guided by the Manhattan distance, which never
+ * overestimates since every weight is at least 1. Single-source queries find the distance
+ * to every vertex, with Dijkstra's algorithm and with DeltaStepping on the common pool.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class WeightedSearchTimer extends TimerTemplate {
+
+	public enum Kind {
+		DIJKSTRA, A_STAR, DIJKSTRA_NEARBY, A_STAR_NEARBY, DIJKSTRA_ALL, DELTA_STEPPING
+	}
+
+	private static final int NEARBY = 32;
+	private static final int PAIRS = 64;
+
+	private Kind kind;
+	private int side;
+	private WeightedSearch<Integer> search;
+	private DeltaStepping<Integer> stepping;
+	private WeightedSearch.Heuristic<Integer> manhattan;
+	private int[] sources, goals;
+	private int query;
+
+	public WeightedSearchTimer(int[] problemSizes, int timesToLoop, Kind kind) {
+		super(problemSizes, timesToLoop);
+		this.kind = kind;
+	}
+
+	@Override
+	protected void setup(int n) {
+		side = (int) Math.sqrt(n);
+		Random rng = new Random(15);
+		List<Integer> srcs = new ArrayList<Integer>();
+		List<Integer> dsts = new ArrayList<Integer>();
+		List<Double> weights = new ArrayList<Double>();
+		for(int v = 0; v < side * side; v++) {
+			int row = v / side, column = v % side;
+			if(row + 1 < side) {
+				addBothWays(srcs, dsts, weights, v, v + side, 1.0 + rng.nextInt(9));
+			}
+			if(column + 1 < side) {
+				addBothWays(srcs, dsts, weights, v, v + 1, 1.0 + rng.nextInt(9));
+			}
+		}
+		CsrGraph<Integer> graph = new CsrGraph<Integer>(srcs, dsts, weights);
+		search = new WeightedSearch<Integer>(graph);
+		stepping = new DeltaStepping<Integer>(graph);
+		int width = side;
+		manhattan = (v, goal) -> Math.abs(v / width - goal / width) + Math.abs(v % width - goal % width);
+		boolean nearby = kind == Kind.DIJKSTRA_NEARBY || kind == Kind.A_STAR_NEARBY;
+		sources = new int[PAIRS];
+		goals = new int[PAIRS];
+		for(int i = 0; i < PAIRS; i++) {
+			sources[i] = rng.nextInt(side * side);
+			if(nearby) {
+				int row = Math.min(side - 1, Math.max(0, sources[i] / side + rng.nextInt(2 * NEARBY + 1) - NEARBY));
+				int column = Math.min(side - 1, Math.max(0, sources[i] % side + rng.nextInt(2 * NEARBY + 1) - NEARBY));
+				goals[i] = row * side + column;
+			} else {
+				goals[i] = rng.nextInt(side * side);
+			}
+		}
+	}
+
+	private static void addBothWays(List<Integer> srcs, List<Integer> dsts, List<Double> weights, int v, int w,
+			double weight) {
+		srcs.add(v);
+		dsts.add(w);
+		weights.add(weight);
+		srcs.add(w);
+		dsts.add(v);
+		weights.add(weight);
+	}
+
+	@Override
+	protected void timingIteration(int n) {
+		int i = query++ % PAIRS;
+		switch(kind) {
+		case DIJKSTRA:
+		case DIJKSTRA_NEARBY:
+			search.distance(sources[i], goals[i]);
+			break;
+		case A_STAR:
+		case A_STAR_NEARBY:
+			search.distance(sources[i], goals[i], manhattan);
+			break;
+		case DIJKSTRA_ALL:
+			search.distancesFrom(sources[i]);
+			break;
+		default:
+			stepping.distancesFrom(sources[i]);
+		}
+	}
+
+	@Override
+	protected void compensationIteration(int n) {
+		int i = query++ % PAIRS;
+		sources[i] = sources[i];
+	}
+
+	public static void main(String[] args) {
+		int[] problemSizes = {10000, 250000, 1000000};
+		System.out.println("ForkJoinPool parallelism " + ForkJoinPool.getCommonPoolParallelism());
+		for(Kind kind : Kind.values()) {
+			System.out.println(kind + "\nn, time");
+			new WeightedSearchTimer(problemSizes, kind.ordinal() < 4 ? 64 : 8, kind).run();
+		}
+	}
+}
@@ -0,0 +1,487 @@
+package assign09;
+
+/**
+ * This class represents a HashTable with a maximum size, for use as a cache. It is built on the
+ * chaining core of HashTable, and each entry also carries the links of a doubly linked list which
+ * records the eviction order, so evicting an entry never requires a scan of the table. Once the
+ * table holds the maximum number of entries, adding a new key evicts one entry chosen by the
+ * eviction policy.
+ *
+ * LRU evicts the least recently used entry. LFU evicts the least frequently used entry, breaking
+ * ties by recency; entries are kept in a list of frequency nodes, each holding the entries used
+ * that many times, so a use moves an entry to the next node in constant time. TINY_LFU follows
+ * W-TinyLFU: new entries enter a small LRU window, and an entry leaving the window is admitted
+ * to the main segmented LRU only if a count-min sketch of recent key frequencies estimates it
+ * to be used more often than the entry it would replace.
+ *
+ * Gets, getOrDefaults, and putIfAbsents of present keys count as hits, and gets and
+ * getOrDefaults of absent keys count as misses.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <K> - key type
+ * @param <V> - value type
+ */
+public class CachingHashTable<K,V> extends HashTable<K,V> {
+
+	/**
+	 * The policies which may choose the entry to be evicted.
+	 */
+	public enum EvictionPolicy {
+		LRU, LFU, TINY_LFU
+	}
+
+	private final int maximumSize;
+	private final EvictionPolicy policy;
+	private Evictor evictor;
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
+
+	/**
+	 * Constructs an empty CachingHashTable.
+	 *
+	 * @param maximumSize - the maximum number of entries the table may hold
+	 * @param policy      - the policy which chooses the entry to be evicted
+	 * @throws IllegalArgumentException if maximumSize is less than 1
+	 */
+	public CachingHashTable(int maximumSize, EvictionPolicy policy) {
+		if(maximumSize < 1) {
+			throw new IllegalArgumentException("Maximum size must be at least 1.");
+		}
+		this.maximumSize = maximumSize;
+		this.policy = policy;
+		evictor = newEvictor();
+	}
+
+	/**
+	 * @return the maximum number of entries the table may hold
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return the policy which chooses the entry to be evicted
+	 */
+	public EvictionPolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * @return the number of lookups which found their key
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of lookups which did not find their key
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of entries evicted to keep the table within its maximum size
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return the fraction of lookups which found their key, or 0 if there were none
+	 */
+	public double getHitRate() {
+		long lookups = hitCount + missCount;
+		return lookups == 0 ? 0 : (double) hitCount / lookups;
+	}
+
+	/**
+	 * Removes all entries from this CachingHashTable. The hit, miss, and eviction counts are kept.
+	 */
+	@Override
+	public void clear() {
+		super.clear();
+		evictor = newEvictor();
+	}
+
+	@Override
+	protected MapEntry<K,V> newEntry(K key, V value) {
+		return new CacheEntry<K,V>(key, value);
+	}
+
+	@Override
+	protected void afterRead(K key, MapEntry<K,V> entry) {
+		if(entry == null) {
+			missCount++;
+			evictor.onMiss(key);
+		} else {
+			hitCount++;
+			evictor.onAccess((CacheEntry<K,V>) entry);
+		}
+	}
+
+	@Override
+	protected void afterWrite(MapEntry<K,V> entry) {
+		evictor.onAccess((CacheEntry<K,V>) entry);
+	}
+
+	@Override
+	protected void afterInsert(MapEntry<K,V> entry) {
+		evictor.onInsert((CacheEntry<K,V>) entry);
+	}
+
+	@Override
+	protected void afterRemove(MapEntry<K,V> entry) {
+		evictor.onRemove((CacheEntry<K,V>) entry);
+	}
+
+	/**
+	 * Removes the given entry from the table to make room for another.
+	 *
+	 * @param victim - the entry to be evicted
+	 */
+	private void evict(CacheEntry<K,V> victim) {
+		evictionCount++;
+		remove(victim.getKey());
+	}
+
+	/**
+	 * @return a new evictor for this table's policy, tracking no entries
+	 */
+	private Evictor newEvictor() {
+		switch(policy) {
+		case LFU:
+			return new LfuEvictor();
+		case TINY_LFU:
+			return new TinyLfuEvictor();
+		default:
+			return new LruEvictor();
+		}
+	}
+
+	/**
+	 * An entry of the table, which also carries the links of the eviction order.
+	 */
+	private static class CacheEntry<K,V> extends MapEntry<K,V> {
+
+		CacheEntry<K,V> prev;
+		CacheEntry<K,V> next;
+		EntryList<K,V> list;
+		FrequencyNode<K,V> frequency;
+
+		CacheEntry(K key, V value) {
+			super(key, value);
+		}
+	}
+
+	/**
+	 * A circular doubly linked list of entries with a sentinel head, ordered from least to most
+	 * recently added.
+	 */
+	private static class EntryList<K,V> {
+
+		final CacheEntry<K,V> head = new CacheEntry<K,V>(null, null);
+		int size;
+
+		EntryList() {
+			head.prev = head;
+			head.next = head;
+		}
+
+		void addLast(CacheEntry<K,V> entry) {
+			entry.prev = head.prev;
+			entry.next = head;
+			head.prev.next = entry;
+			head.prev = entry;
+			entry.list = this;
+			size++;
+		}
+
+		void unlink(CacheEntry<K,V> entry) {
+			entry.prev.next = entry.next;
+			entry.next.prev = entry.prev;
+			entry.prev = null;
+			entry.next = null;
+			entry.list = null;
+			size--;
+		}
+
+		void moveToLast(CacheEntry<K,V> entry) {
+			unlink(entry);
+			addLast(entry);
+		}
+
+		CacheEntry<K,V> first() {
+			return size == 0 ? null : head.next;
+		}
+	}
+
+	/**
+	 * A node in the LFU list of frequencies, holding every entry used exactly count times.
+	 */
+	private static class FrequencyNode<K,V> {
+
+		final long count;
+		final EntryList<K,V> entries = new EntryList<K,V>();
+		FrequencyNode<K,V> prev;
+		FrequencyNode<K,V> next;
+
+		FrequencyNode(long count) {
+			this.count = count;
+		}
+	}
+
+	/**
+	 * Tracks the entries of the table and chooses which to evict. Every method runs in
+	 * constant time.
+	 */
+	private abstract class Evictor {
+
+		/**
+		 * Called when a lookup does not find the given key.
+		 */
+		void onMiss(K key) {
+		}
+
+		/**
+		 * Called when the given entry is read or updated.
+		 */
+		abstract void onAccess(CacheEntry<K,V> entry);
+
+		/**
+		 * Called when the given entry has been added, after which the table may hold one entry
+		 * more than its maximum size.
+		 */
+		abstract void onInsert(CacheEntry<K,V> entry);
+
+		/**
+		 * Called when the given entry has been removed from the table.
+		 */
+		abstract void onRemove(CacheEntry<K,V> entry);
+	}
+
+	/**
+	 * Evicts the least recently used entry.
+	 */
+	private class LruEvictor extends Evictor {
+
+		private final EntryList<K,V> order = new EntryList<K,V>();
+
+		void onAccess(CacheEntry<K,V> entry) {
+			order.moveToLast(entry);
+		}
+
+		void onInsert(CacheEntry<K,V> entry) {
+			if(size() > maximumSize) {
+				evict(order.first());
+			}
+			order.addLast(entry);
+		}
+
+		void onRemove(CacheEntry<K,V> entry) {
+			order.unlink(entry);
+		}
+	}
+
+	/**
+	 * Evicts the least frequently used entry, and of those the least recently used.
+	 */
+	private class LfuEvictor extends Evictor {
+
+		private final FrequencyNode<K,V> head = new FrequencyNode<K,V>(0);
+
+		LfuEvictor() {
+			head.prev = head;
+			head.next = head;
+		}
+
+		void onAccess(CacheEntry<K,V> entry) {
+			FrequencyNode<K,V> node = entry.frequency;
+			FrequencyNode<K,V> next = node.next;
+			if(next == head || next.count != node.count + 1) {
+				next = insertAfter(node, node.count + 1);
+			}
+			moveTo(entry, next);
+		}
+
+		void onInsert(CacheEntry<K,V> entry) {
+			// evict first, so the new entry is never its own victim
+			if(size() > maximumSize) {
+				evict(head.next.entries.first());
+			}
+			FrequencyNode<K,V> first = head.next;
+			if(first == head || first.count != 1) {
+				first = insertAfter(head, 1);
+			}
+			first.entries.addLast(entry);
+			entry.frequency = first;
+		}
+
+		void onRemove(CacheEntry<K,V> entry) {
+			FrequencyNode<K,V> node = entry.frequency;
+			node.entries.unlink(entry);
+			entry.frequency = null;
+			if(node.entries.size == 0) {
+				node.prev.next = node.next;
+				node.next.prev = node.prev;
+			}
+		}
+
+		/**
+		 * Moves the given entry from its frequency node to the given node, dropping the old
+		 * node if it is left empty.
+		 */
+		private void moveTo(CacheEntry<K,V> entry, FrequencyNode<K,V> node) {
+			onRemove(entry);
+			node.entries.addLast(entry);
+			entry.frequency = node;
+		}
+
+		/**
+		 * Links a new, empty frequency node after the given node.
+		 */
+		private FrequencyNode<K,V> insertAfter(FrequencyNode<K,V> node, long count) {
+			FrequencyNode<K,V> added = new FrequencyNode<K,V>(count);
+			added.prev = node;
+			added.next = node.next;
+			node.next.prev = added;
+			node.next = added;
+			return added;
+		}
+	}
+
+	/**
+	 * Evicts following W-TinyLFU. The window holds about 1% of the entries, and the main space
+	 * is a segmented LRU whose protected segment holds up to 80% of it. An entry in probation is
+	 * promoted to protected when it is used again, and the least recently used protected entry is
+	 * demoted back to probation when the protected segment overflows.
+	 */
+	private class TinyLfuEvictor extends Evictor {
+
+		private final int windowMaximum = Math.max(1, maximumSize / 100);
+		private final int protectedMaximum = (maximumSize - windowMaximum) * 4 / 5;
+		private final EntryList<K,V> window = new EntryList<K,V>();
+		private final EntryList<K,V> probation = new EntryList<K,V>();
+		private final EntryList<K,V> protectedSegment = new EntryList<K,V>();
+		private final FrequencySketch sketch = new FrequencySketch(maximumSize);
+
+		void onMiss(K key) {
+			sketch.increment(key);
+		}
+
+		void onAccess(CacheEntry<K,V> entry) {
+			sketch.increment(entry.getKey());
+			if(entry.list == probation) {
+				probation.unlink(entry);
+				protectedSegment.addLast(entry);
+				if(protectedSegment.size > protectedMaximum) {
+					CacheEntry<K,V> demoted = protectedSegment.first();
+					protectedSegment.unlink(demoted);
+					probation.addLast(demoted);
+				}
+			} else {
+				entry.list.moveToLast(entry);
+			}
+		}
+
+		void onInsert(CacheEntry<K,V> entry) {
+			sketch.increment(entry.getKey());
+			window.addLast(entry);
+			CacheEntry<K,V> candidate = null;
+			if(window.size > windowMaximum) {
+				candidate = window.first();
+				window.unlink(candidate);
+				probation.addLast(candidate);
+			}
+			if(size() > maximumSize) {
+				CacheEntry<K,V> victim = probation.first();
+				if(victim == null) {
+					victim = protectedSegment.first();
+				}
+				// admit the candidate only if it is used more often than the victim
+				if(candidate != null && victim != candidate
+						&& sketch.frequency(candidate.getKey()) <= sketch.frequency(victim.getKey())) {
+					victim = candidate;
+				}
+				evict(victim);
+			}
+		}
+
+		void onRemove(CacheEntry<K,V> entry) {
+			entry.list.unlink(entry);
+		}
+	}
+
+	/**
+	 * A count-min sketch of 4-bit counters which estimates how often each key has been used
+	 * recently. Once the number of increments reaches ten times the width of the sketch, every
+	 * counter is halved, so keys which were popular long ago are forgotten.
+	 */
+	private static class FrequencySketch {
+
+		private static final int DEPTH = 4;
+		private static final int MAX_COUNT = 15;
+		private final byte[][] counters;
+		private final int mask;
+		private final int sampleSize;
+		private int additions;
+
+		FrequencySketch(int maximumSize) {
+			int width = 16;
+			while(width < maximumSize) {
+				width *= 2;
+			}
+			counters = new byte[DEPTH][width];
+			mask = width - 1;
+			sampleSize = 10 * width;
+		}
+
+		/**
+		 * Records a use of the given key.
+		 */
+		void increment(Object key) {
+			int hash = key.hashCode();
+			for(int row = 0; row < DEPTH; row++) {
+				int index = index(hash, row);
+				if(counters[row][index] < MAX_COUNT) {
+					counters[row][index]++;
+				}
+			}
+			additions++;
+			if(additions == sampleSize) {
+				age();
+			}
+		}
+
+		/**
+		 * @return the estimated number of recent uses of the given key
+		 */
+		int frequency(Object key) {
+			int hash = key.hashCode();
+			int min = MAX_COUNT;
+			for(int row = 0; row < DEPTH; row++) {
+				min = Math.min(min, counters[row][index(hash, row)]);
+			}
+			return min;
+		}
+
+		private int index(int hash, int row) {
+			return HashQualityAnalyzer.mix(hash + row * 0x9e3779b9) & mask;
+		}
+
+		/**
+		 * Halves every counter.
+		 */
+		private void age() {
+			for(byte[] row : counters) {
+				for(int i = 0; i < row.length; i++) {
+					row[i] >>= 1;
+				}
+			}
+			additions /= 2;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package assign09;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import assign09.CachingHashTable.EvictionPolicy;
+
+/**
+ * This is a tester class for the CachingHashTable class.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+class CachingHashTableTest {
+
+	@Test
+	void testInvalidMaximumSize() {
+		assertThrows(IllegalArgumentException.class, () -> new CachingHashTable<Integer, String>(0, EvictionPolicy.LRU));
+	}
+
+	@Test
+	void testLruEvictsLeastRecentlyUsed() {
+		CachingHashTable<Integer, String> cache = new CachingHashTable<Integer, String>(3, EvictionPolicy.LRU);
+		cache.put(1, "a");
+		cache.put(2, "b");
+		cache.put(3, "c");
+		cache.get(1);
+		cache.put(4, "d");
+		assertEquals(3, cache.size());
+		assertFalse(cache.containsKey(2));
+		assertTrue(cache.containsKey(1));
+		assertTrue(cache.containsKey(4));
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	void testLruPutCountsAsUse() {
+		CachingHashTable<Integer, String> cache = new CachingHashTable<Integer, String>(2, EvictionPolicy.LRU);
+		cache.put(1, "a");
+		cache.put(2, "b");
+		cache.put(1, "z");
+		cache.put(3, "c");
+		assertEquals("z", cache.get(1));
+		assertFalse(cache.containsKey(2));
+	}
+
+	@Test
+	void testLfuEvictsLeastFrequentlyUsed() {
+		CachingHashTable<Integer, String> cache = new CachingHashTable<Integer, String>(3, EvictionPolicy.LFU);
+		cache.put(1, "a");
+		cache.put(2, "b");
+		cache.put(3, "c");
+		cache.get(1);
+		cache.get(1);
+		cache.get(2);
+		cache.get(3);
+		cache.get(3);
+		cache.put(4, "d");
+		assertFalse(cache.containsKey(2));
+		// the new entry is the least frequently used, so it is evicted next
+		cache.put(5, "e");
+		assertFalse(cache.containsKey(4));
+		assertTrue(cache.containsKey(1));
+		assertTrue(cache.containsKey(3));
+		assertTrue(cache.containsKey(5));
+	}
+
+	@Test
+	void testLfuBreaksTiesByRecency() {
+		CachingHashTable<Integer, String> cache = new CachingHashTable<Integer, String>(2, EvictionPolicy.LFU);
+		cache.put(1, "a");
+		cache.put(2, "b");
+		cache.put(3, "c");
+		assertFalse(cache.containsKey(1));
+		assertTrue(cache.containsKey(2));
+	}
+
+	@Test
+	void testTinyLfuResistsScan() {
+		CachingHashTable<Integer, Integer> cache = new CachingHashTable<Integer, Integer>(100, EvictionPolicy.TINY_LFU);
+		for(int round = 0; round < 5; round++) {
+			for(int i = 0; i < 50; i++) {
+				if(cache.get(i) == null) {
+					cache.put(i, i);
+				}
+			}
+		}
+		// a scan of keys used once should not flush the frequently used ones
+		for(int i = 1000; i < 3000; i++) {
+			cache.put(i, i);
+		}
+		int hotKept = 0;
+		for(int i = 0; i < 50; i++) {
+			if(cache.containsKey(i)) {
+				hotKept++;
+			}
+		}
+		assertTrue(hotKept >= 45, "kept " + hotKept);
+		assertEquals(100, cache.size());
+	}
+
+	@Test
+	void testCounters() {
+		CachingHashTable<Integer, String> cache = new CachingHashTable<Integer, String>(10, EvictionPolicy.LRU);
+		cache.put(1, "a");
+		cache.get(1);
+		cache.get(2);
+		cache.getOrDefault(1, "x");
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(2.0 / 3, cache.getHitRate(), 1e-9);
+		assertEquals(0, cache.getEvictionCount());
+	}
+
+	@Test
+	void testRemoveComputeAndClear() {
+		for(EvictionPolicy policy : EvictionPolicy.values()) {
+			CachingHashTable<Integer, Integer> cache = new CachingHashTable<Integer, Integer>(5, policy);
+			for(int i = 0; i < 5; i++) {
+				cache.put(i, i);
+			}
+			assertEquals(3, cache.remove(3));
+			cache.compute(4, (key, value) -> null);
+			cache.merge(0, 10, Integer::sum);
+			assertEquals(3, cache.size());
+			cache.clear();
+			assertTrue(cache.isEmpty());
+			for(int i = 0; i < 20; i++) {
+				cache.put(i, i);
+			}
+			assertEquals(5, cache.size(), policy.toString());
+		}
+	}
+
+	@Test
+	void testStaysBoundedUnderRandomUse() {
+		for(EvictionPolicy policy : EvictionPolicy.values()) {
+			CachingHashTable<Integer, Integer> cache = new CachingHashTable<Integer, Integer>(500, policy);
+			Random rng = new Random(42);
+			for(int i = 0; i < 100000; i++) {
+				int key = rng.nextInt(2000);
+				switch(rng.nextInt(4)) {
+				case 0:
+					cache.remove(key);
+					break;
+				case 1:
+					cache.get(key);
+					break;
+				default:
+					cache.put(key, key);
+				}
+				assertTrue(cache.size() <= 500);
+			}
+			cache.forEach((key, value) -> assertEquals(key, value));
+			assertTrue(cache.getEvictionCount() > 0);
+		}
+	}
+}
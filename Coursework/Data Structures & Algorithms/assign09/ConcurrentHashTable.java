@@ -0,0 +1,522 @@
+package assign09;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * This class represents a thread-safe HashTable which resolves collisions using separate
+ * chaining. Writers lock one of a fixed number of stripes, chosen by bucket index, so writes
+ * to different bucket ranges proceed in parallel. Readers never lock: chain nodes have final
+ * keys and links, removals copy the part of the chain in front of the removed node, and bucket
+ * heads are published through an AtomicReferenceArray, so a reader always sees a consistent
+ * chain.
+ *
+ * Resizing holds every stripe lock while a doubled table is built, then publishes the new
+ * table with a single volatile write. Readers keep using the old table, which no writer
+ * changes while the locks are held, until the new one is published.
+ *
+ * Iteration by entries() and containsValue() is weakly consistent. Null keys and values are
+ * not supported.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <K> - key type
+ * @param <V> - value type
+ */
+public class ConcurrentHashTable<K,V> implements Map<K,V> {
+
+	final private int loadThreshold = 2;
+	private volatile AtomicReferenceArray<Node<K,V>> table;
+	private ReentrantLock[] locks;
+	private AtomicInteger elemCount;
+
+	/**
+	 * Constructs an empty ConcurrentHashTable with 16 lock stripes.
+	 */
+	public ConcurrentHashTable() {
+		this(16);
+	}
+
+	/**
+	 * Constructs an empty ConcurrentHashTable with the given number of lock stripes, rounded
+	 * up to a power of two.
+	 *
+	 * @param concurrencyLevel - the expected number of concurrently writing threads
+	 * @throws IllegalArgumentException if concurrencyLevel is not positive
+	 */
+	public ConcurrentHashTable(int concurrencyLevel) {
+		if(concurrencyLevel < 1) {
+			throw new IllegalArgumentException("Concurrency level must be positive.");
+		}
+		int stripes = 1;
+		while(stripes < concurrencyLevel) {
+			stripes *= 2;
+		}
+		locks = new ReentrantLock[stripes];
+		for(int i = 0; i < stripes; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		table = new AtomicReferenceArray<Node<K,V>>(Math.max(16, stripes));
+		elemCount = new AtomicInteger();
+	}
+
+	/**
+	 * Removes all entries from this ConcurrentHashTable.
+	 */
+	public void clear() {
+		lockAll();
+		try {
+			AtomicReferenceArray<Node<K,V>> tab = table;
+			for(int i = 0; i < tab.length(); i++) {
+				tab.set(i, null);
+			}
+			elemCount.set(0);
+		} finally {
+			unlockAll();
+		}
+	}
+
+	/**
+	 * Determines if the ConcurrentHashTable contains the given key, without locking.
+	 *
+	 * @param key - the key which is to be found
+	 * @return true if the ConcurrentHashTable contains the given key, false otherwise
+	 */
+	public boolean containsKey(K key) {
+		return findNode(key) != null;
+	}
+
+	/**
+	 * Determines if the ConcurrentHashTable contains the given value.
+	 *
+	 * @param value - the value which is to be found
+	 * @return true if the ConcurrentHashTable contains the given value, false otherwise
+	 */
+	public boolean containsValue(V value) {
+		AtomicReferenceArray<Node<K,V>> tab = table;
+		for(int i = 0; i < tab.length(); i++) {
+			for(Node<K,V> node = tab.get(i); node != null; node = node.next) {
+				if(node.value.equals(value)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a List of the Key and Value pairs stored in the Hash Table.
+	 *
+	 * @return List of key value pairs
+	 */
+	public List<MapEntry<K, V>> entries() {
+		List<MapEntry<K,V>> entryList = new ArrayList<MapEntry<K,V>>();
+		AtomicReferenceArray<Node<K,V>> tab = table;
+		for(int i = 0; i < tab.length(); i++) {
+			for(Node<K,V> node = tab.get(i); node != null; node = node.next) {
+				entryList.add(new MapEntry<K,V>(node.key, node.value));
+			}
+		}
+		return entryList;
+	}
+
+	/**
+	 * Performs the given action on every entry in the ConcurrentHashTable, without locking
+	 * or copying. Like entries(), the scan is weakly consistent.
+	 *
+	 * @param action - the action to be performed on each key and value
+	 */
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		AtomicReferenceArray<Node<K,V>> tab = table;
+		for(int i = 0; i < tab.length(); i++) {
+			for(Node<K,V> node = tab.get(i); node != null; node = node.next) {
+				action.accept(node.key, node.value);
+			}
+		}
+	}
+
+	/**
+	 * Returns a reusable cursor which walks the chains of the ConcurrentHashTable in place,
+	 * without locking or copying. Like forEach(), each scan is weakly consistent.
+	 *
+	 * @return a cursor positioned before the first entry
+	 */
+	public MapCursor<K,V> cursor() {
+		return new MapCursor<K,V>() {
+			private AtomicReferenceArray<Node<K,V>> tab = table;
+			private int index = -1;
+			private Node<K,V> node;
+
+			public boolean next() {
+				if(node != null) {
+					node = node.next;
+				}
+				while(node == null && index + 1 < tab.length()) {
+					node = tab.get(++index);
+				}
+				return node != null;
+			}
+
+			public K getKey() {
+				return node.key;
+			}
+
+			public V getValue() {
+				return node.value;
+			}
+
+			public void reset() {
+				tab = table;
+				index = -1;
+				node = null;
+			}
+		};
+	}
+
+	/**
+	 * Returns the value mapped to the given key, if the key exists in the
+	 * ConcurrentHashTable, without locking.
+	 *
+	 * @param key - the key whose mapped value is to be returned
+	 * @return value mapped to given key if key is present, null otherwise
+	 */
+	public V get(K key) {
+		Node<K,V> node = findNode(key);
+		if(node == null) {
+			return null;
+		}
+		return node.value;
+	}
+
+	/**
+	 * Determines if the ConcurrentHashTable is empty or not.
+	 *
+	 * @return true if ConcurrentHashTable is empty, false otherwise.
+	 */
+	public boolean isEmpty() {
+		return elemCount.get() == 0;
+	}
+
+	/**
+	 * Associates the specified value with the specified key in this ConcurrentHashTable.
+	 * If the key already existed in this map, changes the value to this new value,
+	 * otherwise adds the new key-value pair.
+	 *
+	 * @param key   - given key
+	 * @param value - value which is to be mapped to key
+	 * @return the previous value mapped to the key, or null if there was no
+	 *         previous mapping for key
+	 * @throws NullPointerException if value is null
+	 */
+	public V put(K key, V value) {
+		if(value == null) {
+			throw new NullPointerException("ConcurrentHashTable does not support null values.");
+		}
+		int hash = spread(key);
+		AtomicReferenceArray<Node<K,V>> tab;
+		while(true) {
+			tab = table;
+			int index = hash & (tab.length() - 1);
+			ReentrantLock lock = lockFor(index);
+			lock.lock();
+			try {
+				// the table was resized while this thread waited for the lock
+				if(tab != table) {
+					continue;
+				}
+				Node<K,V> head = tab.get(index);
+				for(Node<K,V> node = head; node != null; node = node.next) {
+					if(node.hash == hash && node.key.equals(key)) {
+						V prevValue = node.value;
+						node.value = value;
+						return prevValue;
+					}
+				}
+				tab.set(index, new Node<K,V>(hash, key, value, head));
+				break;
+			} finally {
+				lock.unlock();
+			}
+		}
+		if(elemCount.incrementAndGet() > (long) tab.length() * loadThreshold) {
+			rehash(tab);
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the value mapped to the given key from the ConcurrentHashTable, if key is
+	 * present in the table.
+	 *
+	 * @param key - the key whose mapped value is to be removed
+	 * @return value which was removed if key was present, null otherwise
+	 */
+	public V remove(K key) {
+		int hash = spread(key);
+		while(true) {
+			AtomicReferenceArray<Node<K,V>> tab = table;
+			int index = hash & (tab.length() - 1);
+			ReentrantLock lock = lockFor(index);
+			lock.lock();
+			try {
+				if(tab != table) {
+					continue;
+				}
+				Node<K,V> head = tab.get(index);
+				Node<K,V> target = head;
+				while(target != null && !(target.hash == hash && target.key.equals(key))) {
+					target = target.next;
+				}
+				if(target == null) {
+					return null;
+				}
+				unlink(tab, index, target);
+				return target.value;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Returns the value mapped to the given key, or the given default if the key does not
+	 * exist in the ConcurrentHashTable, without locking.
+	 *
+	 * @param key          - the key whose mapped value is to be returned
+	 * @param defaultValue - the value returned if key is not present
+	 * @return value mapped to given key if key is present, defaultValue otherwise
+	 */
+	public V getOrDefault(K key, V defaultValue) {
+		Node<K,V> node = findNode(key);
+		if(node == null) {
+			return defaultValue;
+		}
+		return node.value;
+	}
+
+	/**
+	 * Atomically associates the specified value with the specified key, only if the key
+	 * does not already exist in this map.
+	 *
+	 * @param key   - given key
+	 * @param value - value which is to be mapped to key
+	 * @return the value currently mapped to the key, or null if there was no
+	 *         previous mapping for key and value was added
+	 */
+	public V putIfAbsent(K key, V value) {
+		return update(key, (k, oldValue) -> oldValue == null ? value : oldValue, true);
+	}
+
+	/**
+	 * Atomically computes a new value for the given key from the key and its current value
+	 * (null if the key is not present). Removes the key if the new value is null, otherwise
+	 * maps the key to the new value. The function is called while the key's stripe is locked.
+	 *
+	 * @param key               - given key
+	 * @param remappingFunction - computes the new value from the key and current value
+	 * @return the new value mapped to the key, or null if the key is no longer present
+	 */
+	public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		return update(key, remappingFunction, false);
+	}
+
+	/**
+	 * Atomically maps the given key to the given value if the key is not present, otherwise
+	 * combines the current value with the given value. Removes the key if the combined value
+	 * is null. The function is called while the key's stripe is locked.
+	 *
+	 * @param key               - given key
+	 * @param value             - value which is to be mapped to or combined with the current value
+	 * @param remappingFunction - combines the current value with value
+	 * @return the new value mapped to the key, or null if the key is no longer present
+	 */
+	public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		return update(key, (k, oldValue) -> oldValue == null ? value : remappingFunction.apply(oldValue, value), false);
+	}
+
+	/**
+	 * Returns the number of elements in the ConcurrentHashTable.
+	 *
+	 * @return number of elements stored in ConcurrentHashTable
+	 */
+	public int size() {
+		return elemCount.get();
+	}
+
+	/**
+	 * Replaces the value of the given key with the result of the given function, under the
+	 * key's stripe lock, in a single traversal of its chain. A null result removes the key.
+	 *
+	 * @param key               - given key
+	 * @param remappingFunction - computes the new value from the key and current value
+	 * @param returnPrevious    - true to return the value before the update, false to return
+	 *                          the value after it
+	 * @return the previous or new value mapped to the key, as chosen by returnPrevious
+	 */
+	private V update(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction, boolean returnPrevious) {
+		int hash = spread(key);
+		AtomicReferenceArray<Node<K,V>> tab;
+		V oldValue;
+		V newValue;
+		while(true) {
+			tab = table;
+			int index = hash & (tab.length() - 1);
+			ReentrantLock lock = lockFor(index);
+			lock.lock();
+			try {
+				if(tab != table) {
+					continue;
+				}
+				Node<K,V> head = tab.get(index);
+				Node<K,V> target = head;
+				while(target != null && !(target.hash == hash && target.key.equals(key))) {
+					target = target.next;
+				}
+				oldValue = target == null ? null : target.value;
+				newValue = remappingFunction.apply(key, oldValue);
+				if(target != null) {
+					if(newValue == null) {
+						unlink(tab, index, target);
+					} else {
+						target.value = newValue;
+					}
+					return returnPrevious ? oldValue : newValue;
+				}
+				if(newValue == null) {
+					return null;
+				}
+				tab.set(index, new Node<K,V>(hash, key, newValue, head));
+				break;
+			} finally {
+				lock.unlock();
+			}
+		}
+		if(elemCount.incrementAndGet() > (long) tab.length() * loadThreshold) {
+			rehash(tab);
+		}
+		return returnPrevious ? null : newValue;
+	}
+
+	/**
+	 * Removes the given node from its chain. The nodes in front of it are copied, so
+	 * concurrent readers never see a broken chain. The caller must hold the bucket's lock.
+	 *
+	 * @param tab    - the current table
+	 * @param index  - the index of the bucket holding target
+	 * @param target - the node to be removed
+	 */
+	private void unlink(AtomicReferenceArray<Node<K,V>> tab, int index, Node<K,V> target) {
+		Node<K,V> newHead = target.next;
+		for(Node<K,V> node = tab.get(index); node != target; node = node.next) {
+			newHead = new Node<K,V>(node.hash, node.key, node.value, newHead);
+		}
+		tab.set(index, newHead);
+		elemCount.decrementAndGet();
+	}
+
+	/**
+	 * Finds the node holding the given key in the current table, without locking.
+	 *
+	 * @param key - the key being searched for
+	 * @return the node holding key, or null if the key is not present
+	 */
+	private Node<K,V> findNode(K key) {
+		int hash = spread(key);
+		AtomicReferenceArray<Node<K,V>> tab = table;
+		for(Node<K,V> node = tab.get(hash & (tab.length() - 1)); node != null; node = node.next) {
+			if(node.hash == hash && node.key.equals(key)) {
+				return node;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Doubles the capacity of the given table and reassigns its entries, unless another
+	 * thread has already replaced it. Readers are not blocked.
+	 *
+	 * @param oldTable - the table which was found to be over the load threshold
+	 */
+	private void rehash(AtomicReferenceArray<Node<K,V>> oldTable) {
+		lockAll();
+		try {
+			if(oldTable != table) {
+				return;
+			}
+			AtomicReferenceArray<Node<K,V>> newTable = new AtomicReferenceArray<Node<K,V>>(oldTable.length() * 2);
+			int mask = newTable.length() - 1;
+			for(int i = 0; i < oldTable.length(); i++) {
+				for(Node<K,V> node = oldTable.get(i); node != null; node = node.next) {
+					int index = node.hash & mask;
+					newTable.set(index, new Node<K,V>(node.hash, node.key, node.value, newTable.get(index)));
+				}
+			}
+			table = newTable;
+		} finally {
+			unlockAll();
+		}
+	}
+
+	/**
+	 * Returns the lock stripe guarding the given bucket index.
+	 *
+	 * @param index - the bucket index
+	 * @return the lock for the bucket
+	 */
+	private ReentrantLock lockFor(int index) {
+		return locks[index & (locks.length - 1)];
+	}
+
+	/**
+	 * Acquires every stripe lock, always in the same order.
+	 */
+	private void lockAll() {
+		for(ReentrantLock lock : locks) {
+			lock.lock();
+		}
+	}
+
+	/**
+	 * Releases every stripe lock.
+	 */
+	private void unlockAll() {
+		for(ReentrantLock lock : locks) {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Mixes the high bits of the key's hash code into the low bits, since only the low
+	 * bits are used to pick a bucket in a power of two sized table.
+	 *
+	 * @param key - the key to be hashed
+	 * @return the spread hash code
+	 */
+	private int spread(K key) {
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * A chain node. The key, hash and link never change once the node is published.
+	 */
+	private static class Node<K,V> {
+		final int hash;
+		final K key;
+		volatile V value;
+		final Node<K,V> next;
+
+		Node(int hash, K key, V value, Node<K,V> next) {
+			this.hash = hash;
+			this.key = key;
+			this.value = value;
+			this.next = next;
+		}
+	}
+}
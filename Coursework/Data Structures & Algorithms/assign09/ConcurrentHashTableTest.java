@@ -0,0 +1,169 @@
+package assign09;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is a tester class for the ConcurrentHashTable class.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+class ConcurrentHashTableTest {
+
+	ConcurrentHashTable<Integer, String> stringTable;
+
+	@BeforeEach
+	void setup() {
+		stringTable = new ConcurrentHashTable<Integer, String>();
+		stringTable.put(1, "a");
+		stringTable.put(2, "b");
+		stringTable.put(3, "c");
+		stringTable.put(4, "d");
+	}
+
+	@Test
+	void testSize() {
+		assertEquals(4, stringTable.size());
+	}
+
+	@Test
+	void testLiveViews() {
+		Collection<Integer> keys = stringTable.keys();
+		Collection<String> values = stringTable.values();
+		stringTable.put(5, "e");
+		stringTable.remove(2);
+		assertEquals(Set.of(1, 3, 4, 5), new HashSet<Integer>(keys));
+		assertEquals(Set.of("a", "c", "d", "e"), new HashSet<String>(values));
+		for(int i = 6; i < 200; i++) {
+			stringTable.put(i, "x");
+		}
+		assertEquals(198, new ArrayList<Integer>(keys).size());
+	}
+
+	@Test
+	void testCursorReuse() {
+		MapCursor<Integer, String> cursor = stringTable.cursor();
+		int count = 0;
+		while(cursor.next()) {
+			assertEquals(stringTable.get(cursor.getKey()), cursor.getValue());
+			count++;
+		}
+		assertEquals(4, count);
+		assertFalse(cursor.next());
+		stringTable.put(5, "e");
+		cursor.reset();
+		count = 0;
+		while(cursor.next()) {
+			count++;
+		}
+		assertEquals(5, count);
+	}
+
+	@Test
+	void testGet() {
+		assertEquals("c", stringTable.get(3));
+		assertEquals(null, stringTable.get(6));
+	}
+
+	@Test
+	void testPutSameKeyPrev() {
+		assertEquals("b", stringTable.put(2, "z"));
+		assertEquals("z", stringTable.get(2));
+		assertEquals(4, stringTable.size());
+	}
+
+	@Test
+	void testRemoveMiddleOfChain() {
+		ConcurrentHashTable<StudentBadHash, Double> table = new ConcurrentHashTable<StudentBadHash, Double>();
+		StudentBadHash a = new StudentBadHash(1, "Ann", "A");
+		StudentBadHash b = new StudentBadHash(2, "Bob", "B");
+		StudentBadHash c = new StudentBadHash(3, "Cal", "C");
+		table.put(a, 1.0);
+		table.put(b, 2.0);
+		table.put(c, 3.0);
+		assertEquals(2.0, table.remove(b));
+		assertEquals(1.0, table.get(a));
+		assertEquals(3.0, table.get(c));
+		assertFalse(table.containsKey(b));
+		assertEquals(2, table.size());
+	}
+
+	@Test
+	void testContainsValue() {
+		assertTrue(stringTable.containsValue("d"));
+		assertFalse(stringTable.containsValue("f"));
+	}
+
+	@Test
+	void testClear() {
+		stringTable.clear();
+		assertTrue(stringTable.isEmpty());
+		assertEquals(0, stringTable.entries().size());
+	}
+
+	@Test
+	void testConcurrentPuts() throws InterruptedException {
+		ConcurrentHashTable<Integer, Integer> table = new ConcurrentHashTable<Integer, Integer>(4);
+		List<Thread> threads = new ArrayList<Thread>();
+		for(int t = 0; t < 4; t++) {
+			final int offset = t;
+			threads.add(new Thread(() -> {
+				for(int i = offset; i < 40000; i += 4) {
+					table.put(i, i);
+					table.get(i - 1);
+				}
+			}));
+		}
+		for(Thread thread : threads) {
+			thread.start();
+		}
+		for(Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(40000, table.size());
+		for(int i = 0; i < 40000; i++) {
+			assertEquals(i, table.get(i));
+		}
+	}
+
+	@Test
+	void testComputeAndPutIfAbsent() {
+		assertEquals("a", stringTable.putIfAbsent(1, "z"));
+		assertEquals(null, stringTable.putIfAbsent(5, "e"));
+		assertEquals("ee", stringTable.compute(5, (k, v) -> v + v));
+		assertEquals(null, stringTable.compute(5, (k, v) -> null));
+		assertEquals("z", stringTable.getOrDefault(5, "z"));
+		assertEquals(4, stringTable.size());
+	}
+
+	@Test
+	void testConcurrentMerge() throws InterruptedException {
+		ConcurrentHashTable<Integer, Integer> counts = new ConcurrentHashTable<Integer, Integer>(4);
+		List<Thread> threads = new ArrayList<Thread>();
+		for(int t = 0; t < 4; t++) {
+			threads.add(new Thread(() -> {
+				for(int i = 0; i < 20000; i++) {
+					counts.merge(i % 100, 1, Integer::sum);
+				}
+			}));
+		}
+		for(Thread thread : threads) {
+			thread.start();
+		}
+		for(Thread thread : threads) {
+			thread.join();
+		}
+		for(int i = 0; i < 100; i++) {
+			assertEquals(800, counts.get(i));
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package assign09;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures the throughput of a shared map as the number of threads grows. The problem
+ * size is the number of threads; every timing iteration performs a fixed number of
+ * operations split evenly across the threads, with the given fraction being gets and
+ * the rest puts over a fixed key range.
+ *
+ * Compares ConcurrentHashTable with a HashTable guarded by a single lock.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class ConcurrentHashTableTimer extends TimerTemplate {
+
+	private static final int totalOps = 1 << 20;
+	private static final int keyRange = 1 << 16;
+
+	private boolean striped;
+	private double readRatio;
+	private Map<Integer, Integer> map;
+	private ExecutorService pool;
+
+	public ConcurrentHashTableTimer(int[] problemSizes, int timesToLoop, boolean striped, double readRatio) {
+		super(problemSizes, timesToLoop);
+		this.striped = striped;
+		this.readRatio = readRatio;
+	}
+
+	@Override
+	protected void setup(int n) {
+		if(pool != null) {
+			pool.shutdown();
+		}
+		pool = Executors.newFixedThreadPool(n);
+		if(striped) {
+			map = new ConcurrentHashTable<Integer, Integer>(n * 4);
+		} else {
+			map = new SynchronizedMap<Integer, Integer>(new HashTable<Integer, Integer>());
+		}
+		for(int i = 0; i < keyRange; i += 2) {
+			map.put(i, i);
+		}
+	}
+
+	@Override
+	protected void timingIteration(int n) {
+		List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+		for(int t = 0; t < n; t++) {
+			tasks.add(() -> {
+				ThreadLocalRandom r = ThreadLocalRandom.current();
+				int hits = 0;
+				for(int i = 0; i < totalOps / n; i++) {
+					int key = r.nextInt(keyRange);
+					if(r.nextDouble() < readRatio) {
+						if(map.get(key) != null) {
+							hits++;
+						}
+					} else {
+						map.put(key, i);
+					}
+				}
+				return hits;
+			});
+		}
+		runAll(tasks);
+	}
+
+	@Override
+	protected void compensationIteration(int n) {
+		List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+		for(int t = 0; t < n; t++) {
+			tasks.add(() -> {
+				ThreadLocalRandom r = ThreadLocalRandom.current();
+				int sum = 0;
+				for(int i = 0; i < totalOps / n; i++) {
+					sum += r.nextInt(keyRange);
+					if(r.nextDouble() < readRatio) {
+						sum++;
+					}
+				}
+				return sum;
+			});
+		}
+		runAll(tasks);
+	}
+
+	/**
+	 * Runs every task on the pool and waits for all of them to finish.
+	 *
+	 * @param tasks - the tasks to run
+	 */
+	private void runAll(List<Callable<Integer>> tasks) {
+		try {
+			for(Future<Integer> f : pool.invokeAll(tasks)) {
+				f.get();
+			}
+		} catch (InterruptedException | ExecutionException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public static void main(String[] args) {
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		ArrayList<Integer> ns = new ArrayList<>();
+		for(int n = 1; n <= maxThreads; n *= 2) {
+			ns.add(n);
+		}
+		int[] problemSizes = new int[ns.size()];
+		for(int i = 0; i < problemSizes.length; i++) {
+			problemSizes[i] = ns.get(i);
+		}
+
+		for(double readRatio : new double[] {0.5, 0.9, 0.99}) {
+			for(boolean striped : new boolean[] {false, true}) {
+				System.out.println((striped ? "ConcurrentHashTable" : "synchronized HashTable") + ", read ratio " + readRatio);
+				System.out.println("threads, avg time");
+				var timer = new ConcurrentHashTableTimer(problemSizes, 20, striped, readRatio);
+				var results = timer.run();
+				timer.pool.shutdown();
+				System.out.println("threads, Mops/sec");
+				for(var result : results) {
+					System.out.println(result.n() + ", " + totalOps / result.avgNanoSecs() * 1000);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Guards every operation of a map with a single lock, as a baseline.
+	 */
+	private static class SynchronizedMap<K,V> implements Map<K,V> {
+
+		private Map<K,V> inner;
+
+		SynchronizedMap(Map<K,V> inner) {
+			this.inner = inner;
+		}
+
+		public synchronized void clear() {
+			inner.clear();
+		}
+
+		public synchronized boolean containsKey(K key) {
+			return inner.containsKey(key);
+		}
+
+		public synchronized boolean containsValue(V value) {
+			return inner.containsValue(value);
+		}
+
+		public synchronized List<MapEntry<K, V>> entries() {
+			return inner.entries();
+		}
+
+		public synchronized V get(K key) {
+			return inner.get(key);
+		}
+
+		public synchronized boolean isEmpty() {
+			return inner.isEmpty();
+		}
+
+		public synchronized V put(K key, V value) {
+			return inner.put(key, value);
+		}
+
+		public synchronized V remove(K key) {
+			return inner.remove(key);
+		}
+
+		public synchronized int size() {
+			return inner.size();
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package assign09;
+
+import java.util.Arrays;
+
+/**
+ * This class represents a counting Bloom filter over hash codes. Each element sets four 4-bit
+ * counters, chosen by double hashing of its mixed hash code, so an element may later be removed
+ * by decrementing them again. If any of an element's counters is zero the element is definitely
+ * absent; otherwise it is probably present. A counter which reaches 15 sticks there, so that
+ * removals can never cause a false negative.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class CountingBloomFilter {
+
+	private static final int HASHES = 4;
+	private static final int MAX_COUNT = 15;
+	private final long[] counters;
+	private final int mask;
+
+	/**
+	 * Constructs an empty filter with about ten counters per expected element, which keeps the
+	 * false positive rate near 1% while it holds at most that many elements.
+	 *
+	 * @param expectedElements - the number of elements the filter is expected to hold
+	 */
+	public CountingBloomFilter(int expectedElements) {
+		int size = 16;
+		while(size < 10L * expectedElements) {
+			size *= 2;
+		}
+		// sixteen 4-bit counters are packed into each long
+		counters = new long[size / 16];
+		mask = size - 1;
+	}
+
+	/**
+	 * Adds an element with the given hash code.
+	 *
+	 * @param hash - the hash code of the element
+	 */
+	public void add(int hash) {
+		int h1 = HashQualityAnalyzer.mix(hash);
+		int h2 = secondHash(h1);
+		for(int i = 0; i < HASHES; i++) {
+			int index = (h1 + i * h2) & mask;
+			int count = get(index);
+			if(count < MAX_COUNT) {
+				set(index, count + 1);
+			}
+		}
+	}
+
+	/**
+	 * Removes an element with the given hash code, which must have been added before.
+	 *
+	 * @param hash - the hash code of the element
+	 */
+	public void remove(int hash) {
+		int h1 = HashQualityAnalyzer.mix(hash);
+		int h2 = secondHash(h1);
+		for(int i = 0; i < HASHES; i++) {
+			int index = (h1 + i * h2) & mask;
+			int count = get(index);
+			if(count > 0 && count < MAX_COUNT) {
+				set(index, count - 1);
+			}
+		}
+	}
+
+	/**
+	 * Determines if an element with the given hash code may have been added.
+	 *
+	 * @param hash - the hash code of the element
+	 * @return false if no such element was added, true if one probably was
+	 */
+	public boolean mightContain(int hash) {
+		int h1 = HashQualityAnalyzer.mix(hash);
+		int h2 = secondHash(h1);
+		for(int i = 0; i < HASHES; i++) {
+			if(get((h1 + i * h2) & mask) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Removes every element from the filter.
+	 */
+	public void clear() {
+		Arrays.fill(counters, 0);
+	}
+
+	/**
+	 * Derives the step between probes from the first hash. The step is odd, so the probes
+	 * of an element are distinct.
+	 */
+	private static int secondHash(int h1) {
+		return HashQualityAnalyzer.mix(h1 ^ 0x9e3779b9) | 1;
+	}
+
+	private int get(int index) {
+		return (int) (counters[index >>> 4] >>> ((index & 15) << 2)) & MAX_COUNT;
+	}
+
+	private void set(int index, int count) {
+		int shift = (index & 15) << 2;
+		counters[index >>> 4] = (counters[index >>> 4] & ~((long) MAX_COUNT << shift)) | ((long) count << shift);
+	}
+}
@@ -0,0 +1,122 @@
+package assign09;
+
+/**
+ * This class represents a HashTable with a counting Bloom filter in front of its buckets. The
+ * hash code of every key in the table is kept in the filter, so containsKey, get, getOrDefault,
+ * and remove of a key the filter has never seen return at once, without finding a bucket or
+ * walking a chain. The filter holds hash codes rather than bucket indexes, so rehashing the
+ * table leaves it valid, and it is rebuilt at twice the size whenever the table outgrows it.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <K> - key type
+ * @param <V> - value type
+ */
+public class FilteredHashTable<K,V> extends HashTable<K,V> {
+
+	private CountingBloomFilter filter;
+	private int filterCapacity;
+	private long filteredCount;
+
+	/**
+	 * Constructs an empty FilteredHashTable.
+	 */
+	public FilteredHashTable() {
+		this(false);
+	}
+
+	/**
+	 * Constructs an empty FilteredHashTable, optionally growing by incremental rehashing.
+	 *
+	 * @param incremental - true if the table should split a bounded number of buckets
+	 *                    per operation when it grows, false to rehash every entry at once
+	 */
+	public FilteredHashTable(boolean incremental) {
+		super(incremental);
+		filterCapacity = 64;
+		filter = new CountingBloomFilter(filterCapacity);
+	}
+
+	/**
+	 * @return the number of lookups and removals answered by the filter alone
+	 */
+	public long getFilteredCount() {
+		return filteredCount;
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		if(!mightContain(key)) {
+			return false;
+		}
+		return super.containsKey(key);
+	}
+
+	@Override
+	public V get(K key) {
+		if(!mightContain(key)) {
+			return null;
+		}
+		return super.get(key);
+	}
+
+	@Override
+	public V getOrDefault(K key, V defaultValue) {
+		if(!mightContain(key)) {
+			return defaultValue;
+		}
+		return super.getOrDefault(key, defaultValue);
+	}
+
+	@Override
+	public V remove(K key) {
+		if(!mightContain(key)) {
+			return null;
+		}
+		return super.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		filter.clear();
+	}
+
+	@Override
+	protected void afterInsert(MapEntry<K,V> entry) {
+		if(size() > filterCapacity) {
+			// the new entry is already in the table, so the rebuild adds it
+			filterCapacity *= 2;
+			rebuildFilter();
+		} else {
+			filter.add(entry.getKey().hashCode());
+		}
+	}
+
+	@Override
+	protected void afterRemove(MapEntry<K,V> entry) {
+		filter.remove(entry.getKey().hashCode());
+	}
+
+	/**
+	 * Checks the filter for the given key, counting the lookups it answers.
+	 */
+	private boolean mightContain(K key) {
+		if(filter.mightContain(key.hashCode())) {
+			return true;
+		}
+		filteredCount++;
+		return false;
+	}
+
+	/**
+	 * Replaces the filter with one sized for the filter capacity, holding every key in the table.
+	 */
+	private void rebuildFilter() {
+		filterCapacity = Math.max(filterCapacity, size());
+		CountingBloomFilter rebuilt = new CountingBloomFilter(filterCapacity);
+		forEach((key, value) -> rebuilt.add(key.hashCode()));
+		filter = rebuilt;
+	}
+}
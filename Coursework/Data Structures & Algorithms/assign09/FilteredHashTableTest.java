@@ -0,0 +1,130 @@
+package assign09;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is a tester class for the FilteredHashTable and CountingBloomFilter classes.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+class FilteredHashTableTest {
+
+	FilteredHashTable<Integer, String> stringTable;
+
+	@BeforeEach
+	void setup() {
+		stringTable = new FilteredHashTable<Integer, String>();
+		stringTable.put(1, "a");
+		stringTable.put(2, "b");
+		stringTable.put(3, "c");
+		stringTable.put(4, "d");
+	}
+
+	@Test
+	void testFilterHasNoFalseNegatives() {
+		CountingBloomFilter filter = new CountingBloomFilter(1000);
+		for(int i = 0; i < 1000; i++) {
+			filter.add(i);
+		}
+		for(int i = 0; i < 1000; i++) {
+			assertTrue(filter.mightContain(i));
+		}
+	}
+
+	@Test
+	void testFilterFalsePositiveRate() {
+		CountingBloomFilter filter = new CountingBloomFilter(10000);
+		for(int i = 0; i < 10000; i++) {
+			filter.add(i);
+		}
+		int falsePositives = 0;
+		for(int i = 10000; i < 110000; i++) {
+			if(filter.mightContain(i)) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 3000, "false positives: " + falsePositives);
+	}
+
+	@Test
+	void testFilterRemove() {
+		CountingBloomFilter filter = new CountingBloomFilter(10);
+		filter.add(42);
+		filter.add(42);
+		filter.remove(42);
+		assertTrue(filter.mightContain(42));
+		filter.remove(42);
+		assertFalse(filter.mightContain(42));
+		filter.add(7);
+		filter.clear();
+		assertFalse(filter.mightContain(7));
+	}
+
+	@Test
+	void testLookups() {
+		assertTrue(stringTable.containsKey(2));
+		assertEquals("c", stringTable.get(3));
+		assertFalse(stringTable.containsKey(5));
+		assertNull(stringTable.get(5));
+		assertEquals("x", stringTable.getOrDefault(5, "x"));
+		assertNull(stringTable.remove(5));
+		assertTrue(stringTable.getFilteredCount() > 0);
+	}
+
+	@Test
+	void testRemoveThenMiss() {
+		assertEquals("a", stringTable.remove(1));
+		assertFalse(stringTable.containsKey(1));
+		long filtered = stringTable.getFilteredCount();
+		stringTable.containsKey(1);
+		assertEquals(filtered + 1, stringTable.getFilteredCount());
+	}
+
+	@Test
+	void testComputeRemovalUpdatesFilter() {
+		stringTable.compute(2, (key, value) -> null);
+		assertFalse(stringTable.containsKey(2));
+		stringTable.merge(2, "b", String::concat);
+		assertEquals("b", stringTable.get(2));
+	}
+
+	@Test
+	void testClear() {
+		stringTable.clear();
+		assertTrue(stringTable.isEmpty());
+		assertFalse(stringTable.containsKey(1));
+		stringTable.put(1, "a");
+		assertTrue(stringTable.containsKey(1));
+	}
+
+	@Test
+	void testStaysInSyncThroughGrowthAndRehash() {
+		for(boolean incremental : new boolean[] { false, true }) {
+			FilteredHashTable<Integer, Integer> table = new FilteredHashTable<Integer, Integer>(incremental);
+			Random rng = new Random(42);
+			HashMap<Integer, Integer> expected = new HashMap<Integer, Integer>();
+			for(int i = 0; i < 50000; i++) {
+				int key = rng.nextInt(20000);
+				if(rng.nextInt(3) == 0) {
+					assertEquals(expected.remove(key), table.remove(key));
+				} else {
+					assertEquals(expected.put(key, i), table.put(key, i));
+				}
+				if(i % 10000 == 0) {
+					table.rehash();
+				}
+			}
+			assertEquals(expected.size(), table.size());
+			for(int key = 0; key < 20000; key++) {
+				assertEquals(expected.containsKey(key), table.containsKey(key));
+			}
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package assign09;
+
+import java.util.ArrayList;
+
+/**
+ * Times containsKey on a HashTable of n String keys, with or without a counting Bloom filter in
+ * front of it, for a batch of n lookups of which the given fraction are misses.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class FilteredHashTableTimer extends TimerTemplate {
+
+	private boolean filtered;
+	private double missRatio;
+	private HashTable<String, Integer> table;
+	private String[] lookups;
+	private int found;
+
+	public FilteredHashTableTimer(int[] problemSizes, int timesToLoop, boolean filtered, double missRatio) {
+		super(problemSizes, timesToLoop);
+		this.filtered = filtered;
+		this.missRatio = missRatio;
+	}
+
+	@Override
+	protected void setup(int n) {
+		table = filtered ? new FilteredHashTable<String, Integer>() : new HashTable<String, Integer>();
+		for(int i = 0; i < n; i++) {
+			table.put("file" + i, i);
+		}
+		lookups = new String[n];
+		for(int i = 0; i < n; i++) {
+			lookups[i] = (i < n * missRatio ? "missing" : "file") + i;
+		}
+	}
+
+	@Override
+	protected void timingIteration(int n) {
+		for(String key : lookups) {
+			if(table.containsKey(key)) {
+				found++;
+			}
+		}
+	}
+
+	@Override
+	protected void compensationIteration(int n) {
+		for(String key : lookups) {
+			if(key.length() == 0) {
+				found++;
+			}
+		}
+	}
+
+	public static void main(String[] args) {
+		ArrayList<Integer> ns = new ArrayList<>();
+		for(int n = 10000; n <= 1000000; n *= 10) {
+			ns.add(n);
+		}
+		int[] problemSizes = new int[ns.size()];
+		for(int i = 0; i < problemSizes.length; i++) {
+			problemSizes[i] = ns.get(i);
+		}
+
+		for(double missRatio : new double[] { 0.5, 0.9, 0.99 }) {
+			System.out.println("plain HashTable, miss ratio " + missRatio + "\nn, time");
+			new FilteredHashTableTimer(problemSizes, 10, false, missRatio).run();
+			System.out.println("FilteredHashTable, miss ratio " + missRatio + "\nn, time");
+			new FilteredHashTableTimer(problemSizes, 10, true, missRatio).run();
+		}
+	}
+}
@@ -0,0 +1,287 @@
+package assign09;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * This class measures how well a set of keys is distributed by their hash codes across
+ * the buckets of a HashTable, using the same index computation as HashTable
+ * (the absolute value of the hash code modulo the capacity).
+ *
+ * A report contains the bucket occupancy histogram next to the histogram expected for
+ * uniformly random hashing, the maximum chain length, the expected and observed number of
+ * probes for a successful search, the number of distinct keys sharing a hash code, and an
+ * avalanche bias for the index function.
+ *
+ * The keys given are assumed to be distinct. Keys are consumed from an Iterator, so any
+ * collection or stream (via stream.iterator()) can be analyzed.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class HashQualityAnalyzer {
+
+	/**
+	 * Analyzes the given keys using their hash codes as is.
+	 *
+	 * @param keys     - the distinct keys to be analyzed
+	 * @param capacity - the number of buckets in the table
+	 * @return a report on the distribution of the keys
+	 * @throws IllegalArgumentException if capacity is not positive
+	 */
+	public static <K> Report analyze(Iterator<K> keys, int capacity) throws IllegalArgumentException {
+		return analyze(keys, capacity, null);
+	}
+
+	/**
+	 * Analyzes the given keys, passing their hash codes through the given mixer first.
+	 *
+	 * @param keys     - the distinct keys to be analyzed
+	 * @param capacity - the number of buckets in the table
+	 * @param mixer    - the function applied to hash codes, or null to use them as is
+	 * @return a report on the distribution of the keys
+	 * @throws IllegalArgumentException if capacity is not positive
+	 */
+	public static <K> Report analyze(Iterator<K> keys, int capacity, IntUnaryOperator mixer) throws IllegalArgumentException {
+		if(capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive.");
+		}
+		int[] hashes = new int[16];
+		int count = 0;
+		int[] chainLengths = new int[capacity];
+		while(keys.hasNext()) {
+			int hash = keys.next().hashCode();
+			if(count == hashes.length) {
+				hashes = Arrays.copyOf(hashes, count * 2);
+			}
+			hashes[count++] = hash;
+			chainLengths[bucket(hash, capacity, mixer)]++;
+		}
+		hashes = Arrays.copyOf(hashes, count);
+
+		int maxChain = 0;
+		long probeTotal = 0;
+		for(int length : chainLengths) {
+			maxChain = Math.max(maxChain, length);
+			// finding the i-th key of a chain takes i probes
+			probeTotal += (long) length * (length + 1) / 2;
+		}
+		int[] histogram = new int[maxChain + 1];
+		for(int length : chainLengths) {
+			histogram[length]++;
+		}
+
+		double avalanche = avalancheBias(hashes, capacity, mixer);
+
+		Arrays.sort(hashes);
+		int sharedHashes = 0;
+		for(int i = 1; i < count; i++) {
+			if(hashes[i] == hashes[i - 1]) {
+				sharedHashes++;
+			}
+		}
+
+		double loadFactor = (double) count / capacity;
+		double observedProbes = count == 0 ? 0 : (double) probeTotal / count;
+		return new Report(count, capacity, histogram, maxChain, 1 + loadFactor / 2, observedProbes, sharedHashes, avalanche);
+	}
+
+	/**
+	 * A strong 32-bit finalizer (the MurmurHash3 fmix32 step). Every input bit affects every
+	 * output bit, so hash codes that differ only in a few bits, or only in their high bits,
+	 * still land in unrelated buckets. Can be passed to HashTable as HashQualityAnalyzer::mix.
+	 *
+	 * @param h - the hash code to be mixed
+	 * @return the mixed hash code
+	 */
+	public static int mix(int h) {
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	/**
+	 * Measures how far the index function is from the strict avalanche criterion over the
+	 * given hash codes. For a sample of hash codes, each input bit is flipped and the bits of
+	 * the resulting bucket index that change are counted. Ideally each index bit flips half
+	 * of the time; the bias is the mean distance from one half, scaled so that 0 is ideal and
+	 * 1 means index bits never or always flip.
+	 *
+	 * @param hashes   - the hash codes to sample, before mixing
+	 * @param capacity - the number of buckets in the table
+	 * @param mixer    - the function applied to hash codes, or null to use them as is
+	 * @return the avalanche bias, between 0 and 1
+	 */
+	private static double avalancheBias(int[] hashes, int capacity, IntUnaryOperator mixer) {
+		int indexBits = 32 - Integer.numberOfLeadingZeros(Math.max(capacity - 1, 1));
+		int samples = Math.min(hashes.length, 4096);
+		if(samples == 0) {
+			return 0;
+		}
+		int step = hashes.length / samples;
+		long[][] flips = new long[32][indexBits];
+		for(int s = 0; s < samples; s++) {
+			int hash = hashes[s * step];
+			int index = bucket(hash, capacity, mixer);
+			for(int in = 0; in < 32; in++) {
+				int changed = index ^ bucket(hash ^ (1 << in), capacity, mixer);
+				for(int out = 0; out < indexBits; out++) {
+					flips[in][out] += (changed >>> out) & 1;
+				}
+			}
+		}
+		double bias = 0;
+		for(int in = 0; in < 32; in++) {
+			for(int out = 0; out < indexBits; out++) {
+				bias += Math.abs((double) flips[in][out] / samples - 0.5) * 2;
+			}
+		}
+		return bias / (32 * indexBits);
+	}
+
+	/**
+	 * Computes the bucket index of an unmixed hash code, as HashTable does.
+	 *
+	 * @param hash     - the hash code, before mixing
+	 * @param capacity - the number of buckets in the table
+	 * @param mixer    - the function applied to hash codes, or null to use them as is
+	 * @return the bucket index
+	 */
+	private static int bucket(int hash, int capacity, IntUnaryOperator mixer) {
+		if(mixer != null) {
+			hash = mixer.applyAsInt(hash);
+		}
+		return Math.abs(hash%capacity);
+	}
+
+	/**
+	 * The results of analyzing a set of keys.
+	 */
+	public static class Report {
+
+		private int keyCount;
+		private int capacity;
+		private int[] histogram;
+		private int maxChainLength;
+		private double expectedProbes;
+		private double observedProbes;
+		private int sharedHashCodes;
+		private double avalancheBias;
+
+		private Report(int keyCount, int capacity, int[] histogram, int maxChainLength, double expectedProbes,
+				double observedProbes, int sharedHashCodes, double avalancheBias) {
+			this.keyCount = keyCount;
+			this.capacity = capacity;
+			this.histogram = histogram;
+			this.maxChainLength = maxChainLength;
+			this.expectedProbes = expectedProbes;
+			this.observedProbes = observedProbes;
+			this.sharedHashCodes = sharedHashCodes;
+			this.avalancheBias = avalancheBias;
+		}
+
+		/**
+		 * @return the number of buckets holding each chain length, indexed by length
+		 */
+		public int[] getHistogram() {
+			return histogram.clone();
+		}
+
+		/**
+		 * @return the length of the longest chain
+		 */
+		public int getMaxChainLength() {
+			return maxChainLength;
+		}
+
+		/**
+		 * @return the average probes for a successful search under uniform hashing, 1 + load / 2
+		 */
+		public double getExpectedProbes() {
+			return expectedProbes;
+		}
+
+		/**
+		 * @return the average probes for a successful search over the analyzed keys
+		 */
+		public double getObservedProbes() {
+			return observedProbes;
+		}
+
+		/**
+		 * @return the number of keys whose hash code equals that of an earlier key
+		 */
+		public int getSharedHashCodes() {
+			return sharedHashCodes;
+		}
+
+		/**
+		 * @return the avalanche bias of the index function, 0 is ideal and 1 is worst
+		 */
+		public double getAvalancheBias() {
+			return avalancheBias;
+		}
+
+		/**
+		 * Returns the expected number of buckets holding the given chain length, under
+		 * uniformly random hashing (a Poisson distribution with mean equal to the load factor).
+		 *
+		 * @param length - the chain length
+		 * @return the expected number of buckets with that chain length
+		 */
+		public double expectedBuckets(int length) {
+			double load = (double) keyCount / capacity;
+			double p = Math.exp(-load);
+			for(int i = 1; i <= length; i++) {
+				p *= load / i;
+			}
+			return p * capacity;
+		}
+
+		/**
+		 * Generates a textual summary of this report.
+		 */
+		public String toString() {
+			StringBuilder result = new StringBuilder();
+			result.append(keyCount + " keys in " + capacity + " buckets\n");
+			result.append("max chain length: " + maxChainLength + "\n");
+			result.append(String.format("probes per hit: expected %.3f, observed %.3f%n", expectedProbes, observedProbes));
+			result.append("keys sharing a hash code: " + sharedHashCodes + "\n");
+			result.append(String.format("avalanche bias: %.3f%n", avalancheBias));
+			result.append("chain length, buckets, expected buckets\n");
+			for(int length = 0; length < histogram.length; length++) {
+				if(histogram[length] > 0 || expectedBuckets(length) >= 0.5) {
+					result.append(String.format("%d, %d, %.1f%n", length, histogram[length], expectedBuckets(length)));
+				}
+			}
+			return result.toString();
+		}
+	}
+
+	public static void main(String[] args) {
+		Random rng = new Random(2420);
+		int n = 10000;
+		List<StudentBadHash> bad = new ArrayList<StudentBadHash>();
+		List<StudentMediumHash> medium = new ArrayList<StudentMediumHash>();
+		List<StudentGoodHash> good = new ArrayList<StudentGoodHash>();
+		for(int i = 0; i < n; i++) {
+			int uid = 1000000 + i;
+			String first = "F" + Integer.toString(rng.nextInt(1 << 20), 36);
+			String last = "L" + Integer.toString(rng.nextInt(1 << 20), 36);
+			bad.add(new StudentBadHash(uid, first, last));
+			medium.add(new StudentMediumHash(uid, first, last));
+			good.add(new StudentGoodHash(uid, first, last));
+		}
+		System.out.println("StudentBadHash\n" + analyze(bad.iterator(), 1024));
+		System.out.println("StudentMediumHash\n" + analyze(medium.iterator(), 1024));
+		System.out.println("StudentGoodHash\n" + analyze(good.iterator(), 1024));
+		System.out.println("StudentGoodHash, mixed\n" + analyze(good.iterator(), 1024, HashQualityAnalyzer::mix));
+	}
+}
@@ -0,0 +1,70 @@
+package assign09;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is a tester class for the HashQualityAnalyzer class.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+class HashQualityAnalyzerTest {
+
+	@Test
+	void testHistogramCoversAllBuckets() {
+		List<Integer> keys = new ArrayList<Integer>();
+		for(int i = 0; i < 500; i++) {
+			keys.add(i);
+		}
+		HashQualityAnalyzer.Report report = HashQualityAnalyzer.analyze(keys.iterator(), 100);
+		int buckets = 0;
+		for(int count : report.getHistogram()) {
+			buckets += count;
+		}
+		assertEquals(100, buckets);
+		assertEquals(5, report.getMaxChainLength());
+		assertEquals(0, report.getSharedHashCodes());
+	}
+
+	@Test
+	void testBadHashLongChains() {
+		List<StudentBadHash> keys = new ArrayList<StudentBadHash>();
+		for(int i = 0; i < 100; i++) {
+			keys.add(new StudentBadHash(1000000 + i, "Joe", "Last" + i));
+		}
+		HashQualityAnalyzer.Report report = HashQualityAnalyzer.analyze(keys.iterator(), 64);
+		assertEquals(100, report.getMaxChainLength());
+		assertEquals(99, report.getSharedHashCodes());
+		assertTrue(report.getObservedProbes() > report.getExpectedProbes());
+	}
+
+	@Test
+	void testMixerLowersAvalancheBias() {
+		List<Integer> keys = new ArrayList<Integer>();
+		for(int i = 0; i < 1000; i++) {
+			keys.add(i);
+		}
+		double plain = HashQualityAnalyzer.analyze(keys.iterator(), 1024).getAvalancheBias();
+		double mixed = HashQualityAnalyzer.analyze(keys.iterator(), 1024, HashQualityAnalyzer::mix).getAvalancheBias();
+		assertTrue(mixed < 0.1);
+		assertTrue(plain > mixed);
+	}
+
+	@Test
+	void testHashTableWithMixer() {
+		HashTable<Integer, Integer> table = new HashTable<Integer, Integer>(true, HashQualityAnalyzer::mix);
+		for(int i = 0; i < 2000; i++) {
+			table.put(i, -i);
+		}
+		for(int i = 0; i < 2000; i++) {
+			assertEquals(-i, table.get(i));
+		}
+		assertNull(table.remove(-5));
+		assertEquals(-5, table.remove(5));
+	}
+}
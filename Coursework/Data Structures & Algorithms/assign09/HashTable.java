@@ -1,12 +1,27 @@
 package assign09;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
 
 /**
  * This class represents a HashTable which resolves collisions using separate chaining and maintains a load factor of less than 10.
  * 
+ * In incremental rehash mode the table does not redistribute every entry at once when it grows.
+ * Because a key's bucket index is its hash code modulo the capacity, doubling the capacity splits
+ * old bucket i into buckets i and i + old capacity. The split buckets are appended one at a time,
+ * a bounded number on each operation, and lookups consult the old capacity for buckets that have
+ * not been split yet.
+ * 
+ * Subclasses can supply their own entries and observe reads, writes, insertions, and removals
+ * through protected hooks, which CachingHashTable uses to bound the size of the table.
+ * 
  * @author Jake Heairld and Anton Smolyanyy
  * @version April 03, 2024
  *
@@ -16,17 +31,48 @@ import java.util.List;
 public class HashTable<K,V> implements Map<K,V> {
 
 	final private int loadThreshold = 10;
+	final private int splitsPerOperation = 2;
 	private int capacity;
 	private int elemCount;
 	private ArrayList<LinkedList<MapEntry<K,V>>> backArray;
+	private boolean incremental;
+	private IntUnaryOperator mixer;
+	private int splitCapacity;
+	private int splitIndex;
 	
 	/**
 	 * Constructs an empty HashTable.
 	 */
 	public HashTable() {
+		this(false);
+	}
+	
+	/**
+	 * Constructs an empty HashTable, optionally growing by incremental rehashing.
+	 * 
+	 * @param incremental - true if the table should split a bounded number of buckets
+	 *                    per operation when it grows, false to rehash every entry at once
+	 */
+	public HashTable(boolean incremental) {
+		this(incremental, null);
+	}
+	
+	/**
+	 * Constructs an empty HashTable which passes every key's hash code through the given
+	 * mixing function before computing its bucket index, e.g. HashQualityAnalyzer::mix.
+	 * 
+	 * @param incremental - true if the table should split a bounded number of buckets
+	 *                    per operation when it grows, false to rehash every entry at once
+	 * @param mixer       - the function applied to hash codes, or null to use them as is
+	 */
+	public HashTable(boolean incremental, IntUnaryOperator mixer) {
+		this.mixer = mixer;
 		backArray = new ArrayList<LinkedList<MapEntry<K,V>>>();
 		capacity = 10;
 		elemCount = 0;
+		this.incremental = incremental;
+		splitCapacity = 0;
+		splitIndex = 0;
 		for(int i = 0; i < capacity; i++) {
 			backArray.add(new LinkedList<MapEntry<K,V>>());
 		}
@@ -36,16 +82,16 @@ public class HashTable<K,V> implements Map<K,V> {
 	 * Doubles capacity of hash table and reassigns entries.
 	 */
 	public void rehash() {
-		List<MapEntry<K,V>> allEntries = entries();
-		for(LinkedList<MapEntry<K,V>> list : backArray) {
-			list.clear();
-		}
-		while(backArray.size() != capacity) {
+		finishSplit();
+		ArrayList<LinkedList<MapEntry<K,V>>> oldArray = backArray;
+		backArray = new ArrayList<LinkedList<MapEntry<K,V>>>(capacity);
+		for(int i = 0; i < capacity; i++) {
 			backArray.add(new LinkedList<MapEntry<K,V>>());
 		}
-		for(MapEntry<K,V> entry : allEntries) {
-			this.put(entry.getKey(), entry.getValue());
-			elemCount--;
+		for(LinkedList<MapEntry<K,V>> list : oldArray) {
+			for(MapEntry<K,V> entry : list) {
+				backArray.get(Math.abs(hash(entry.getKey())%capacity)).add(entry);
+			}
 		}
 	}
 	
@@ -66,13 +112,7 @@ public class HashTable<K,V> implements Map<K,V> {
 	 * @return true if the HashTable contains the given key, false otherwise
 	 */
 	public boolean containsKey(K key) {
-		int index = Math.abs(key.hashCode()%capacity);
-		for(MapEntry<K,V> entry : backArray.get(index)) {
-			if(entry.getKey().equals(key)) {
-				return true;
-			}
-		}
-		return false;
+		return findEntry(bucketFor(key), key) != null;
 	}
 
 	/**
@@ -106,6 +146,40 @@ public class HashTable<K,V> implements Map<K,V> {
 		return entryList;
 	}
 
+	/**
+	 * Performs the given action on every entry in the HashTable, without copying the entries.
+	 * 
+	 * @param action - the action to be performed on each key and value
+	 */
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		finishSplit();
+		for(LinkedList<MapEntry<K,V>> list : backArray) {
+			for(MapEntry<K,V> entry : list) {
+				action.accept(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Returns a reusable cursor which walks the buckets of the HashTable in place.
+	 * 
+	 * @return a cursor positioned before the first entry
+	 */
+	public MapCursor<K,V> cursor() {
+		return new BucketCursor();
+	}
+
+	/**
+	 * Returns a Spliterator over the entries of the HashTable which splits by ranges of
+	 * buckets, so a parallel stream can scan the table without copying it.
+	 * 
+	 * @return a Spliterator over the entries of the HashTable
+	 */
+	public Spliterator<MapEntry<K,V>> spliterator() {
+		finishSplit();
+		return new BucketSpliterator(0, backArray.size());
+	}
+
 	/**
 	 * Returns the value mapped to the given key, if the key exists in the HashTable.
 	 * 
@@ -113,13 +187,29 @@ public class HashTable<K,V> implements Map<K,V> {
 	 * @return value mapped to given key if key is present, null otherwise
 	 */
 	public V get(K key) {
-		int index = Math.abs(key.hashCode()%capacity);
-		for(MapEntry<K,V> entry : backArray.get(index)) {
-			if(entry.getKey().equals(key)) {
-				return entry.getValue();
-			}
+		MapEntry<K,V> entry = findEntry(bucketFor(key), key);
+		afterRead(key, entry);
+		if(entry == null) {
+			return null;
 		}
-		return null;
+		return entry.getValue();
+	}
+
+	/**
+	 * Returns the value mapped to the given key, or the given default if the key does not
+	 * exist in the HashTable.
+	 * 
+	 * @param key          - the key whose mapped value is to be returned
+	 * @param defaultValue - the value returned if key is not present
+	 * @return value mapped to given key if key is present, defaultValue otherwise
+	 */
+	public V getOrDefault(K key, V defaultValue) {
+		MapEntry<K,V> entry = findEntry(bucketFor(key), key);
+		afterRead(key, entry);
+		if(entry == null) {
+			return defaultValue;
+		}
+		return entry.getValue();
 	}
 
 	/**
@@ -142,26 +232,90 @@ public class HashTable<K,V> implements Map<K,V> {
 	 *         previous mapping for key
 	 */
 	public V put(K key, V value) {
-		 if(containsKey(key)) {
-			int index = Math.abs(key.hashCode()%capacity);
-			for(MapEntry<K,V> entry : backArray.get(index)) {
-				if(entry.getKey().equals(key)) {
-					V prevValue = entry.getValue();
-					entry.setValue(value);
-					return prevValue;
-				}
+		LinkedList<MapEntry<K,V>> bucket = bucketFor(key);
+		MapEntry<K,V> entry = findEntry(bucket, key);
+		if(entry != null) {
+			V prevValue = entry.getValue();
+			entry.setValue(value);
+			afterWrite(entry);
+			return prevValue;
+		}
+		addEntry(bucket, key, value);
+		return null;
+	}
+
+	/**
+	 * Associates the specified value with the specified key in this HashTable, only if
+	 * the key does not already exist in this map.
+	 * 
+	 * @param key   - given key
+	 * @param value - value which is to be mapped to key
+	 * @return the value currently mapped to the key, or null if there was no
+	 *         previous mapping for key and value was added
+	 */
+	public V putIfAbsent(K key, V value) {
+		LinkedList<MapEntry<K,V>> bucket = bucketFor(key);
+		MapEntry<K,V> entry = findEntry(bucket, key);
+		if(entry != null) {
+			afterRead(key, entry);
+			return entry.getValue();
+		}
+		addEntry(bucket, key, value);
+		return null;
+	}
+
+	/**
+	 * Computes a new value for the given key from the key and its current value (null if
+	 * the key is not present). Removes the key if the new value is null, otherwise maps
+	 * the key to the new value.
+	 * 
+	 * @param key               - given key
+	 * @param remappingFunction - computes the new value from the key and current value
+	 * @return the new value mapped to the key, or null if the key is no longer present
+	 */
+	public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		LinkedList<MapEntry<K,V>> bucket = bucketFor(key);
+		Iterator<MapEntry<K,V>> iter = bucket.iterator();
+		while(iter.hasNext()) {
+			MapEntry<K,V> entry = iter.next();
+			if(entry.getKey().equals(key)) {
+				V newValue = remappingFunction.apply(key, entry.getValue());
+				replaceOrRemove(iter, entry, newValue);
+				return newValue;
 			}
-			return null;
-		} else {
-			int index = Math.abs(key.hashCode()%capacity);
-			backArray.get(index).add(new MapEntry<K,V>(key, value));
-			elemCount++;
-			if((double)elemCount/capacity >= loadThreshold) {
-				capacity *= 2;
-				rehash();
-			} 
-			return null;
 		}
+		V newValue = remappingFunction.apply(key, null);
+		if(newValue != null) {
+			addEntry(bucket, key, newValue);
+		}
+		return newValue;
+	}
+
+	/**
+	 * Maps the given key to the given value if the key has no value in the HashTable,
+	 * otherwise combines the current value with the given value. Removes the key if the
+	 * resulting value is null, so a null value leaves an absent key absent.
+	 * 
+	 * @param key               - given key
+	 * @param value             - value which is to be mapped to or combined with the current value
+	 * @param remappingFunction - combines the current value with value
+	 * @return the new value mapped to the key, or null if the key is no longer present
+	 */
+	public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		LinkedList<MapEntry<K,V>> bucket = bucketFor(key);
+		Iterator<MapEntry<K,V>> iter = bucket.iterator();
+		while(iter.hasNext()) {
+			MapEntry<K,V> entry = iter.next();
+			if(entry.getKey().equals(key)) {
+				V newValue = entry.getValue() == null ? value : remappingFunction.apply(entry.getValue(), value);
+				replaceOrRemove(iter, entry, newValue);
+				return newValue;
+			}
+		}
+		if(value != null) {
+			addEntry(bucket, key, value);
+		}
+		return value;
 	}
 
 	/**
@@ -171,20 +325,17 @@ public class HashTable<K,V> implements Map<K,V> {
 	 * @return value which was removed if key was present, null otherwise
 	 */
 	public V remove(K key) {
-		if(!containsKey(key)) {
-			return null;
-		}
-		int index = Math.abs(key.hashCode()%capacity);
-		V value = null;
-		for(int i = 0; i < backArray.get(index).size(); i++) {
-			if(backArray.get(index).get(i).getKey().equals(key)) {
-				value = backArray.get(index).get(i).getValue();
-				backArray.get(index).remove(i);
-				break;
+		Iterator<MapEntry<K,V>> iter = bucketFor(key).iterator();
+		while(iter.hasNext()) {
+			MapEntry<K,V> entry = iter.next();
+			if(entry.getKey().equals(key)) {
+				iter.remove();
+				elemCount--;
+				afterRemove(entry);
+				return entry.getValue();
 			}
 		}
-		elemCount--;
-		return value;
+		return null;
 	}
 
 	/**
@@ -195,4 +346,302 @@ public class HashTable<K,V> implements Map<K,V> {
 	public int size() {
 		return this.elemCount;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Returns the bucket the given key belongs in, after advancing any split in progress.
+	 * 
+	 * @param key - the key whose bucket is to be found
+	 * @return the bucket for the key
+	 */
+	private LinkedList<MapEntry<K,V>> bucketFor(K key) {
+		splitStep();
+		return backArray.get(bucketIndex(key));
+	}
+	
+	/**
+	 * Finds the entry for the given key in the given bucket.
+	 * 
+	 * @param bucket - the bucket the key belongs in
+	 * @param key    - the key which is to be found
+	 * @return the entry for the key, or null if the key is not present
+	 */
+	private MapEntry<K,V> findEntry(LinkedList<MapEntry<K,V>> bucket, K key) {
+		for(MapEntry<K,V> entry : bucket) {
+			if(entry.getKey().equals(key)) {
+				return entry;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Adds a new entry for a key known to be absent to the given bucket, and grows the
+	 * table if the load threshold has been reached.
+	 * 
+	 * @param bucket - the bucket the key belongs in
+	 * @param key    - given key
+	 * @param value  - value which is to be mapped to key
+	 */
+	private void addEntry(LinkedList<MapEntry<K,V>> bucket, K key, V value) {
+		MapEntry<K,V> entry = newEntry(key, value);
+		bucket.add(entry);
+		elemCount++;
+		if((double)elemCount/capacity >= loadThreshold) {
+			if(incremental) {
+				startSplit();
+			} else {
+				capacity *= 2;
+				rehash();
+			}
+		}
+		afterInsert(entry);
+	}
+	
+	/**
+	 * Sets the value of the entry last returned by the given iterator, or removes the entry
+	 * if the new value is null.
+	 * 
+	 * @param iter     - the iterator positioned at entry
+	 * @param entry    - the entry being updated
+	 * @param newValue - the new value for the entry
+	 */
+	private void replaceOrRemove(Iterator<MapEntry<K,V>> iter, MapEntry<K,V> entry, V newValue) {
+		if(newValue == null) {
+			iter.remove();
+			elemCount--;
+			afterRemove(entry);
+		} else {
+			entry.setValue(newValue);
+			afterWrite(entry);
+		}
+	}
+	
+	/**
+	 * Creates the entry stored for a newly added key. Subclasses may return a subclass of
+	 * MapEntry which carries extra bookkeeping, such as the links of an eviction order.
+	 * 
+	 * @param key   - given key
+	 * @param value - value which is to be mapped to key
+	 * @return a new entry for the key and value
+	 */
+	protected MapEntry<K,V> newEntry(K key, V value) {
+		return new MapEntry<K,V>(key, value);
+	}
+	
+	/**
+	 * Called after a lookup by get, getOrDefault, or putIfAbsent of a key already present.
+	 * 
+	 * @param key   - the key which was looked up
+	 * @param entry - the entry found for the key, or null if the key is not present
+	 */
+	protected void afterRead(K key, MapEntry<K,V> entry) {
+	}
+	
+	/**
+	 * Called after the value of an existing entry has been replaced.
+	 * 
+	 * @param entry - the entry which was updated
+	 */
+	protected void afterWrite(MapEntry<K,V> entry) {
+	}
+	
+	/**
+	 * Called after a new entry has been added, once the table has finished growing.
+	 * 
+	 * @param entry - the entry which was added
+	 */
+	protected void afterInsert(MapEntry<K,V> entry) {
+	}
+	
+	/**
+	 * Called after an entry has been removed by remove, compute, or merge.
+	 * 
+	 * @param entry - the entry which was removed
+	 */
+	protected void afterRemove(MapEntry<K,V> entry) {
+	}
+	
+	/**
+	 * Determines the index of the bucket the given key belongs in. While the table is being
+	 * split, keys whose old bucket has not been split yet are still found at their old index.
+	 * 
+	 * @param key - the key whose bucket is to be found
+	 * @return the index of the bucket for the key
+	 */
+	private int bucketIndex(K key) {
+		int hash = hash(key);
+		if(splitCapacity > 0) {
+			int oldIndex = Math.abs(hash%splitCapacity);
+			if(oldIndex >= splitIndex) {
+				return oldIndex;
+			}
+		}
+		return Math.abs(hash%capacity);
+	}
+	
+	/**
+	 * Returns the hash code of the given key, passed through the mixer if one is in use.
+	 * 
+	 * @param key - the key to be hashed
+	 * @return the hash code used to index the key
+	 */
+	private int hash(K key) {
+		if(mixer == null) {
+			return key.hashCode();
+		}
+		return mixer.applyAsInt(key.hashCode());
+	}
+	
+	/**
+	 * Begins an incremental doubling of the capacity. Any split still in progress is
+	 * completed first.
+	 */
+	private void startSplit() {
+		finishSplit();
+		splitCapacity = capacity;
+		splitIndex = 0;
+		capacity *= 2;
+		backArray.ensureCapacity(capacity);
+	}
+	
+	/**
+	 * Splits up to a bounded number of old buckets, if a split is in progress.
+	 */
+	private void splitStep() {
+		for(int i = 0; i < splitsPerOperation && splitCapacity > 0; i++) {
+			splitNextBucket();
+		}
+	}
+	
+	/**
+	 * Splits every remaining old bucket, if a split is in progress.
+	 */
+	private void finishSplit() {
+		while(splitCapacity > 0) {
+			splitNextBucket();
+		}
+	}
+	
+	/**
+	 * Splits the next old bucket in two, moving the entries which now belong in the upper
+	 * half of the table into a newly appended bucket.
+	 */
+	private void splitNextBucket() {
+		LinkedList<MapEntry<K,V>> lower = backArray.get(splitIndex);
+		LinkedList<MapEntry<K,V>> upper = new LinkedList<MapEntry<K,V>>();
+		Iterator<MapEntry<K,V>> iter = lower.iterator();
+		while(iter.hasNext()) {
+			MapEntry<K,V> entry = iter.next();
+			if(Math.abs(hash(entry.getKey())%capacity) != splitIndex) {
+				iter.remove();
+				upper.add(entry);
+			}
+		}
+		backArray.add(upper);
+		splitIndex++;
+		if(splitIndex == splitCapacity) {
+			splitCapacity = 0;
+			splitIndex = 0;
+		}
+	}
+	
+	/**
+	 * A cursor which walks the buckets of this table in order. Any split in progress is
+	 * finished when a scan starts, so lookups during the scan do not move entries.
+	 */
+	private class BucketCursor implements MapCursor<K,V> {
+		
+		private int bucket;
+		private Iterator<MapEntry<K,V>> iter;
+		private MapEntry<K,V> current;
+		
+		BucketCursor() {
+			reset();
+		}
+		
+		public boolean next() {
+			while(!iter.hasNext()) {
+				bucket++;
+				if(bucket >= backArray.size()) {
+					current = null;
+					return false;
+				}
+				iter = backArray.get(bucket).iterator();
+			}
+			current = iter.next();
+			return true;
+		}
+		
+		public K getKey() {
+			return current.getKey();
+		}
+		
+		public V getValue() {
+			return current.getValue();
+		}
+		
+		public void reset() {
+			finishSplit();
+			bucket = 0;
+			iter = backArray.get(0).iterator();
+			current = null;
+		}
+	}
+	
+	/**
+	 * A Spliterator over a range of buckets of this table, which splits by halving the range.
+	 */
+	private class BucketSpliterator implements Spliterator<MapEntry<K,V>> {
+		
+		private int bucket;
+		private int end;
+		private Iterator<MapEntry<K,V>> iter;
+		
+		BucketSpliterator(int start, int end) {
+			this.bucket = start;
+			this.end = end;
+		}
+		
+		public boolean tryAdvance(Consumer<? super MapEntry<K,V>> action) {
+			while(iter == null || !iter.hasNext()) {
+				if(bucket >= end) {
+					return false;
+				}
+				iter = backArray.get(bucket++).iterator();
+			}
+			action.accept(iter.next());
+			return true;
+		}
+		
+		public void forEachRemaining(Consumer<? super MapEntry<K,V>> action) {
+			if(iter != null) {
+				iter.forEachRemaining(action);
+			}
+			for(; bucket < end; bucket++) {
+				for(MapEntry<K,V> entry : backArray.get(bucket)) {
+					action.accept(entry);
+				}
+			}
+		}
+		
+		public Spliterator<MapEntry<K,V>> trySplit() {
+			int mid = bucket + (end - bucket)/2;
+			if(mid <= bucket) {
+				return null;
+			}
+			BucketSpliterator prefix = new BucketSpliterator(bucket, mid);
+			prefix.iter = iter;
+			iter = null;
+			bucket = mid;
+			return prefix;
+		}
+		
+		public long estimateSize() {
+			return (long) elemCount * (end - bucket) / Math.max(backArray.size(), 1);
+		}
+		
+		public int characteristics() {
+			return Spliterator.DISTINCT | Spliterator.NONNULL;
+		}
+	}
+}
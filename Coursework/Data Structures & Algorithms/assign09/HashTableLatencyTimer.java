@@ -0,0 +1,76 @@
+package assign09;
+
+import java.util.Arrays;
+
+/**
+ * Measures the latency of individual HashTable puts, to compare the tail latency of
+ * stop-the-world rehashing with incremental rehashing. Every put in the timed loop is
+ * recorded, and the p50, p99, p999 and maximum latencies are reported per problem size.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class HashTableLatencyTimer extends TimerTemplate {
+
+	private boolean incremental;
+	private long[] latencies;
+	private int sampleCount;
+	private int timesToLoop;
+	private long sink;
+
+	public HashTableLatencyTimer(int[] problemSizes, int timesToLoop, boolean incremental) {
+		super(problemSizes, timesToLoop);
+		this.timesToLoop = timesToLoop;
+		this.incremental = incremental;
+	}
+
+	@Override
+	protected void setup(int n) {
+		latencies = new long[n * timesToLoop];
+		sampleCount = 0;
+	}
+
+	@Override
+	protected void timingIteration(int n) {
+		HashTable<Integer, Integer> table = new HashTable<Integer, Integer>(incremental);
+		for(int i = 0; i < n; i++) {
+			long start = System.nanoTime();
+			table.put(i, i);
+			latencies[sampleCount++] = System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	protected void compensationIteration(int n) {
+		for(int i = 0; i < n; i++) {
+			long start = System.nanoTime();
+			sink += System.nanoTime() - start;
+		}
+	}
+
+	/**
+	 * Returns the given percentile of the put latencies recorded by the last run.
+	 *
+	 * @param percentile - the percentile to find, between 0 and 1
+	 * @return the latency in NS at the given percentile
+	 */
+	public long percentile(double percentile) {
+		long[] sorted = Arrays.copyOf(latencies, sampleCount);
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(percentile * sampleCount) - 1;
+		return sorted[Math.max(index, 0)];
+	}
+
+	public static void main(String[] args) {
+		int[] problemSizes = new int[] {10000, 100000, 1000000};
+		System.out.println("n, mode, p50, p99, p999, max (NS)");
+		for(int n : problemSizes) {
+			for(boolean incremental : new boolean[] {false, true}) {
+				var timer = new HashTableLatencyTimer(new int[] {n}, 10, incremental);
+				timer.run();
+				System.out.println(n + ", " + (incremental ? "incremental" : "full") + ", " + timer.percentile(0.5)
+						+ ", " + timer.percentile(0.99) + ", " + timer.percentile(0.999) + ", " + timer.percentile(1.0));
+			}
+		}
+	}
+}
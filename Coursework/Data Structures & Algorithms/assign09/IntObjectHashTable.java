@@ -0,0 +1,301 @@
+package assign09;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class represents a HashTable with primitive int keys, so keys are never boxed.
+ * Its operations mirror those of Map, taking and returning int keys. Collisions are
+ * resolved using linear probing over parallel key and value arrays, and removals use
+ * backward-shift deletion. Key 0 marks an empty slot, so a mapping for key 0 is held
+ * outside the arrays. The load factor is kept at or below 0.75.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <V> - value type
+ */
+public class IntObjectHashTable<V> {
+
+	/**
+	 * An action performed on an int key and its value.
+	 */
+	public interface IntObjectConsumer<V> {
+		public void accept(int key, V value);
+	}
+
+	final private double loadThreshold = 0.75;
+	private int capacity;
+	private int mask;
+	private int elemCount;
+	private int[] keys;
+	private Object[] values;
+	private boolean hasZeroKey;
+	private V zeroValue;
+
+	/**
+	 * Constructs an empty IntObjectHashTable.
+	 */
+	public IntObjectHashTable() {
+		this(12);
+	}
+
+	/**
+	 * Constructs an empty IntObjectHashTable large enough to hold the given number of
+	 * entries without rehashing.
+	 *
+	 * @param expectedSize - the number of entries the table is expected to hold
+	 * @throws IllegalArgumentException if expectedSize is negative
+	 */
+	public IntObjectHashTable(int expectedSize) {
+		if(expectedSize < 0) {
+			throw new IllegalArgumentException("Expected size cannot be negative.");
+		}
+		capacity = 16;
+		while(capacity * loadThreshold < expectedSize) {
+			capacity *= 2;
+		}
+		mask = capacity - 1;
+		keys = new int[capacity];
+		values = new Object[capacity];
+	}
+
+	/**
+	 * Removes all entries from this IntObjectHashTable.
+	 */
+	public void clear() {
+		elemCount = 0;
+		hasZeroKey = false;
+		zeroValue = null;
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, null);
+	}
+
+	/**
+	 * Determines if the IntObjectHashTable contains the given key.
+	 *
+	 * @param key - the key which is to be found
+	 * @return true if the IntObjectHashTable contains the given key, false otherwise
+	 */
+	public boolean containsKey(int key) {
+		if(key == 0) {
+			return hasZeroKey;
+		}
+		return findSlot(key) >= 0;
+	}
+
+	/**
+	 * Determines if the IntObjectHashTable contains the given value.
+	 *
+	 * @param value - the value which is to be found
+	 * @return true if the IntObjectHashTable contains the given value, false otherwise
+	 */
+	public boolean containsValue(V value) {
+		if(hasZeroKey && zeroValue.equals(value)) {
+			return true;
+		}
+		for(int i = 0; i < capacity; i++) {
+			if(keys[i] != 0 && values[i].equals(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a List of the Key and Value pairs stored in the Hash Table. The keys are
+	 * boxed, so prefer forEach for scans.
+	 *
+	 * @return List of key value pairs
+	 */
+	@SuppressWarnings("unchecked")
+	public List<MapEntry<Integer, V>> entries() {
+		List<MapEntry<Integer, V>> entryList = new ArrayList<MapEntry<Integer, V>>(size());
+		if(hasZeroKey) {
+			entryList.add(new MapEntry<Integer, V>(0, zeroValue));
+		}
+		for(int i = 0; i < capacity; i++) {
+			if(keys[i] != 0) {
+				entryList.add(new MapEntry<Integer, V>(keys[i], (V) values[i]));
+			}
+		}
+		return entryList;
+	}
+
+	/**
+	 * Performs the given action on every entry in the IntObjectHashTable.
+	 *
+	 * @param action - the action to be performed on each key and value
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(IntObjectConsumer<? super V> action) {
+		if(hasZeroKey) {
+			action.accept(0, zeroValue);
+		}
+		for(int i = 0; i < capacity; i++) {
+			if(keys[i] != 0) {
+				action.accept(keys[i], (V) values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the value mapped to the given key, if the key exists in the IntObjectHashTable.
+	 *
+	 * @param key - the key whose mapped value is to be returned
+	 * @return value mapped to given key if key is present, null otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(int key) {
+		if(key == 0) {
+			return zeroValue;
+		}
+		int index = findSlot(key);
+		if(index < 0) {
+			return null;
+		}
+		return (V) values[index];
+	}
+
+	/**
+	 * Determines if the IntObjectHashTable is empty or not.
+	 *
+	 * @return true if IntObjectHashTable is empty, false otherwise.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Associates the specified value with the specified key in this IntObjectHashTable.
+	 * If the key already existed in this map, changes the value to this new value,
+	 * otherwise adds the new key-value pair.
+	 *
+	 * @param key   - given key
+	 * @param value - value which is to be mapped to key
+	 * @return the previous value mapped to the key, or null if there was no
+	 *         previous mapping for key
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(int key, V value) {
+		if(key == 0) {
+			V prevValue = zeroValue;
+			hasZeroKey = true;
+			zeroValue = value;
+			return prevValue;
+		}
+		int index = mix(key) & mask;
+		while(keys[index] != 0) {
+			if(keys[index] == key) {
+				V prevValue = (V) values[index];
+				values[index] = value;
+				return prevValue;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[index] = key;
+		values[index] = value;
+		elemCount++;
+		if(elemCount > capacity * loadThreshold) {
+			rehash();
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the value mapped to the given key from the IntObjectHashTable, if key is
+	 * present in the table.
+	 *
+	 * @param key - the key whose mapped value is to be removed
+	 * @return value which was removed if key was present, null otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(int key) {
+		if(key == 0) {
+			V prevValue = zeroValue;
+			hasZeroKey = false;
+			zeroValue = null;
+			return prevValue;
+		}
+		int gap = findSlot(key);
+		if(gap < 0) {
+			return null;
+		}
+		V value = (V) values[gap];
+		// shift back every following entry of the run which may sit in the gap
+		int index = (gap + 1) & mask;
+		while(keys[index] != 0) {
+			int home = mix(keys[index]) & mask;
+			if(((index - home) & mask) >= ((index - gap) & mask)) {
+				keys[gap] = keys[index];
+				values[gap] = values[index];
+				gap = index;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[gap] = 0;
+		values[gap] = null;
+		elemCount--;
+		return value;
+	}
+
+	/**
+	 * Returns the number of elements in the IntObjectHashTable.
+	 *
+	 * @return number of elements stored in IntObjectHashTable
+	 */
+	public int size() {
+		return elemCount + (hasZeroKey ? 1 : 0);
+	}
+
+	/**
+	 * Doubles capacity of hash table and reassigns entries.
+	 */
+	private void rehash() {
+		int[] oldKeys = keys;
+		Object[] oldValues = values;
+		capacity *= 2;
+		mask = capacity - 1;
+		keys = new int[capacity];
+		values = new Object[capacity];
+		for(int i = 0; i < oldKeys.length; i++) {
+			if(oldKeys[i] != 0) {
+				int index = mix(oldKeys[i]) & mask;
+				while(keys[index] != 0) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = oldKeys[i];
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	/**
+	 * Finds the slot holding the given nonzero key.
+	 *
+	 * @param key - the key being searched for
+	 * @return the slot index of the key, or -1 if the key is not present
+	 */
+	private int findSlot(int key) {
+		int index = mix(key) & mask;
+		while(keys[index] != 0) {
+			if(keys[index] == key) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Scrambles the key so that sequential keys do not form long probe runs.
+	 *
+	 * @param key - the key to be hashed
+	 * @return the hash code of the key
+	 */
+	private static int mix(int key) {
+		int h = key * 0x9e3779b9;
+		return h ^ (h >>> 16);
+	}
+}
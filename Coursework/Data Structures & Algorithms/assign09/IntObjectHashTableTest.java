@@ -0,0 +1,124 @@
+package assign09;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is a tester class for the IntObjectHashTable class.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+class IntObjectHashTableTest {
+
+	IntObjectHashTable<String> stringTable;
+	IntObjectHashTable<Double> emptyTable;
+
+	@BeforeEach
+	void setup() {
+		stringTable = new IntObjectHashTable<String>();
+		stringTable.put(1, "a");
+		stringTable.put(2, "b");
+		stringTable.put(3, "c");
+		stringTable.put(4, "d");
+		emptyTable = new IntObjectHashTable<Double>();
+	}
+
+	@Test
+	void testSize() {
+		assertEquals(4, stringTable.size());
+	}
+
+	@Test
+	void testIsEmpty() {
+		assertTrue(emptyTable.isEmpty());
+		emptyTable.put(5, 1.0);
+		assertFalse(emptyTable.isEmpty());
+	}
+
+	@Test
+	void testContainsKeyAndValue() {
+		assertTrue(stringTable.containsKey(3));
+		assertFalse(stringTable.containsKey(5));
+		assertTrue(stringTable.containsValue("d"));
+		assertFalse(stringTable.containsValue("e"));
+	}
+
+	@Test
+	void testGet() {
+		assertEquals("b", stringTable.get(2));
+		assertNull(stringTable.get(6));
+	}
+
+	@Test
+	void testPutSameKeyPrev() {
+		assertEquals("c", stringTable.put(3, "z"));
+		assertEquals("z", stringTable.get(3));
+		assertEquals(4, stringTable.size());
+	}
+
+	@Test
+	void testZeroAndNegativeKeys() {
+		assertFalse(stringTable.containsKey(0));
+		assertNull(stringTable.put(0, "zero"));
+		stringTable.put(-1, "minus one");
+		assertEquals("zero", stringTable.get(0));
+		assertEquals("minus one", stringTable.get(-1));
+		assertEquals(6, stringTable.size());
+		assertEquals("zero", stringTable.remove(0));
+		assertFalse(stringTable.containsKey(0));
+		assertEquals(5, stringTable.size());
+	}
+
+	@Test
+	void testRemove() {
+		assertEquals("a", stringTable.remove(1));
+		assertFalse(stringTable.containsKey(1));
+		assertNull(stringTable.remove(1));
+		assertEquals(3, stringTable.size());
+	}
+
+	@Test
+	void testClear() {
+		stringTable.put(0, "zero");
+		stringTable.clear();
+		assertTrue(stringTable.isEmpty());
+		assertFalse(stringTable.containsKey(0));
+		assertFalse(stringTable.containsValue("a"));
+	}
+
+	@Test
+	void testEntriesAndForEach() {
+		stringTable.put(0, "zero");
+		List<MapEntry<Integer, String>> entries = stringTable.entries();
+		assertEquals(5, entries.size());
+		assertTrue(entries.contains(new MapEntry<Integer, String>(0, "zero")));
+		assertTrue(entries.contains(new MapEntry<Integer, String>(4, "d")));
+		int[] keySum = new int[1];
+		stringTable.forEach((key, value) -> keySum[0] += key);
+		assertEquals(10, keySum[0]);
+	}
+
+	@Test
+	void testPutRemoveManyElements() {
+		for(int i = 0; i < 10000; i++) {
+			stringTable.put(i * 16, "val" + i);
+		}
+		assertEquals(10004, stringTable.size());
+		for(int i = 0; i < 10000; i += 2) {
+			assertEquals("val" + i, stringTable.remove(i * 16));
+		}
+		for(int i = 0; i < 10000; i++) {
+			if(i % 2 == 0) {
+				assertFalse(stringTable.containsKey(i * 16));
+			} else {
+				assertEquals("val" + i, stringTable.get(i * 16));
+			}
+		}
+		assertEquals("a", stringTable.get(1));
+	}
+}
@@ -0,0 +1,350 @@
+package assign09;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class represents a HashTable with primitive long keys and values, so neither is
+ * ever boxed. Its operations mirror those of Map; since a long cannot be null, a lookup
+ * of a missing key returns the table's no-entry value (0 unless given to the constructor).
+ * Collisions are resolved using linear probing over parallel key and value arrays, and
+ * removals use backward-shift deletion. Key 0 marks an empty slot, so a mapping for
+ * key 0 is held outside the arrays. The load factor is kept at or below 0.75.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class LongLongHashTable {
+
+	/**
+	 * An action performed on a long key and its long value.
+	 */
+	public interface LongLongConsumer {
+		public void accept(long key, long value);
+	}
+
+	final private double loadThreshold = 0.75;
+	private final long noEntryValue;
+	private int capacity;
+	private int mask;
+	private int elemCount;
+	private long[] keys;
+	private long[] values;
+	private boolean hasZeroKey;
+	private long zeroValue;
+
+	/**
+	 * Constructs an empty LongLongHashTable whose no-entry value is 0.
+	 */
+	public LongLongHashTable() {
+		this(12, 0);
+	}
+
+	/**
+	 * Constructs an empty LongLongHashTable large enough to hold the given number of
+	 * entries without rehashing.
+	 *
+	 * @param expectedSize - the number of entries the table is expected to hold
+	 * @param noEntryValue - the value returned for keys which are not present
+	 * @throws IllegalArgumentException if expectedSize is negative
+	 */
+	public LongLongHashTable(int expectedSize, long noEntryValue) {
+		if(expectedSize < 0) {
+			throw new IllegalArgumentException("Expected size cannot be negative.");
+		}
+		this.noEntryValue = noEntryValue;
+		capacity = 16;
+		while(capacity * loadThreshold < expectedSize) {
+			capacity *= 2;
+		}
+		mask = capacity - 1;
+		keys = new long[capacity];
+		values = new long[capacity];
+	}
+
+	/**
+	 * @return the value returned for keys which are not present
+	 */
+	public long getNoEntryValue() {
+		return noEntryValue;
+	}
+
+	/**
+	 * Removes all entries from this LongLongHashTable.
+	 */
+	public void clear() {
+		elemCount = 0;
+		hasZeroKey = false;
+		Arrays.fill(keys, 0);
+	}
+
+	/**
+	 * Determines if the LongLongHashTable contains the given key.
+	 *
+	 * @param key - the key which is to be found
+	 * @return true if the LongLongHashTable contains the given key, false otherwise
+	 */
+	public boolean containsKey(long key) {
+		if(key == 0) {
+			return hasZeroKey;
+		}
+		return findSlot(key) >= 0;
+	}
+
+	/**
+	 * Determines if the LongLongHashTable contains the given value.
+	 *
+	 * @param value - the value which is to be found
+	 * @return true if the LongLongHashTable contains the given value, false otherwise
+	 */
+	public boolean containsValue(long value) {
+		if(hasZeroKey && zeroValue == value) {
+			return true;
+		}
+		for(int i = 0; i < capacity; i++) {
+			if(keys[i] != 0 && values[i] == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a List of the Key and Value pairs stored in the Hash Table. The keys and
+	 * values are boxed, so prefer forEach for scans.
+	 *
+	 * @return List of key value pairs
+	 */
+	public List<MapEntry<Long, Long>> entries() {
+		List<MapEntry<Long, Long>> entryList = new ArrayList<MapEntry<Long, Long>>(size());
+		if(hasZeroKey) {
+			entryList.add(new MapEntry<Long, Long>(0L, zeroValue));
+		}
+		for(int i = 0; i < capacity; i++) {
+			if(keys[i] != 0) {
+				entryList.add(new MapEntry<Long, Long>(keys[i], values[i]));
+			}
+		}
+		return entryList;
+	}
+
+	/**
+	 * Performs the given action on every entry in the LongLongHashTable.
+	 *
+	 * @param action - the action to be performed on each key and value
+	 */
+	public void forEach(LongLongConsumer action) {
+		if(hasZeroKey) {
+			action.accept(0, zeroValue);
+		}
+		for(int i = 0; i < capacity; i++) {
+			if(keys[i] != 0) {
+				action.accept(keys[i], values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the value mapped to the given key, if the key exists in the LongLongHashTable.
+	 *
+	 * @param key - the key whose mapped value is to be returned
+	 * @return value mapped to given key if key is present, the no-entry value otherwise
+	 */
+	public long get(long key) {
+		return getOrDefault(key, noEntryValue);
+	}
+
+	/**
+	 * Returns the value mapped to the given key, or the given default if the key does not
+	 * exist in the LongLongHashTable.
+	 *
+	 * @param key          - the key whose mapped value is to be returned
+	 * @param defaultValue - the value returned if key is not present
+	 * @return value mapped to given key if key is present, defaultValue otherwise
+	 */
+	public long getOrDefault(long key, long defaultValue) {
+		if(key == 0) {
+			return hasZeroKey ? zeroValue : defaultValue;
+		}
+		int index = findSlot(key);
+		if(index < 0) {
+			return defaultValue;
+		}
+		return values[index];
+	}
+
+	/**
+	 * Adds the given amount to the value mapped to the given key, treating a missing key
+	 * as mapped to 0, in a single probe.
+	 *
+	 * @param key   - given key
+	 * @param delta - the amount to be added
+	 * @return the new value mapped to the key
+	 */
+	public long addTo(long key, long delta) {
+		if(key == 0) {
+			zeroValue = hasZeroKey ? zeroValue + delta : delta;
+			hasZeroKey = true;
+			return zeroValue;
+		}
+		int index = mix(key) & mask;
+		while(keys[index] != 0) {
+			if(keys[index] == key) {
+				values[index] += delta;
+				return values[index];
+			}
+			index = (index + 1) & mask;
+		}
+		insertAt(index, key, delta);
+		return delta;
+	}
+
+	/**
+	 * Determines if the LongLongHashTable is empty or not.
+	 *
+	 * @return true if LongLongHashTable is empty, false otherwise.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Associates the specified value with the specified key in this LongLongHashTable.
+	 * If the key already existed in this map, changes the value to this new value,
+	 * otherwise adds the new key-value pair.
+	 *
+	 * @param key   - given key
+	 * @param value - value which is to be mapped to key
+	 * @return the previous value mapped to the key, or the no-entry value if there was
+	 *         no previous mapping for key
+	 */
+	public long put(long key, long value) {
+		if(key == 0) {
+			long prevValue = hasZeroKey ? zeroValue : noEntryValue;
+			hasZeroKey = true;
+			zeroValue = value;
+			return prevValue;
+		}
+		int index = mix(key) & mask;
+		while(keys[index] != 0) {
+			if(keys[index] == key) {
+				long prevValue = values[index];
+				values[index] = value;
+				return prevValue;
+			}
+			index = (index + 1) & mask;
+		}
+		insertAt(index, key, value);
+		return noEntryValue;
+	}
+
+	/**
+	 * Removes the value mapped to the given key from the LongLongHashTable, if key is
+	 * present in the table.
+	 *
+	 * @param key - the key whose mapped value is to be removed
+	 * @return value which was removed if key was present, the no-entry value otherwise
+	 */
+	public long remove(long key) {
+		if(key == 0) {
+			long prevValue = hasZeroKey ? zeroValue : noEntryValue;
+			hasZeroKey = false;
+			return prevValue;
+		}
+		int gap = findSlot(key);
+		if(gap < 0) {
+			return noEntryValue;
+		}
+		long value = values[gap];
+		// shift back every following entry of the run which may sit in the gap
+		int index = (gap + 1) & mask;
+		while(keys[index] != 0) {
+			int home = mix(keys[index]) & mask;
+			if(((index - home) & mask) >= ((index - gap) & mask)) {
+				keys[gap] = keys[index];
+				values[gap] = values[index];
+				gap = index;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[gap] = 0;
+		elemCount--;
+		return value;
+	}
+
+	/**
+	 * Returns the number of elements in the LongLongHashTable.
+	 *
+	 * @return number of elements stored in LongLongHashTable
+	 */
+	public int size() {
+		return elemCount + (hasZeroKey ? 1 : 0);
+	}
+
+	/**
+	 * Stores a new entry in the given empty slot, and grows the table if needed.
+	 *
+	 * @param index - an empty slot at the end of the key's probe run
+	 * @param key   - given key
+	 * @param value - value which is to be mapped to key
+	 */
+	private void insertAt(int index, long key, long value) {
+		keys[index] = key;
+		values[index] = value;
+		elemCount++;
+		if(elemCount > capacity * loadThreshold) {
+			rehash();
+		}
+	}
+
+	/**
+	 * Doubles capacity of hash table and reassigns entries.
+	 */
+	private void rehash() {
+		long[] oldKeys = keys;
+		long[] oldValues = values;
+		capacity *= 2;
+		mask = capacity - 1;
+		keys = new long[capacity];
+		values = new long[capacity];
+		for(int i = 0; i < oldKeys.length; i++) {
+			if(oldKeys[i] != 0) {
+				int index = mix(oldKeys[i]) & mask;
+				while(keys[index] != 0) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = oldKeys[i];
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	/**
+	 * Finds the slot holding the given nonzero key.
+	 *
+	 * @param key - the key being searched for
+	 * @return the slot index of the key, or -1 if the key is not present
+	 */
+	private int findSlot(long key) {
+		int index = mix(key) & mask;
+		while(keys[index] != 0) {
+			if(keys[index] == key) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Scrambles the key so that sequential keys do not form long probe runs.
+	 *
+	 * @param key - the key to be hashed
+	 * @return the hash code of the key
+	 */
+	private static int mix(long key) {
+		long h = key * 0x9e3779b97f4a7c15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
@@ -0,0 +1,120 @@
+package assign09;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is a tester class for the LongLongHashTable class.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+class LongLongHashTableTest {
+
+	LongLongHashTable table;
+
+	@BeforeEach
+	void setup() {
+		table = new LongLongHashTable();
+		table.put(10L, 100L);
+		table.put(20L, 200L);
+		table.put(Long.MAX_VALUE, -1L);
+	}
+
+	@Test
+	void testSize() {
+		assertEquals(3, table.size());
+		assertFalse(table.isEmpty());
+	}
+
+	@Test
+	void testGet() {
+		assertEquals(100L, table.get(10L));
+		assertEquals(-1L, table.get(Long.MAX_VALUE));
+		assertEquals(0L, table.get(30L));
+		assertEquals(7L, table.getOrDefault(30L, 7L));
+	}
+
+	@Test
+	void testNoEntryValue() {
+		LongLongHashTable other = new LongLongHashTable(0, Long.MIN_VALUE);
+		assertEquals(Long.MIN_VALUE, other.get(5L));
+		assertEquals(Long.MIN_VALUE, other.put(5L, 6L));
+		assertEquals(6L, other.remove(5L));
+		assertEquals(Long.MIN_VALUE, other.remove(5L));
+	}
+
+	@Test
+	void testPutSameKeyPrev() {
+		assertEquals(200L, table.put(20L, 2L));
+		assertEquals(2L, table.get(20L));
+		assertEquals(3, table.size());
+	}
+
+	@Test
+	void testZeroKey() {
+		assertFalse(table.containsKey(0L));
+		table.put(0L, 5L);
+		assertTrue(table.containsKey(0L));
+		assertEquals(5L, table.get(0L));
+		assertEquals(4, table.size());
+		assertEquals(5L, table.remove(0L));
+		assertFalse(table.containsKey(0L));
+		assertEquals(3, table.size());
+	}
+
+	@Test
+	void testAddTo() {
+		assertEquals(105L, table.addTo(10L, 5L));
+		assertEquals(3L, table.addTo(30L, 3L));
+		assertEquals(4L, table.addTo(0L, 4L));
+		assertEquals(8L, table.addTo(0L, 4L));
+		assertEquals(5, table.size());
+	}
+
+	@Test
+	void testContainsValue() {
+		assertTrue(table.containsValue(200L));
+		assertFalse(table.containsValue(300L));
+	}
+
+	@Test
+	void testClear() {
+		table.clear();
+		assertTrue(table.isEmpty());
+		assertFalse(table.containsKey(10L));
+	}
+
+	@Test
+	void testEntriesAndForEach() {
+		List<MapEntry<Long, Long>> entries = table.entries();
+		assertEquals(3, entries.size());
+		assertTrue(entries.contains(new MapEntry<Long, Long>(20L, 200L)));
+		long[] valueSum = new long[1];
+		table.forEach((key, value) -> valueSum[0] += value);
+		assertEquals(299L, valueSum[0]);
+	}
+
+	@Test
+	void testPutRemoveManyElements() {
+		for(long i = 1; i <= 10000; i++) {
+			table.put(i << 32, i);
+		}
+		assertEquals(10003, table.size());
+		for(long i = 1; i <= 10000; i += 2) {
+			assertEquals(i, table.remove(i << 32));
+		}
+		for(long i = 1; i <= 10000; i++) {
+			if(i % 2 == 1) {
+				assertFalse(table.containsKey(i << 32));
+			} else {
+				assertEquals(i, table.get(i << 32));
+			}
+		}
+		assertEquals(100L, table.get(10L));
+	}
+}
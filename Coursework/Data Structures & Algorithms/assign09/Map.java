@@ -1,6 +1,14 @@
 package assign09;
 
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * This interface represents a map of keys to values. It cannot contain
@@ -54,6 +62,115 @@ public interface Map<K, V> {
 	 */
 	public List<MapEntry<K, V>> entries();
 
+	/**
+	 * Performs the given action on every mapping in this map, in no particular order.
+	 * 
+	 * O(table length) for quadratic probing
+	 * O(table length + N) for separate chaining
+	 * 
+	 * @param action - the action to be performed on each key and value
+	 */
+	public default void forEach(BiConsumer<? super K, ? super V> action) {
+		MapCursor<K, V> cursor = cursor();
+		while(cursor.next())
+			action.accept(cursor.getKey(), cursor.getValue());
+	}
+
+	/**
+	 * Returns a cursor over the mappings in this map. The cursor can be reset and reused
+	 * for further scans of this map.
+	 * 
+	 * O(1) to create, O(table length + N) to scan
+	 * 
+	 * @return a cursor positioned before the first mapping
+	 */
+	public default MapCursor<K, V> cursor() {
+		return new MapCursor<K, V>() {
+			private List<MapEntry<K, V>> list = entries();
+			private int index = -1;
+
+			public boolean next() {
+				index++;
+				return index < list.size();
+			}
+
+			public K getKey() {
+				return list.get(index).getKey();
+			}
+
+			public V getValue() {
+				return list.get(index).getValue();
+			}
+
+			public void reset() {
+				list = entries();
+				index = -1;
+			}
+		};
+	}
+
+	/**
+	 * Returns a live, read-only view of the keys in this map. The view reflects later
+	 * changes to the map. Each iteration scans a new cursor(), so it does not copy the map
+	 * unless cursor() does; the default cursor() copies entries().
+	 * 
+	 * @return a Collection view of the keys
+	 */
+	public default Collection<K> keys() {
+		Map<K, V> map = this;
+		return new AbstractCollection<K>() {
+			public Iterator<K> iterator() {
+				MapCursor<K, V> cursor = map.cursor();
+				return new CursorIterator<K>(cursor, () -> cursor.getKey());
+			}
+
+			public int size() {
+				return map.size();
+			}
+
+			@SuppressWarnings("unchecked")
+			public boolean contains(Object key) {
+				return map.containsKey((K) key);
+			}
+		};
+	}
+
+	/**
+	 * Returns a live, read-only view of the values in this map. The view reflects later
+	 * changes to the map. Each iteration scans a new cursor(), so it does not copy the map
+	 * unless cursor() does; the default cursor() copies entries().
+	 * 
+	 * @return a Collection view of the values
+	 */
+	public default Collection<V> values() {
+		Map<K, V> map = this;
+		return new AbstractCollection<V>() {
+			public Iterator<V> iterator() {
+				MapCursor<K, V> cursor = map.cursor();
+				return new CursorIterator<V>(cursor, () -> cursor.getValue());
+			}
+
+			public int size() {
+				return map.size();
+			}
+
+			@SuppressWarnings("unchecked")
+			public boolean contains(Object value) {
+				return map.containsValue((V) value);
+			}
+		};
+	}
+
+	/**
+	 * Returns a Spliterator over the mappings in this map, so they can be processed by a
+	 * (possibly parallel) stream, e.g., StreamSupport.stream(map.spliterator(), true).
+	 * 
+	 * @return a Spliterator over the entries of this map
+	 */
+	public default Spliterator<MapEntry<K, V>> spliterator() {
+		return entries().spliterator();
+	}
+
 	/**
 	 * Gets the value to which the specified key is mapped.
 	 *  
@@ -65,6 +182,23 @@ public interface Map<K, V> {
 	 */
 	public V get(K key);
 
+	/**
+	 * Gets the value to which the specified key is mapped, or the given default if
+	 * this map contains no mapping for the key.
+	 * 
+	 * O(1) for quadratic probing or separate chaining
+	 * 
+	 * @param key
+	 * @param defaultValue
+	 * @return the value to which the specified key is mapped, or defaultValue if this
+	 *         map contains no mapping for the key
+	 */
+	public default V getOrDefault(K key, V defaultValue) {
+		if(containsKey(key))
+			return get(key);
+		return defaultValue;
+	}
+
 	/**
 	 * Determines whether this map contains any mappings.
 	 * 
@@ -88,6 +222,61 @@ public interface Map<K, V> {
 	 */
 	public V put(K key, V value);
 
+	/**
+	 * Associates the specified value with the specified key in this map, only if the
+	 * key is not already in this map.
+	 * 
+	 * O(1) for quadratic probing or separate chaining
+	 * 
+	 * @param key
+	 * @param value
+	 * @return the value currently associated with key, or null if there was no
+	 *         mapping for key and value was added
+	 */
+	public default V putIfAbsent(K key, V value) {
+		if(containsKey(key))
+			return get(key);
+		put(key, value);
+		return null;
+	}
+
+	/**
+	 * Computes a new value for the specified key from the key and its current value
+	 * (null if there is none). If the new value is null the mapping is removed,
+	 * otherwise the key is associated with the new value.
+	 * 
+	 * O(1) for quadratic probing or separate chaining
+	 * 
+	 * @param key
+	 * @param remappingFunction - computes the new value from the key and current value
+	 * @return the new value associated with key, or null if there is none
+	 */
+	public default V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+		V newValue = remappingFunction.apply(key, get(key));
+		if(newValue == null)
+			remove(key);
+		else
+			put(key, newValue);
+		return newValue;
+	}
+
+	/**
+	 * Associates the specified value with the specified key if the key has no value in
+	 * this map, otherwise replaces the current value with the result of combining it
+	 * with the specified value. If the resulting value is null the mapping is removed, so
+	 * a null value leaves an absent key absent.
+	 * 
+	 * O(1) for quadratic probing or separate chaining
+	 * 
+	 * @param key
+	 * @param value
+	 * @param remappingFunction - combines the current value with value
+	 * @return the new value associated with key, or null if there is none
+	 */
+	public default V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		return compute(key, (k, oldValue) -> oldValue == null ? value : remappingFunction.apply(oldValue, value));
+	}
+
 	/**
 	 * Removes the mapping for a key from this map if it is present.
 	 * 
@@ -107,4 +296,35 @@ public interface Map<K, V> {
 	 * @return the number of mappings in this map
 	 */
 	public int size();
+
+	/**
+	 * Adapts a cursor to an Iterator over one part of each mapping, for the key and value views.
+	 */
+	static class CursorIterator<T> implements Iterator<T> {
+
+		private MapCursor<?, ?> cursor;
+		private Supplier<T> current;
+		private boolean advanced;
+		private boolean hasNext;
+
+		CursorIterator(MapCursor<?, ?> cursor, Supplier<T> current) {
+			this.cursor = cursor;
+			this.current = current;
+		}
+
+		public boolean hasNext() {
+			if(!advanced) {
+				hasNext = cursor.next();
+				advanced = true;
+			}
+			return hasNext;
+		}
+
+		public T next() {
+			if(!hasNext())
+				throw new NoSuchElementException();
+			advanced = false;
+			return current.get();
+		}
+	}
 }
@@ -0,0 +1,41 @@
+package assign09;
+
+/**
+ * This interface represents a cursor over the mappings of a map. Unlike an Iterator of
+ * MapEntry objects, a cursor exposes the key and value of its current position directly,
+ * so a scan need not allocate an entry per mapping, and it can be reset and reused for
+ * any number of scans.
+ * 
+ * A cursor starts before the first mapping; call next() to move to each mapping in turn.
+ * The results are unspecified if the map is modified during a scan.
+ * 
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <K> - placeholder for key type
+ * @param <V> - placeholder for value type
+ */
+public interface MapCursor<K, V> {
+
+	/**
+	 * Moves this cursor to the next mapping.
+	 * 
+	 * @return true if the cursor is at a mapping, false if the scan is finished
+	 */
+	public boolean next();
+
+	/**
+	 * @return the key of the mapping this cursor is at
+	 */
+	public K getKey();
+
+	/**
+	 * @return the value of the mapping this cursor is at
+	 */
+	public V getValue();
+
+	/**
+	 * Moves this cursor back to before the first mapping, so it can be used for another scan.
+	 */
+	public void reset();
+}
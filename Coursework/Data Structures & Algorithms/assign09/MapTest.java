@@ -0,0 +1,364 @@
+package assign09;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is a tester class for the behavior every assign09 Map shares. Each implementation
+ * has a subclass which supplies the tables through newMap(), and adds the tests of its
+ * own features.
+ * 
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+abstract class MapTest {
+
+	Map<StudentGoodHash, Double> gpaTable;
+	Map<StudentBadHash, Double> emptyTable;
+	Map<Integer, String> stringTable;
+
+	/**
+	 * @return a new, empty table of the implementation being tested
+	 */
+	abstract <K, V> Map<K, V> newMap();
+	
+	@BeforeEach
+	void setup() {
+		StudentGoodHash alan = new StudentGoodHash(1019999, "Alan", "Turing");
+		StudentGoodHash ada = new StudentGoodHash(1004203, "Ada", "Lovelace");
+		StudentGoodHash edsger = new StudentGoodHash(1010661, "Edsger", "Dijkstra");
+		StudentGoodHash grace = new StudentGoodHash(1019941, "Grace", "Hopper");
+		gpaTable = newMap();
+		gpaTable.put(alan, 3.2);  
+		gpaTable.put(ada, 3.5);
+		gpaTable.put(edsger, 3.8);
+		gpaTable.put(grace, 4.0);
+		emptyTable = newMap();
+		stringTable = newMap();
+		stringTable.put(1, "a");
+		stringTable.put(2, "b");
+		stringTable.put(3, "c");
+		stringTable.put(4, "d");
+	}
+	
+	@Test
+	void testSize() {
+		assertEquals(4, gpaTable.size());
+	}
+	
+	@Test
+	void testSizeEmpty() {
+		assertEquals(0, emptyTable.size());
+	}
+		
+	@Test
+	void testIsEmptyTrue() {
+		assertTrue(emptyTable.isEmpty());
+	}
+	
+	@Test
+	void testIsEmptyFalse() {
+		StudentBadHash joe = new StudentBadHash(1024513, "Joe", "Johnson");
+		emptyTable.put(joe, 20.5);
+		assertFalse(emptyTable.isEmpty());
+	}
+	
+	@Test
+	void testContainsKeyTrue() {
+		StudentGoodHash alan = new StudentGoodHash(1019999, "Alan", "Turing");
+		assertTrue(gpaTable.containsKey(alan));
+	}
+	
+	@Test
+	void testContainsKeyFalse() {
+		StudentGoodHash paul = new StudentGoodHash(1111111, "Fake", "Person");
+		assertFalse(gpaTable.containsKey(paul));
+	}
+	
+	@Test
+	void testContainsKeyTrueString() {
+		assertTrue(stringTable.containsKey(1));
+	}
+	
+	@Test
+	void testContainsKeyFalseString() {
+		assertFalse(stringTable.containsKey(99));
+	}
+	
+	@Test
+	void testContainsValueTrue() {
+		assertTrue(gpaTable.containsValue(3.2));
+	}
+	
+	@Test
+	void testContainsValueFalse() {
+		assertFalse(gpaTable.containsValue(1.1));
+	}
+	
+	@Test
+	void testContainsValueTrueString() {
+		assertTrue(stringTable.containsValue("b"));
+	}
+	
+	@Test
+	void testContainsValueFalseString() {
+		assertFalse(stringTable.containsValue("f"));
+	}
+	
+	@Test
+	void testClear() {
+		gpaTable.clear();
+		assertEquals(0, gpaTable.size());
+		assertFalse(gpaTable.containsValue(3.2));
+	}
+
+	@Test
+	void testClearEmpty() {
+		emptyTable.clear();
+		assertEquals(0, emptyTable.size());
+	}
+	
+	@Test
+	void testGet() {
+		StudentGoodHash ada = new StudentGoodHash(1004203, "Ada", "Lovelace");
+		assertEquals(3.5, gpaTable.get(ada));
+	}
+	
+	@Test
+	void testGetString() {
+		assertEquals("c", stringTable.get(3));
+	}
+	
+	@Test
+	void testGetFalse() {
+		StudentGoodHash paul = new StudentGoodHash(1111111, "Fake", "Person");
+		assertEquals(null, gpaTable.get(paul));
+	}
+	
+	@Test
+	void testGetFalseSTring() {
+		assertEquals(null, stringTable.get(6));
+	}
+	
+	@Test
+	void testEntriesContents() {
+		List<MapEntry<Integer, String>> entries = stringTable.entries();
+		assertEquals(4, entries.size());
+		assertTrue(entries.contains(new MapEntry<Integer, String>(1, "a")));
+		assertTrue(entries.contains(new MapEntry<Integer, String>(4, "d")));
+	}
+
+	@Test
+	void testEntriesEmpty() {
+		ArrayList<MapEntry<Integer, String>> list = new ArrayList<MapEntry<Integer, String>>();
+		stringTable.clear();
+		assertEquals(list, emptyTable.entries());
+	}
+	
+	@Test
+	void testPutDifferentKeyPrev() {
+		StudentGoodHash adam = new StudentGoodHash(1059798, "Adan", "New");
+		assertEquals(null, gpaTable.put(adam, 0.9));
+	}
+	
+	@Test
+	void testPutDifferentKey() {
+		StudentGoodHash adam = new StudentGoodHash(1059798, "Adan", "New");
+		gpaTable.put(adam, 0.9);
+		assertTrue(gpaTable.containsKey(adam));
+		assertTrue(gpaTable.containsValue(0.9));
+	}
+	
+	@Test
+	void testPutSameKeyPrev() {
+		StudentGoodHash edsger = new StudentGoodHash(1010661, "Edsger", "Dijkstra");
+		assertEquals(3.8, gpaTable.put(edsger, 0.9));
+		assertEquals(4, gpaTable.size());
+	}
+	
+	@Test
+	void testPutSameKey() {
+		StudentGoodHash edsger = new StudentGoodHash(1010661, "Edsger", "Dijkstra");
+		gpaTable.put(edsger, 0.1);
+		assertFalse(gpaTable.containsValue(3.8));
+		assertTrue(gpaTable.containsValue(0.1));	
+	}
+	
+	@Test
+	void testRemoveValue() {
+		StudentGoodHash grace = new StudentGoodHash(1019941, "Grace", "Hopper");
+		gpaTable.remove(grace);
+		assertFalse(gpaTable.containsValue(4.0));
+	}
+	
+	@Test
+	void testRemoveNull() {
+		StudentGoodHash paul = new StudentGoodHash(1111111, "Fake", "Person");
+		assertEquals(null, gpaTable.remove(paul));
+	}
+	
+	@Test
+	void testRemove() {
+		StudentGoodHash grace = new StudentGoodHash(1019941, "Grace", "Hopper");
+		gpaTable.remove(grace);
+		assertFalse(gpaTable.containsKey(grace));
+		assertFalse(gpaTable.containsValue(4.0));
+	}
+	
+	@Test
+	void testRemoveReturnsValue() {
+		StudentGoodHash grace = new StudentGoodHash(1019941, "Grace", "Hopper");
+		assertEquals(4.0, gpaTable.remove(grace));
+		assertEquals(3, gpaTable.size());
+	}
+
+	@Test
+	void testRemoveString() {
+		stringTable.remove(1);
+		assertFalse(stringTable.containsKey(1));
+		assertFalse(stringTable.containsValue("a"));
+	}
+	
+	@Test
+	void testPutManyElements() {
+		ArrayList<MapEntry<Integer, String>> entries = new ArrayList<MapEntry<Integer, String>>();
+		for(int i = 0; i < 304; i++) {
+			entries.add(new MapEntry<Integer, String>(i, "val"));
+		}
+		for(MapEntry<Integer,String> entry : entries) {
+			stringTable.put(entry.getKey(), entry.getValue());
+		}
+		assertEquals(304, stringTable.size());
+	}
+
+	@Test
+	void testPutRemoveManyElements() {
+		for(int i = 0; i < 10000; i++) {
+			stringTable.put(i, "val" + i);
+		}
+		assertEquals(10000, stringTable.size());
+		for(int i = 0; i < 10000; i += 2) {
+			assertEquals("val" + i, stringTable.remove(i));
+		}
+		assertEquals(5000, stringTable.size());
+		for(int i = 0; i < 10000; i++) {
+			if(i % 2 == 0) {
+				assertFalse(stringTable.containsKey(i));
+			} else {
+				assertEquals("val" + i, stringTable.get(i));
+			}
+		}
+	}
+	
+	@Test
+	void testGetOrDefault() {
+		assertEquals("a", stringTable.getOrDefault(1, "z"));
+		assertEquals("z", stringTable.getOrDefault(9, "z"));
+	}
+	
+	@Test
+	void testPutIfAbsent() {
+		assertEquals("a", stringTable.putIfAbsent(1, "z"));
+		assertEquals("a", stringTable.get(1));
+		assertEquals(null, stringTable.putIfAbsent(5, "e"));
+		assertEquals("e", stringTable.get(5));
+		assertEquals(5, stringTable.size());
+	}
+	
+	@Test
+	void testCompute() {
+		assertEquals("aa", stringTable.compute(1, (k, v) -> v + v));
+		assertEquals("new", stringTable.compute(7, (k, v) -> v == null ? "new" : v));
+		assertEquals(null, stringTable.compute(2, (k, v) -> null));
+		assertFalse(stringTable.containsKey(2));
+		assertEquals(4, stringTable.size());
+	}
+	
+	@Test
+	void testMergeCounts() {
+		Map<String, Integer> counts = newMap();
+		String[] words = {"a", "b", "a", "c", "a", "b"};
+		for(String word : words) {
+			counts.merge(word, 1, Integer::sum);
+		}
+		assertEquals(3, counts.get("a"));
+		assertEquals(2, counts.get("b"));
+		assertEquals(1, counts.get("c"));
+		assertEquals(null, counts.merge("c", 1, (a, b) -> null));
+		assertEquals(2, counts.size());
+	}
+	
+	@Test
+	void testMergeNullValue() {
+		Map<String, Integer> counts = newMap();
+		assertEquals(null, counts.merge("a", null, Integer::sum));
+		assertFalse(counts.containsKey("a"));
+		assertEquals(0, counts.size());
+		counts.put("b", 2);
+		assertEquals(null, counts.merge("b", null, (a, b) -> b));
+		assertFalse(counts.containsKey("b"));
+		assertEquals(0, counts.size());
+	}
+	
+	@Test
+	void testForEach() {
+		StringBuilder values = new StringBuilder();
+		int[] keySum = new int[1];
+		stringTable.forEach((k, v) -> {
+			keySum[0] += k;
+			values.append(v);
+		});
+		assertEquals(10, keySum[0]);
+		assertEquals(4, values.length());
+	}
+	
+	@Test
+	void testCursorReuse() {
+		MapCursor<Integer, String> cursor = stringTable.cursor();
+		int count = 0;
+		while(cursor.next()) {
+			assertEquals(stringTable.get(cursor.getKey()), cursor.getValue());
+			count++;
+		}
+		assertEquals(4, count);
+		stringTable.remove(2);
+		cursor.reset();
+		count = 0;
+		while(cursor.next()) {
+			count++;
+		}
+		assertEquals(3, count);
+	}
+	
+	@Test
+	void testLiveViews() {
+		Collection<Integer> keys = stringTable.keys();
+		Collection<String> values = stringTable.values();
+		assertEquals(4, keys.size());
+		stringTable.put(5, "e");
+		assertEquals(5, keys.size());
+		assertTrue(keys.contains(5));
+		assertTrue(values.contains("e"));
+		assertEquals(new HashSet<Integer>(Arrays.asList(1, 2, 3, 4, 5)), new HashSet<Integer>(keys));
+	}
+	
+	@Test
+	void testParallelStream() {
+		Map<Integer, Integer> table = newMap();
+		for(int i = 0; i < 10000; i++) {
+			table.put(i, i);
+		}
+		long sum = StreamSupport.stream(table.spliterator(), true).mapToLong(MapEntry::getValue).sum();
+		assertEquals(49995000L, sum);
+		assertEquals(10000, StreamSupport.stream(table.spliterator(), true).count());
+	}
+}
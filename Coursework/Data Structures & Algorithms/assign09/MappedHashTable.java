@@ -0,0 +1,652 @@
+package assign09;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * This class represents a persistent HashTable of Strings, stored in a memory-mapped file
+ * so that it lives outside the garbage collected heap and can be reopened without being
+ * rebuilt. Collisions are resolved using separate chaining, with a fixed number of buckets
+ * chosen when the file is created.
+ *
+ * The file starts with a header and a bucket directory holding the file offset of the newest
+ * record in each bucket's chain. Every put or remove appends a record (a tombstone for
+ * removals) which links to the previous head of its chain, so a lookup returns the first
+ * record for its key. A record is fully written before the header's end-of-log offset is
+ * advanced, and only then is it published by a single 8-byte write to the directory. If the
+ * process dies part way through an operation, the table still holds either the old or the
+ * new mapping. A record cut off before the end-of-log offset moved is overwritten by the
+ * next append, but one cut off between that and the publish is not: it stays unreachable
+ * at the end of the log until compact() drops it. The entry count in the header is
+ * updated after the publish, so it can be stale after a crash. A flag in the header,
+ * forced to the storage device before the first change after opening and cleared by
+ * close() once everything else is synced, marks the file as dirty; only a dirty file has
+ * its count recounted from the chains when it is opened, so a cleanly closed table
+ * reopens without reading its records. Call sync() to force written pages to the storage
+ * device.
+ *
+ * The log is mapped in fixed-size chunks, so the file can grow beyond 2GB. Superseded
+ * records and tombstones are only reclaimed by compact(), which rewrites the live entries
+ * into a new file, optionally with a different number of buckets, and then replaces the
+ * old file with it in a single rename.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class MappedHashTable implements Map<String, String>, Closeable {
+
+	private static final long MAGIC = 0x4d41505441424c45L;
+	private static final int VERSION = 1;
+	private static final int DEFAULT_CHUNK_SIZE = 1 << 26;
+	private static final int HEADER_SIZE = 64;
+	private static final int RECORD_HEADER_SIZE = 20;
+	private static final int TOMBSTONE = -1;
+
+	// header field offsets
+	private static final int BUCKETS_AT = 12;
+	private static final int CHUNK_SIZE_AT = 16;
+	private static final int COUNT_AT = 20;
+	private static final int TAIL_AT = 24;
+	private static final int DIRTY_AT = 32;
+
+	private Path file;
+	private FileChannel channel;
+	private ArrayList<MappedByteBuffer> chunks;
+	private int chunkSize;
+	private int bucketCount;
+	private long logStart;
+	// whether the header's dirty flag is known to be set on the storage device
+	private boolean dirty;
+
+	/**
+	 * Opens the table stored in the given file, or creates an empty one with the given
+	 * number of buckets if the file does not exist.
+	 *
+	 * @param file        - the file holding the table
+	 * @param bucketCount - the number of buckets to create the table with; ignored if
+	 *                    the file already exists
+	 * @throws IOException if the file cannot be opened, or is not a valid MappedHashTable
+	 *                     file of this version
+	 */
+	public MappedHashTable(Path file, int bucketCount) throws IOException {
+		this(file, bucketCount, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Opens the table stored in the given file, or creates an empty one with the given
+	 * number of buckets and chunk size if the file does not exist.
+	 *
+	 * @param file        - the file holding the table
+	 * @param bucketCount - the number of buckets to create the table with
+	 * @param chunkSize   - the number of bytes mapped at a time, which bounds the size of
+	 *                    a single entry
+	 * @throws IOException if the file cannot be opened, or is not a valid MappedHashTable
+	 *                     file of this version
+	 * @throws IllegalArgumentException if the directory does not fit in one chunk
+	 */
+	public MappedHashTable(Path file, int bucketCount, int chunkSize) throws IOException {
+		this.file = file;
+		open(bucketCount, chunkSize);
+	}
+
+	/**
+	 * Maps the table's file, creating an empty table in it if it is empty or missing.
+	 *
+	 * @param bucketCount - the number of buckets to create the table with
+	 * @param chunkSize   - the number of bytes mapped at a time
+	 * @throws IOException if the file cannot be opened, or is not a valid MappedHashTable
+	 *                     file of this version
+	 * @throws IllegalArgumentException if the directory does not fit in one chunk
+	 */
+	private void open(int bucketCount, int chunkSize) throws IOException {
+		long fileSize = Files.exists(file) ? Files.size(file) : 0;
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		chunks = new ArrayList<MappedByteBuffer>();
+		if(fileSize > 0) {
+			if(fileSize < HEADER_SIZE) {
+				channel.close();
+				throw new IOException(file + " is too short to be a MappedHashTable file.");
+			}
+			MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+			if(header.getLong(0) != MAGIC) {
+				channel.close();
+				throw new IOException(file + " is not a MappedHashTable file.");
+			}
+			if(header.getInt(8) != VERSION) {
+				channel.close();
+				throw new IOException(file + " has unsupported MappedHashTable version " + header.getInt(8) + ".");
+			}
+			this.bucketCount = header.getInt(BUCKETS_AT);
+			this.chunkSize = header.getInt(CHUNK_SIZE_AT);
+			logStart = align(HEADER_SIZE + 8L * this.bucketCount);
+			long tail = header.getLong(TAIL_AT);
+			if(this.bucketCount < 1 || logStart >= this.chunkSize || fileSize < logStart || tail < logStart
+					|| tail > fileSize) {
+				channel.close();
+				throw new IOException(file + " has a corrupt MappedHashTable header.");
+			}
+			// the count is only trusted if the table was closed cleanly
+			dirty = header.getInt(DIRTY_AT) != 0;
+			if(dirty) {
+				chunk(0).putInt(COUNT_AT, countLive());
+			}
+		} else {
+			if(bucketCount < 1) {
+				channel.close();
+				throw new IllegalArgumentException("Bucket count must be positive.");
+			}
+			this.bucketCount = bucketCount;
+			this.chunkSize = chunkSize;
+			logStart = align(HEADER_SIZE + 8L * bucketCount);
+			if(logStart >= chunkSize) {
+				channel.close();
+				throw new IllegalArgumentException("The bucket directory must fit in one chunk.");
+			}
+			MappedByteBuffer first = chunk(0);
+			first.putLong(0, MAGIC);
+			first.putInt(8, VERSION);
+			first.putInt(BUCKETS_AT, bucketCount);
+			first.putInt(CHUNK_SIZE_AT, chunkSize);
+			first.putInt(COUNT_AT, 0);
+			first.putLong(TAIL_AT, logStart);
+		}
+	}
+
+	/**
+	 * Removes all entries from this MappedHashTable. The file keeps its size.
+	 */
+	public void clear() {
+		markDirty();
+		MappedByteBuffer first = chunk(0);
+		for(int i = 0; i < bucketCount; i++) {
+			first.putLong(HEADER_SIZE + 8 * i, 0);
+		}
+		first.putLong(TAIL_AT, logStart);
+		first.putInt(COUNT_AT, 0);
+	}
+
+	/**
+	 * Determines if the MappedHashTable contains the given key.
+	 *
+	 * @param key - the key which is to be found
+	 * @return true if the MappedHashTable contains the given key, false otherwise
+	 */
+	public boolean containsKey(String key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * Determines if the MappedHashTable contains the given value.
+	 *
+	 * @param value - the value which is to be found
+	 * @return true if the MappedHashTable contains the given value, false otherwise
+	 */
+	public boolean containsValue(String value) {
+		MapCursor<String, String> cursor = cursor();
+		while(cursor.next()) {
+			if(cursor.getValue().equals(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a List of the Key and Value pairs stored in the table.
+	 *
+	 * @return List of key value pairs
+	 */
+	public List<MapEntry<String, String>> entries() {
+		List<MapEntry<String, String>> entryList = new ArrayList<MapEntry<String, String>>();
+		HashSet<String> seen = new HashSet<String>();
+		for(int i = 0; i < bucketCount; i++) {
+			seen.clear();
+			for(long record = head(i); record != 0; record = next(record)) {
+				String key = readKey(record);
+				// only the newest record for a key counts
+				if(seen.add(key) && valueLength(record) != TOMBSTONE) {
+					entryList.add(new MapEntry<String, String>(key, readValue(record)));
+				}
+			}
+		}
+		return entryList;
+	}
+
+	/**
+	 * Returns a reusable cursor which walks the chains of the mapped file in place, skipping
+	 * superseded records and tombstones, and reading each value only when it is asked for.
+	 *
+	 * @return a cursor positioned before the first entry
+	 */
+	public MapCursor<String, String> cursor() {
+		return new MapCursor<String, String>() {
+			private int bucket = -1;
+			private long record;
+			private String key;
+			// the keys already met in the current bucket, whose older records are hidden
+			private HashSet<String> seen = new HashSet<String>();
+
+			public boolean next() {
+				while(true) {
+					if(record != 0) {
+						record = MappedHashTable.this.next(record);
+					}
+					while(record == 0 && bucket + 1 < bucketCount) {
+						seen.clear();
+						record = head(++bucket);
+					}
+					if(record == 0) {
+						key = null;
+						return false;
+					}
+					String candidate = readKey(record);
+					if(seen.add(candidate) && valueLength(record) != TOMBSTONE) {
+						key = candidate;
+						return true;
+					}
+				}
+			}
+
+			public String getKey() {
+				return key;
+			}
+
+			public String getValue() {
+				return readValue(record);
+			}
+
+			public void reset() {
+				bucket = -1;
+				record = 0;
+				key = null;
+				seen.clear();
+			}
+		};
+	}
+
+	/**
+	 * Returns the value mapped to the given key, if the key exists in the MappedHashTable.
+	 *
+	 * @param key - the key whose mapped value is to be returned
+	 * @return value mapped to given key if key is present, null otherwise
+	 */
+	public String get(String key) {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		long record = find(bucket(key), key.hashCode(), keyBytes);
+		if(record == 0 || valueLength(record) == TOMBSTONE) {
+			return null;
+		}
+		return readValue(record);
+	}
+
+	/**
+	 * Determines if the MappedHashTable is empty or not.
+	 *
+	 * @return true if MappedHashTable is empty, false otherwise.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Associates the specified value with the specified key in this MappedHashTable, by
+	 * appending a record to the file.
+	 *
+	 * @param key   - given key
+	 * @param value - value which is to be mapped to key
+	 * @return the previous value mapped to the key, or null if there was no
+	 *         previous mapping for key
+	 * @throws NullPointerException if value is null
+	 */
+	public String put(String key, String value) {
+		if(value == null) {
+			throw new NullPointerException("MappedHashTable does not support null values.");
+		}
+		String prevValue = get(key);
+		append(key, value.getBytes(StandardCharsets.UTF_8));
+		if(prevValue == null) {
+			addCount(1);
+		}
+		return prevValue;
+	}
+
+	/**
+	 * Removes the value mapped to the given key from the MappedHashTable, by appending a
+	 * tombstone record, if key is present in the table.
+	 *
+	 * @param key - the key whose mapped value is to be removed
+	 * @return value which was removed if key was present, null otherwise
+	 */
+	public String remove(String key) {
+		String prevValue = get(key);
+		if(prevValue == null) {
+			return null;
+		}
+		append(key, null);
+		addCount(-1);
+		return prevValue;
+	}
+
+	/**
+	 * Returns the number of elements in the MappedHashTable.
+	 *
+	 * @return number of elements stored in MappedHashTable
+	 */
+	public int size() {
+		return chunk(0).getInt(COUNT_AT);
+	}
+
+	/**
+	 * Reclaims the space of superseded records and tombstones, keeping the number of buckets.
+	 *
+	 * @throws IOException if the compacted file cannot be written or moved into place
+	 */
+	public void compact() throws IOException {
+		compact(bucketCount);
+	}
+
+	/**
+	 * Rewrites the table with only its live entries, and the given number of buckets, so
+	 * lookups no longer pass superseded records. The entries are copied into a new file
+	 * next to this one, which is synced and then renamed over this file, so a crash part way
+	 * through leaves either the old table or the compacted one.
+	 *
+	 * @param bucketCount - the number of buckets of the compacted table
+	 * @throws IOException if the compacted file cannot be written or moved into place
+	 * @throws IllegalArgumentException if bucketCount is not positive, or the directory
+	 *                                  does not fit in one chunk
+	 */
+	public void compact(int bucketCount) throws IOException {
+		Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+		Files.deleteIfExists(compacted);
+		MappedHashTable copy;
+		try {
+			copy = new MappedHashTable(compacted, bucketCount, chunkSize);
+		} catch (IllegalArgumentException e) {
+			Files.deleteIfExists(compacted);
+			throw e;
+		}
+		try {
+			HashSet<String> seen = new HashSet<String>();
+			for(int i = 0; i < this.bucketCount; i++) {
+				seen.clear();
+				for(long record = head(i); record != 0; record = next(record)) {
+					String key = readKey(record);
+					// only the newest record for a key counts
+					if(seen.add(key) && valueLength(record) != TOMBSTONE) {
+						copy.append(key, readValue(record).getBytes(StandardCharsets.UTF_8));
+					}
+				}
+			}
+			copy.chunk(0).putInt(COUNT_AT, size());
+			copy.close();
+		} catch (IOException | RuntimeException e) {
+			copy.channel.close();
+			Files.deleteIfExists(compacted);
+			throw e;
+		}
+		close();
+		try {
+			Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			// reopens the compacted table, or the old one if the move failed
+			open(bucketCount, chunkSize);
+		}
+	}
+
+	/**
+	 * @return the number of bytes of the file used by the header, directory and records
+	 */
+	public long getUsedBytes() {
+		return chunk(0).getLong(TAIL_AT);
+	}
+
+	/**
+	 * Forces every change made to the table to be written to the storage device.
+	 */
+	public void sync() {
+		for(MappedByteBuffer chunk : chunks) {
+			if(chunk != null) {
+				chunk.force();
+			}
+		}
+	}
+
+	/**
+	 * Syncs the file, marks it as cleanly closed, and closes it. The table must not be used
+	 * afterwards.
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	public void close() throws IOException {
+		sync();
+		if(dirty) {
+			MappedByteBuffer first = chunk(0);
+			first.putInt(DIRTY_AT, 0);
+			first.force(0, HEADER_SIZE);
+			dirty = false;
+		}
+		chunks.clear();
+		channel.close();
+	}
+
+	/**
+	 * Appends a record for the given key and links it in as the head of its bucket's chain.
+	 *
+	 * @param key        - the key of the record
+	 * @param valueBytes - the encoded value, or null for a tombstone
+	 */
+	private void append(String key, byte[] valueBytes) {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		int length = RECORD_HEADER_SIZE + keyBytes.length + (valueBytes == null ? 0 : valueBytes.length);
+		if(length > chunkSize) {
+			throw new IllegalArgumentException("Entry is larger than the chunk size.");
+		}
+		markDirty();
+		MappedByteBuffer first = chunk(0);
+		int bucket = bucket(key);
+		long record = first.getLong(TAIL_AT);
+		// records never straddle two chunks
+		if(record / chunkSize != (record + length - 1) / chunkSize) {
+			record = (record / chunkSize + 1) * chunkSize;
+		}
+		MappedByteBuffer buffer = chunk(record);
+		int at = (int) (record % chunkSize);
+		buffer.putLong(at, head(bucket));
+		buffer.putInt(at + 8, key.hashCode());
+		buffer.putInt(at + 12, keyBytes.length);
+		buffer.putInt(at + 16, valueBytes == null ? TOMBSTONE : valueBytes.length);
+		buffer.put(at + RECORD_HEADER_SIZE, keyBytes);
+		if(valueBytes != null) {
+			buffer.put(at + RECORD_HEADER_SIZE + keyBytes.length, valueBytes);
+		}
+		first.putLong(TAIL_AT, align(record + length));
+		first.putLong(HEADER_SIZE + 8 * bucket, record);
+	}
+
+	/**
+	 * Sets the header's dirty flag and forces it to the storage device, if that has not been
+	 * done since the file was opened, so a crash during the coming change is detected.
+	 */
+	private void markDirty() {
+		if(!dirty) {
+			MappedByteBuffer first = chunk(0);
+			first.putInt(DIRTY_AT, 1);
+			first.force(0, HEADER_SIZE);
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Finds the newest record for the given key in the given bucket.
+	 *
+	 * @param bucket   - the bucket the key belongs in
+	 * @param hash     - the hash code of the key
+	 * @param keyBytes - the encoded key
+	 * @return the offset of the newest record for the key, or 0 if there is none
+	 */
+	private long find(int bucket, int hash, byte[] keyBytes) {
+		for(long record = head(bucket); record != 0; record = next(record)) {
+			MappedByteBuffer buffer = chunk(record);
+			int at = (int) (record % chunkSize);
+			if(buffer.getInt(at + 8) == hash && buffer.getInt(at + 12) == keyBytes.length
+					&& keyMatches(buffer, at + RECORD_HEADER_SIZE, keyBytes)) {
+				return record;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Compares the key stored at the given position with the given key, byte by byte.
+	 *
+	 * @param buffer   - the chunk holding the stored key
+	 * @param at       - the position of the stored key in buffer
+	 * @param keyBytes - the encoded key being searched for
+	 * @return true if the keys are equal, false otherwise
+	 */
+	private boolean keyMatches(MappedByteBuffer buffer, int at, byte[] keyBytes) {
+		for(int i = 0; i < keyBytes.length; i++) {
+			if(buffer.get(at + i) != keyBytes[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param bucket - a bucket index
+	 * @return the offset of the newest record in the bucket, or 0 if it is empty
+	 */
+	private long head(int bucket) {
+		return chunk(0).getLong(HEADER_SIZE + 8 * bucket);
+	}
+
+	/**
+	 * @param record - the offset of a record
+	 * @return the offset of the next older record in the same chain, or 0 if there is none
+	 */
+	private long next(long record) {
+		return chunk(record).getLong((int) (record % chunkSize));
+	}
+
+	/**
+	 * @param record - the offset of a record
+	 * @return the encoded length of the record's value, or TOMBSTONE for a removal
+	 */
+	private int valueLength(long record) {
+		return chunk(record).getInt((int) (record % chunkSize) + 16);
+	}
+
+	/**
+	 * @param record - the offset of a record
+	 * @return the decoded key of the record
+	 */
+	private String readKey(long record) {
+		MappedByteBuffer buffer = chunk(record);
+		int at = (int) (record % chunkSize);
+		byte[] bytes = new byte[buffer.getInt(at + 12)];
+		buffer.get(at + RECORD_HEADER_SIZE, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @param record - the offset of a record which is not a tombstone
+	 * @return the decoded value of the record
+	 */
+	private String readValue(long record) {
+		MappedByteBuffer buffer = chunk(record);
+		int at = (int) (record % chunkSize);
+		int keyLength = buffer.getInt(at + 12);
+		byte[] bytes = new byte[buffer.getInt(at + 16)];
+		buffer.get(at + RECORD_HEADER_SIZE + keyLength, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Counts the keys whose newest record is not a tombstone, by walking every chain.
+	 *
+	 * @return the number of entries in the table
+	 */
+	private int countLive() {
+		int count = 0;
+		HashSet<String> seen = new HashSet<String>();
+		for(int i = 0; i < bucketCount; i++) {
+			seen.clear();
+			for(long record = head(i); record != 0; record = next(record)) {
+				// only the newest record for a key counts
+				if(seen.add(readKey(record)) && valueLength(record) != TOMBSTONE) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Adjusts the entry count stored in the header.
+	 *
+	 * @param delta - the change in the number of entries
+	 */
+	private void addCount(int delta) {
+		MappedByteBuffer first = chunk(0);
+		first.putInt(COUNT_AT, first.getInt(COUNT_AT) + delta);
+	}
+
+	/**
+	 * Determines the bucket the given key belongs in.
+	 *
+	 * @param key - the key whose bucket is to be found
+	 * @return the index of the bucket for the key
+	 */
+	private int bucket(String key) {
+		int h = key.hashCode();
+		h ^= h >>> 16;
+		return Math.abs(h%bucketCount);
+	}
+
+	/**
+	 * Returns the mapped chunk containing the given file offset, mapping it (and growing
+	 * the file) if needed.
+	 *
+	 * @param offset - an offset into the file
+	 * @return the chunk containing offset
+	 */
+	private MappedByteBuffer chunk(long offset) {
+		int index = (int) (offset / chunkSize);
+		while(chunks.size() <= index) {
+			chunks.add(null);
+		}
+		MappedByteBuffer chunk = chunks.get(index);
+		if(chunk == null) {
+			try {
+				chunk = channel.map(FileChannel.MapMode.READ_WRITE, (long) index * chunkSize, chunkSize);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			chunks.set(index, chunk);
+		}
+		return chunk;
+	}
+
+	/**
+	 * Rounds the given offset up to a multiple of 8.
+	 *
+	 * @param offset - a file offset
+	 * @return the aligned offset
+	 */
+	private static long align(long offset) {
+		return (offset + 7) & ~7L;
+	}
+}
@@ -0,0 +1,246 @@
+package assign09;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * This is a tester class for the MappedHashTable class.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+class MappedHashTableTest {
+
+	@TempDir
+	Path dir;
+	Path file;
+	MappedHashTable table;
+
+	@BeforeEach
+	void setup() throws IOException {
+		file = dir.resolve("table.dat");
+		table = new MappedHashTable(file, 8, 4096);
+		table.put("alan", "turing");
+		table.put("ada", "lovelace");
+		table.put("grace", "hopper");
+	}
+
+	@AfterEach
+	void teardown() throws IOException {
+		table.close();
+	}
+
+	@Test
+	void testGet() {
+		assertEquals("lovelace", table.get("ada"));
+		assertEquals(null, table.get("edsger"));
+		assertEquals(3, table.size());
+	}
+
+	@Test
+	void testPutSameKey() {
+		assertEquals("turing", table.put("alan", "kay"));
+		assertEquals("kay", table.get("alan"));
+		assertEquals(3, table.size());
+		assertEquals(3, table.entries().size());
+	}
+
+	@Test
+	void testRemove() {
+		assertEquals("hopper", table.remove("grace"));
+		assertFalse(table.containsKey("grace"));
+		assertEquals(null, table.remove("grace"));
+		assertEquals(2, table.size());
+		assertEquals(2, table.entries().size());
+	}
+
+	@Test
+	void testLiveViewsSkipSupersededRecords() {
+		Collection<String> keys = table.keys();
+		Collection<String> values = table.values();
+		table.put("alan", "kay");
+		table.remove("ada");
+		table.put("edsger", "dijkstra");
+		assertEquals(Set.of("alan", "grace", "edsger"), new HashSet<String>(keys));
+		assertEquals(Set.of("kay", "hopper", "dijkstra"), new HashSet<String>(values));
+		assertEquals(3, values.size());
+		assertTrue(values.contains("kay"));
+		assertFalse(values.contains("turing"));
+		assertFalse(keys.contains("ada"));
+	}
+
+	@Test
+	void testCursorReuse() {
+		MapCursor<String, String> cursor = table.cursor();
+		int count = 0;
+		while(cursor.next()) {
+			assertEquals(table.get(cursor.getKey()), cursor.getValue());
+			count++;
+		}
+		assertEquals(3, count);
+		table.remove("grace");
+		cursor.reset();
+		count = 0;
+		while(cursor.next()) {
+			assertNotEquals("grace", cursor.getKey());
+			count++;
+		}
+		assertEquals(2, count);
+	}
+
+	@Test
+	void testReopen() throws IOException {
+		table.remove("ada");
+		table.close();
+		table = new MappedHashTable(file, 1);
+		assertEquals("turing", table.get("alan"));
+		assertFalse(table.containsKey("ada"));
+		assertTrue(table.containsValue("hopper"));
+		assertEquals(2, table.size());
+	}
+
+	@Test
+	void testSpansManyChunks() {
+		for(int i = 0; i < 2000; i++) {
+			table.put("key" + i, "value" + i);
+		}
+		assertEquals(2003, table.size());
+		for(int i = 0; i < 2000; i++) {
+			assertEquals("value" + i, table.get("key" + i));
+		}
+		List<MapEntry<String, String>> entries = table.entries();
+		assertEquals(2003, entries.size());
+	}
+
+	@Test
+	void testClear() {
+		table.clear();
+		assertTrue(table.isEmpty());
+		assertEquals(null, table.get("alan"));
+		table.put("alan", "kay");
+		assertEquals("kay", table.get("alan"));
+	}
+
+	@Test
+	void testReopenRecountsEntries() throws IOException {
+		table.put("alan", "kay");
+		table.remove("ada");
+		table.close();
+		// a crash after a record was published but before the count was updated, which
+		// leaves the dirty flag set
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(4).putInt(0, 17), 20);
+			channel.write(ByteBuffer.allocate(4).putInt(0, 1), 32);
+		}
+		table = new MappedHashTable(file, 1);
+		assertEquals(2, table.size());
+		assertEquals(2, table.entries().size());
+	}
+
+	@Test
+	void testDirtyFlag() throws IOException {
+		table.close();
+		assertEquals(0, readHeaderInt(32));
+		table = new MappedHashTable(file, 1);
+		table.get("alan");
+		assertEquals(0, readHeaderInt(32));
+		table.put("edsger", "dijkstra");
+		assertEquals(1, readHeaderInt(32));
+		table.close();
+		assertEquals(0, readHeaderInt(32));
+		// a cleanly closed table trusts its stored count rather than walking the chains
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(4).putInt(0, 17), 20);
+		}
+		table = new MappedHashTable(file, 1);
+		assertEquals(17, table.size());
+	}
+
+	@Test
+	void testOpenTruncatedFile() throws IOException {
+		Path truncated = dir.resolve("truncated.dat");
+		Files.write(truncated, new byte[10]);
+		assertThrows(IOException.class, () -> new MappedHashTable(truncated, 8));
+	}
+
+	@Test
+	void testOpenForeignFile() throws IOException {
+		Path foreign = dir.resolve("foreign.txt");
+		Files.writeString(foreign, "digraph G {\n\ta -> b\n}\n".repeat(10));
+		assertThrows(IOException.class, () -> new MappedHashTable(foreign, 8));
+	}
+
+	@Test
+	void testOpenWrongVersion() throws IOException {
+		table.close();
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(4).putInt(0, 99), 8);
+		}
+		assertThrows(IOException.class, () -> new MappedHashTable(file, 8));
+		table = new MappedHashTable(dir.resolve("other.dat"), 8, 4096);
+	}
+
+	@Test
+	void testCompactReclaimsSupersededRecords() throws IOException {
+		for(int round = 0; round < 50; round++) {
+			for(int i = 0; i < 20; i++) {
+				table.put("key" + i, "value" + round);
+			}
+		}
+		table.remove("ada");
+		long before = table.getUsedBytes();
+		table.compact();
+		assertTrue(table.getUsedBytes() < before / 20);
+		assertEquals(22, table.size());
+		assertEquals("value49", table.get("key7"));
+		assertEquals(null, table.get("ada"));
+		assertEquals("turing", table.get("alan"));
+		table.put("ada", "byron");
+		assertEquals(23, table.entries().size());
+	}
+
+	@Test
+	void testCompactResizesAndPersists() throws IOException {
+		for(int i = 0; i < 500; i++) {
+			table.put("key" + i, "value" + i);
+		}
+		table.compact(64);
+		assertEquals(503, table.size());
+		table.close();
+		table = new MappedHashTable(file, 1);
+		assertEquals(503, table.size());
+		for(int i = 0; i < 500; i++) {
+			assertEquals("value" + i, table.get("key" + i));
+		}
+		assertFalse(Files.exists(dir.resolve("table.dat.compact")));
+		assertThrows(IllegalArgumentException.class, () -> table.compact(0));
+		assertFalse(Files.exists(dir.resolve("table.dat.compact")));
+		assertEquals("hopper", table.get("grace"));
+	}
+
+	/**
+	 * Reads an int from the header of the table's file, bypassing the mapping.
+	 */
+	private int readHeaderInt(int at) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(4);
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			channel.read(buffer, at);
+		}
+		return buffer.getInt(0);
+	}
+}
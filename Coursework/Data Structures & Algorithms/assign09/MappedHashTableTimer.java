@@ -0,0 +1,125 @@
+package assign09;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Compares the time to reopen a cleanly closed MappedHashTable holding n entries and look
+ * up one key, with the time to rebuild an in-memory HashTable from a text file of n lines
+ * and look up the same key. The time to close the reopened MappedHashTable, which syncs
+ * its mapped chunks, is timed separately: the tables opened by REOPEN, and by the
+ * compensation loop of CLOSE, are closed after timing.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class MappedHashTableTimer extends TimerTemplate {
+
+	public enum Kind {
+		REOPEN, CLOSE, REBUILD
+	}
+
+	private Kind kind;
+	private ArrayList<MappedHashTable> opened = new ArrayList<MappedHashTable>();
+	private Path dir;
+	private Path textFile;
+	private Path tableFile;
+
+	public MappedHashTableTimer(int[] problemSizes, int timesToLoop, Kind kind) {
+		super(problemSizes, timesToLoop);
+		this.kind = kind;
+	}
+
+	@Override
+	protected void setup(int n) {
+		try {
+			closeOpened();
+			dir = Files.createTempDirectory("mappedhashtable");
+			textFile = dir.resolve("table.txt");
+			tableFile = dir.resolve("table.dat");
+			dir.toFile().deleteOnExit();
+			textFile.toFile().deleteOnExit();
+			tableFile.toFile().deleteOnExit();
+			try(PrintWriter out = new PrintWriter(Files.newBufferedWriter(textFile));
+					MappedHashTable table = new MappedHashTable(tableFile, Math.max(n / 4, 1))) {
+				for(int i = 0; i < n; i++) {
+					out.println("key" + i + "\tvalue" + i);
+					table.put("key" + i, "value" + i);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	protected void timingIteration(int n) {
+		try {
+			if(kind == Kind.REOPEN) {
+				opened.add(reopen(n));
+			} else if(kind == Kind.CLOSE) {
+				reopen(n).close();
+			} else {
+				HashTable<String, String> table = new HashTable<String, String>();
+				try(BufferedReader in = Files.newBufferedReader(textFile)) {
+					String line;
+					while((line = in.readLine()) != null) {
+						int tab = line.indexOf('\t');
+						table.put(line.substring(0, tab), line.substring(tab + 1));
+					}
+				}
+				table.get("key" + n / 2);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	protected void compensationIteration(int n) {
+		if(kind == Kind.CLOSE) {
+			try {
+				opened.add(reopen(n));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	private MappedHashTable reopen(int n) throws IOException {
+		MappedHashTable table = new MappedHashTable(tableFile, 1);
+		table.get("key" + n / 2);
+		return table;
+	}
+
+	private void closeOpened() throws IOException {
+		for(MappedHashTable table : opened) {
+			table.close();
+		}
+		opened.clear();
+	}
+
+	public static void main(String[] args) throws IOException {
+		ArrayList<Integer> ns = new ArrayList<>();
+		for(int n = 10000; n <= 1000000; n *= 10) {
+			ns.add(n);
+		}
+		int[] problemSizes = new int[ns.size()];
+		for(int i = 0; i < problemSizes.length; i++) {
+			problemSizes[i] = ns.get(i);
+		}
+
+		int[] timesToLoop = {20, 20, 5};
+		for(Kind kind : Kind.values()) {
+			System.out.println(kind + "\nn, time");
+			MappedHashTableTimer timer = new MappedHashTableTimer(problemSizes, timesToLoop[kind.ordinal()], kind);
+			timer.run();
+			timer.closeOpened();
+		}
+	}
+}
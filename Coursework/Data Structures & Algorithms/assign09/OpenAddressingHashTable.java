@@ -0,0 +1,362 @@
+package assign09;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * This class represents a HashTable which resolves collisions using open addressing
+ * with Robin Hood linear probing. Keys, values, and hash codes are stored in parallel
+ * arrays, so no entry or node objects are allocated when a key is added, and removals
+ * use backward-shift deletion instead of tombstones. The load factor is kept at or
+ * below 0.75.
+ *
+ * Null keys are not supported.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <K> - key type
+ * @param <V> - value type
+ */
+public class OpenAddressingHashTable<K,V> implements Map<K,V> {
+
+	final private double loadThreshold = 0.75;
+	private int capacity;
+	private int mask;
+	private int elemCount;
+	private Object[] keys;
+	private Object[] values;
+	private int[] hashes;
+
+	/**
+	 * Constructs an empty OpenAddressingHashTable.
+	 */
+	public OpenAddressingHashTable() {
+		this(12);
+	}
+
+	/**
+	 * Constructs an empty OpenAddressingHashTable large enough to hold the given
+	 * number of entries without rehashing.
+	 *
+	 * @param expectedSize - the number of entries the table is expected to hold
+	 * @throws IllegalArgumentException if expectedSize is negative
+	 */
+	public OpenAddressingHashTable(int expectedSize) {
+		if(expectedSize < 0) {
+			throw new IllegalArgumentException("Expected size cannot be negative.");
+		}
+		capacity = 16;
+		while(capacity * loadThreshold < expectedSize) {
+			capacity *= 2;
+		}
+		allocate();
+	}
+
+	/**
+	 * Doubles capacity of hash table and reassigns entries.
+	 */
+	@SuppressWarnings("unchecked")
+	public void rehash() {
+		Object[] oldKeys = keys;
+		Object[] oldValues = values;
+		int[] oldHashes = hashes;
+		capacity *= 2;
+		allocate();
+		for(int i = 0; i < oldKeys.length; i++) {
+			if(oldKeys[i] != null) {
+				shiftInsert(oldHashes[i] & mask, 0, (K) oldKeys[i], (V) oldValues[i], oldHashes[i]);
+			}
+		}
+	}
+
+	/**
+	 * Removes all entries from this OpenAddressingHashTable.
+	 */
+	public void clear() {
+		elemCount = 0;
+		Arrays.fill(keys, null);
+		Arrays.fill(values, null);
+	}
+
+	/**
+	 * Determines if the OpenAddressingHashTable contains the given key.
+	 *
+	 * @param key - the key which is to be found
+	 * @return true if the OpenAddressingHashTable contains the given key, false otherwise
+	 */
+	public boolean containsKey(K key) {
+		return findSlot(key) >= 0;
+	}
+
+	/**
+	 * Determines if the OpenAddressingHashTable contains the given value.
+	 *
+	 * @param value - the value which is to be found
+	 * @return true if the OpenAddressingHashTable contains the given value, false otherwise
+	 */
+	public boolean containsValue(V value) {
+		for(int i = 0; i < capacity; i++) {
+			if(keys[i] != null && values[i].equals(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a List of the Key and Value pairs stored in the Hash Table.
+	 *
+	 * @return List of key value pairs
+	 */
+	@SuppressWarnings("unchecked")
+	public List<MapEntry<K, V>> entries() {
+		List<MapEntry<K,V>> entryList = new ArrayList<MapEntry<K,V>>(elemCount);
+		for(int i = 0; i < capacity; i++) {
+			if(keys[i] != null) {
+				entryList.add(new MapEntry<K,V>((K) keys[i], (V) values[i]));
+			}
+		}
+		return entryList;
+	}
+
+	/**
+	 * Performs the given action on every entry in the OpenAddressingHashTable, without
+	 * allocating any entry objects.
+	 *
+	 * @param action - the action to be performed on each key and value
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		for(int i = 0; i < capacity; i++) {
+			if(keys[i] != null) {
+				action.accept((K) keys[i], (V) values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns a reusable cursor which walks the slots of the OpenAddressingHashTable in place.
+	 *
+	 * @return a cursor positioned before the first entry
+	 */
+	public MapCursor<K,V> cursor() {
+		return new MapCursor<K,V>() {
+			private int index = -1;
+
+			public boolean next() {
+				do {
+					index++;
+				} while(index < capacity && keys[index] == null);
+				return index < capacity;
+			}
+
+			@SuppressWarnings("unchecked")
+			public K getKey() {
+				return (K) keys[index];
+			}
+
+			@SuppressWarnings("unchecked")
+			public V getValue() {
+				return (V) values[index];
+			}
+
+			public void reset() {
+				index = -1;
+			}
+		};
+	}
+
+	/**
+	 * Returns the value mapped to the given key, if the key exists in the OpenAddressingHashTable.
+	 *
+	 * @param key - the key whose mapped value is to be returned
+	 * @return value mapped to given key if key is present, null otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(K key) {
+		int index = findSlot(key);
+		if(index < 0) {
+			return null;
+		}
+		return (V) values[index];
+	}
+
+	/**
+	 * Determines if the OpenAddressingHashTable is empty or not.
+	 *
+	 * @return true if OpenAddressingHashTable is empty, false otherwise.
+	 */
+	public boolean isEmpty() {
+		return elemCount == 0;
+	}
+
+	/**
+	 * Associates the specified value with the specified key in this OpenAddressingHashTable.
+	 * If the key already existed in this map, changes the value to this new value,
+	 * otherwise adds the new key-value pair.
+	 *
+	 * @param key   - given key
+	 * @param value - value which is to be mapped to key
+	 * @return the previous value mapped to the key, or null if there was no
+	 *         previous mapping for key
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		int hash = spread(key);
+		int index = hash & mask;
+		int dist = 0;
+		while(keys[index] != null) {
+			if(hashes[index] == hash && keys[index].equals(key)) {
+				V prevValue = (V) values[index];
+				values[index] = value;
+				return prevValue;
+			}
+			// a richer resident means the key cannot be further along the run
+			if(probeDistance(hashes[index], index) < dist) {
+				break;
+			}
+			index = (index + 1) & mask;
+			dist++;
+		}
+		shiftInsert(index, dist, key, value, hash);
+		if(elemCount > capacity * loadThreshold) {
+			rehash();
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the value mapped to the given key from the OpenAddressingHashTable, if key is
+	 * present in the table. Following entries of the probe run are shifted back one slot,
+	 * so no tombstones are left behind.
+	 *
+	 * @param key - the key whose mapped value is to be removed
+	 * @return value which was removed if key was present, null otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(K key) {
+		int index = findSlot(key);
+		if(index < 0) {
+			return null;
+		}
+		V value = (V) values[index];
+		int next = (index + 1) & mask;
+		while(keys[next] != null && probeDistance(hashes[next], next) > 0) {
+			keys[index] = keys[next];
+			values[index] = values[next];
+			hashes[index] = hashes[next];
+			index = next;
+			next = (next + 1) & mask;
+		}
+		keys[index] = null;
+		values[index] = null;
+		elemCount--;
+		return value;
+	}
+
+	/**
+	 * Returns the number of elements in the OpenAddressingHashTable.
+	 *
+	 * @return number of elements stored in OpenAddressingHashTable
+	 */
+	public int size() {
+		return this.elemCount;
+	}
+
+	/**
+	 * Finds the slot holding the given key, stopping as soon as the probe has travelled
+	 * further than the resident of the current slot.
+	 *
+	 * @param key - the key being searched for
+	 * @return the slot index of the key, or -1 if the key is not present
+	 */
+	private int findSlot(K key) {
+		int hash = spread(key);
+		int index = hash & mask;
+		int dist = 0;
+		while(keys[index] != null) {
+			if(hashes[index] == hash && keys[index].equals(key)) {
+				return index;
+			}
+			if(probeDistance(hashes[index], index) < dist) {
+				return -1;
+			}
+			index = (index + 1) & mask;
+			dist++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Places an entry known to be absent from the table, starting at the given slot. Whenever
+	 * a resident is closer to its home slot than the entry being placed, the two are swapped
+	 * and the displaced resident continues along the run.
+	 *
+	 * @param index - the slot to start probing from
+	 * @param dist  - the distance of index from the entry's home slot
+	 * @param key   - the key being placed
+	 * @param value - the value being placed
+	 * @param hash  - the spread hash code of key
+	 */
+	@SuppressWarnings("unchecked")
+	private void shiftInsert(int index, int dist, K key, V value, int hash) {
+		while(keys[index] != null) {
+			int residentDist = probeDistance(hashes[index], index);
+			if(residentDist < dist) {
+				K tempKey = (K) keys[index];
+				V tempValue = (V) values[index];
+				int tempHash = hashes[index];
+				keys[index] = key;
+				values[index] = value;
+				hashes[index] = hash;
+				key = tempKey;
+				value = tempValue;
+				hash = tempHash;
+				dist = residentDist;
+			}
+			index = (index + 1) & mask;
+			dist++;
+		}
+		keys[index] = key;
+		values[index] = value;
+		hashes[index] = hash;
+		elemCount++;
+	}
+
+	/**
+	 * Determines how far the given slot is from the home slot of the hash stored there.
+	 *
+	 * @param hash  - the spread hash code of the resident entry
+	 * @param index - the slot the entry resides in
+	 * @return the number of slots between the entry's home slot and index
+	 */
+	private int probeDistance(int hash, int index) {
+		return (index - (hash & mask)) & mask;
+	}
+
+	/**
+	 * Mixes the high bits of the key's hash code into the low bits, since only the low
+	 * bits are used to pick a slot in a power of two sized table.
+	 *
+	 * @param key - the key to be hashed
+	 * @return the spread hash code
+	 */
+	private int spread(K key) {
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Allocates empty backing arrays for the current capacity.
+	 */
+	private void allocate() {
+		mask = capacity - 1;
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+		elemCount = 0;
+	}
+}
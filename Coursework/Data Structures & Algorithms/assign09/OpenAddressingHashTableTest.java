@@ -0,0 +1,57 @@
+package assign09;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This is a tester class for the OpenAddressingHashTable class. The tests every Map
+ * shares are inherited from MapTest.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+class OpenAddressingHashTableTest extends MapTest {
+
+	@Override
+	<K, V> Map<K, V> newMap() {
+		return new OpenAddressingHashTable<K, V>();
+	}
+
+	@Test
+	void testCollidingKeysBackwardShift() {
+		// every key shares a first name length, so they all share one home slot
+		StudentBadHash a = new StudentBadHash(1, "Ann", "A");
+		StudentBadHash b = new StudentBadHash(2, "Bob", "B");
+		StudentBadHash c = new StudentBadHash(3, "Cal", "C");
+		emptyTable.put(a, 1.0);
+		emptyTable.put(b, 2.0);
+		emptyTable.put(c, 3.0);
+		emptyTable.remove(a);
+		assertFalse(emptyTable.containsKey(a));
+		assertEquals(2.0, emptyTable.get(b));
+		assertEquals(3.0, emptyTable.get(c));
+	}
+
+	@Test
+	void testRehash() {
+		StudentBadHash g = new StudentBadHash(1019999, "G", "Y");
+		StudentBadHash mississippi = new StudentBadHash(1019999, "Mississippi", "Y");
+		OpenAddressingHashTable<StudentBadHash, Double> table = new OpenAddressingHashTable<StudentBadHash, Double>();
+		table.put(g, 3.0);
+		table.put(mississippi, 2.0);
+		table.rehash();
+		assertTrue(table.containsKey(g));
+		assertTrue(table.containsKey(mississippi));
+	}
+
+	@Test
+	void testPresizedConstructor() {
+		OpenAddressingHashTable<Integer, Integer> table = new OpenAddressingHashTable<Integer, Integer>(1000);
+		for(int i = 0; i < 1000; i++) {
+			table.put(i * 31, i);
+		}
+		assertEquals(1000, table.size());
+		assertEquals(999, table.get(999 * 31));
+	}
+}
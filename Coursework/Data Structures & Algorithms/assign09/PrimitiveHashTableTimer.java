@@ -0,0 +1,156 @@
+package assign09;
+
+import java.lang.ref.Reference;
+import java.util.function.IntFunction;
+
+/**
+ * Compares the primitive-keyed IntObjectHashTable and LongLongHashTable against a
+ * HashTable with boxed keys. Each timing iteration puts n keys into a new table and
+ * then gets each of them back, and main also reports the bytes each table retains per
+ * entry once built.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class PrimitiveHashTableTimer extends TimerTemplate {
+
+	public enum Kind {
+		BOXED_INT, INT_OBJECT, BOXED_LONG, LONG_LONG
+	}
+
+	private Kind kind;
+	private Integer value = 42;
+	private long sink;
+
+	public PrimitiveHashTableTimer(int[] problemSizes, int timesToLoop, Kind kind) {
+		super(problemSizes, timesToLoop);
+		this.kind = kind;
+	}
+
+	@Override
+	protected void setup(int n) {
+	}
+
+	@Override
+	protected void timingIteration(int n) {
+		sink += build(kind, n, value);
+	}
+
+	@Override
+	protected void compensationIteration(int n) {
+	}
+
+	/**
+	 * Puts n keys into a new table of the given kind, then gets each of them back.
+	 *
+	 * @return a checksum of the values read, so the lookups are not optimized away
+	 */
+	private static long build(Kind kind, int n, Integer value) {
+		long sum = 0;
+		switch(kind) {
+		case BOXED_INT:
+			HashTable<Integer, Integer> boxedInt = new HashTable<Integer, Integer>();
+			for(int i = 0; i < n; i++) {
+				boxedInt.put(i * 7, value);
+			}
+			for(int i = 0; i < n; i++) {
+				sum += boxedInt.get(i * 7);
+			}
+			break;
+		case INT_OBJECT:
+			IntObjectHashTable<Integer> intObject = new IntObjectHashTable<Integer>();
+			for(int i = 0; i < n; i++) {
+				intObject.put(i * 7, value);
+			}
+			for(int i = 0; i < n; i++) {
+				sum += intObject.get(i * 7);
+			}
+			break;
+		case BOXED_LONG:
+			HashTable<Long, Long> boxedLong = new HashTable<Long, Long>();
+			for(int i = 0; i < n; i++) {
+				boxedLong.put(i * 7L, (long) i);
+			}
+			for(int i = 0; i < n; i++) {
+				sum += boxedLong.get(i * 7L);
+			}
+			break;
+		case LONG_LONG:
+			LongLongHashTable longLong = new LongLongHashTable();
+			for(int i = 0; i < n; i++) {
+				longLong.put(i * 7L, i);
+			}
+			for(int i = 0; i < n; i++) {
+				sum += longLong.get(i * 7L);
+			}
+			break;
+		}
+		return sum;
+	}
+
+	/**
+	 * Estimates the heap bytes retained per entry by a table of n entries.
+	 */
+	private static double bytesPerEntry(IntFunction<Object> builder, int n) {
+		long before = usedMemory();
+		Object table = builder.apply(n);
+		long after = usedMemory();
+		// keep the table reachable until it has been measured
+		Reference.reachabilityFence(table);
+		return (double) (after - before) / n;
+	}
+
+	private static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for(int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	public static void main(String[] args) {
+		int[] problemSizes = { 10000, 100000, 1000000 };
+		Kind[] kinds = Kind.values();
+
+		for(Kind kind : kinds) {
+			System.out.println(kind + "\nn, time");
+			PrimitiveHashTableTimer timer = new PrimitiveHashTableTimer(problemSizes, 20, kind);
+			for(Result result : timer.run()) {
+				double opsPerSec = 2.0 * result.n() / result.avgNanoSecs() * 1e9;
+				System.out.printf("n = %d: %.1f Mops/sec%n", result.n(), opsPerSec / 1e6);
+			}
+		}
+
+		int n = 1000000;
+		Integer value = 42;
+		System.out.println("\nbytes per entry at n = " + n);
+		System.out.printf("HashTable<Integer, Integer>: %.1f%n", bytesPerEntry(size -> {
+			HashTable<Integer, Integer> table = new HashTable<Integer, Integer>();
+			for(int i = 0; i < size; i++) {
+				table.put(i * 7, value);
+			}
+			return table;
+		}, n));
+		System.out.printf("IntObjectHashTable<Integer>: %.1f%n", bytesPerEntry(size -> {
+			IntObjectHashTable<Integer> table = new IntObjectHashTable<Integer>();
+			for(int i = 0; i < size; i++) {
+				table.put(i * 7, value);
+			}
+			return table;
+		}, n));
+		System.out.printf("HashTable<Long, Long>: %.1f%n", bytesPerEntry(size -> {
+			HashTable<Long, Long> table = new HashTable<Long, Long>();
+			for(int i = 0; i < size; i++) {
+				table.put(i * 7L, (long) i);
+			}
+			return table;
+		}, n));
+		System.out.printf("LongLongHashTable: %.1f%n", bytesPerEntry(size -> {
+			LongLongHashTable table = new LongLongHashTable();
+			for(int i = 0; i < size; i++) {
+				table.put(i * 7L, i);
+			}
+			return table;
+		}, n));
+	}
+}
@@ -1,5 +1,7 @@
 package assign10;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -7,6 +9,12 @@ import java.util.NoSuchElementException;
 /**
  * This class represents a Max Binary Heap.
  * 
+ * The backing array doubles when full, and by default halves once extractions leave it a
+ * quarter full, so a heap drained after a burst does not keep the burst's capacity. The gap
+ * between the two thresholds keeps a heap whose size hovers near one of them from resizing
+ * on every operation. setShrinkThreshold changes or disables shrinking, and trimToSize
+ * shrinks the array to the current size on demand.
+ * 
  * @author Jake Heairld and Anton Smolyanyy
  * @version April 10, 2024 
  * 
@@ -14,9 +22,12 @@ import java.util.NoSuchElementException;
  */
 public class BinaryMaxHeap<E> implements PriorityQueue<E>{
 	
+	private static final int DEFAULT_CAPACITY = 15;
+	
 	private E[] array;
 	private int size;
 	private Comparator<? super E> cmp;
+	private int shrinkThreshold = 4;
 	
 	/**
 	 * Constructs an empty binary max heap utilizing natural ordering.
@@ -24,7 +35,7 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E>{
 	@SuppressWarnings("unchecked")
 	public BinaryMaxHeap() {
 		size = 0;
-		array = (E[]) new Object[15];
+		array = (E[]) new Object[DEFAULT_CAPACITY];
 		this.cmp = null;
 	}
 	
@@ -36,7 +47,7 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E>{
 	@SuppressWarnings("unchecked")
 	public BinaryMaxHeap(Comparator<? super E> cmp) {
 		size = 0;
-		array = (E[]) new Object[15];
+		array = (E[]) new Object[DEFAULT_CAPACITY];
 		this.cmp = cmp;
 	}
 	
@@ -49,7 +60,7 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E>{
 	public BinaryMaxHeap(List<? extends E> list) {
 		size = list.size();
 		this.cmp = null;
-		array = (E[]) new Object[15];
+		array = (E[]) new Object[Math.max(size, DEFAULT_CAPACITY)];
 		buildHeap(list);
 	}
 	
@@ -63,7 +74,7 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E>{
 	public BinaryMaxHeap(List<? extends E> list, Comparator<? super E> cmp) {
 		size = list.size();
 		this.cmp = cmp;
-		array = (E[]) new Object[15];
+		array = (E[]) new Object[Math.max(size, DEFAULT_CAPACITY)];
 		buildHeap(list);
 	}
 	
@@ -81,6 +92,27 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E>{
 		percolateUp();
 	}
 
+	/**
+	 * Adds every item in the given collection to this binary max heap. A large batch is
+	 * appended and the whole heap rebuilt bottom-up in O(N + M), and a small one is added
+	 * an item at a time.
+	 * 
+	 * @param items - The items being added to the heap
+	 */
+	public void addAll(Collection<? extends E> items) {
+		addBatch(items.toArray());
+	}
+
+	/**
+	 * Adds every item in the given heap to this binary max heap, leaving the given heap
+	 * unchanged.
+	 * 
+	 * @param other - The heap whose items are being added
+	 */
+	public void merge(BinaryMaxHeap<? extends E> other) {
+		addBatch(other.toArray());
+	}
+
 	/**
 	 * Returns, but does not remove, the maximum item in the heap.
 	 * 
@@ -128,10 +160,55 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E>{
 	}
 
 	/**
-	 * Empties this binary max heap.
+	 * Empties this binary max heap, releasing its items and its backing array.
 	 */
+	@SuppressWarnings("unchecked")
 	public void clear() {
 		this.size = 0;
+		array = (E[]) new Object[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * Returns the length of the backing array, the number of items this heap can hold
+	 * before it must grow.
+	 * 
+	 * @return The capacity of the heap
+	 */
+	public int getCapacity() {
+		return array.length;
+	}
+
+	/**
+	 * Returns the fraction of the backing array holding items.
+	 * 
+	 * @return The size of the heap divided by its capacity
+	 */
+	public double getOccupancy() {
+		return array.length == 0 ? 1 : (double) size / array.length;
+	}
+
+	/**
+	 * Sets when extractMax halves the backing array: once no more than one in threshold
+	 * slots holds an item. Shrinking never goes below the default capacity, and a threshold
+	 * of 0 disables it. The default threshold is 4.
+	 * 
+	 * @param threshold - 0, or a value of at least 3 so that a halved array is not full
+	 * @throws IllegalArgumentException if threshold is negative, 1, or 2
+	 */
+	public void setShrinkThreshold(int threshold) {
+		if(threshold < 0 || threshold == 1 || threshold == 2) {
+			throw new IllegalArgumentException("The shrink threshold must be 0 or at least 3.");
+		}
+		this.shrinkThreshold = threshold;
+	}
+
+	/**
+	 * Shrinks the backing array to the number of items in this heap.
+	 */
+	public void trimToSize() {
+		if(array.length > size) {
+			array = Arrays.copyOf(array, size);
+		}
 	}
 
 	/**
@@ -152,19 +229,46 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E>{
 	 * 
 	 * @param list - The list of items to be stored in the heap
 	 */
-	@SuppressWarnings("unchecked")
 	private void buildHeap(List<? extends E> list) {
-		if(size > 0) {
-			while(array.length < size) {
-				growArray();
-			}
-			array = (E[]) list.toArray((E[]) new Object[array.length]);
-		}
-		for(int i = (array.length-1)/2 - 1; i >= 0; i--) {
+		array = list.toArray(array);
+		heapify();
+	}
+	
+	/**
+	 * Percolates down every element which has a child, from the last such element
+	 * to the root, turning the first size elements into a binary max heap in O(N).
+	 */
+	private void heapify() {
+		for(int i = size/2 - 1; i >= 0; i--) {
 			percolateDown(i);
 		}
 	}
 	
+	/**
+	 * Adds the given items to the heap. If adding them one at a time could cost more
+	 * than rebuilding the heap, they are appended and the heap is rebuilt.
+	 * 
+	 * @param items - The items being added to the heap
+	 */
+	@SuppressWarnings("unchecked")
+	private void addBatch(Object[] items) {
+		int total = size + items.length;
+		if(total > array.length) {
+			array = Arrays.copyOf(array, total);
+		}
+		int levels = 32 - Integer.numberOfLeadingZeros(total);
+		if((long) items.length * levels >= total) {
+			for(Object item : items) {
+				array[size++] = (E) item;
+			}
+			heapify();
+		} else {
+			for(Object item : items) {
+				add((E) item);
+			}
+		}
+	}
+	
 	/**
 	 * Percolates the last added element of the binary max heap.
 	 */
@@ -228,7 +332,11 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E>{
 	private void removeMax() {
 		swap(0, size-1);
 		size--;
+		array[size] = null;
 		percolateDown(0);
+		if(shrinkThreshold > 0 && array.length > DEFAULT_CAPACITY && (long) size * shrinkThreshold <= array.length) {
+			array = Arrays.copyOf(array, Math.max(array.length / 2, DEFAULT_CAPACITY));
+		}
 	}
 	
 	/**
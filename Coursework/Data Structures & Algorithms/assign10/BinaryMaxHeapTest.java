@@ -141,4 +141,136 @@ class BinaryMaxHeapTest {
 		strCusHeap.add("a");
 		assertEquals(Arrays.toString(arr), Arrays.toString(strCusHeap.toArray()));
 	}
-}
\ No newline at end of file
+	
+	@Test
+	void testBuildLargeList() {
+		List<Integer> nums = new ArrayList<Integer>();
+		for(int i = 0; i < 1000; i++) {
+			nums.add((i * 37) % 1000);
+		}
+		BinaryMaxHeap<Integer> heap = new BinaryMaxHeap<Integer>(nums);
+		assertEquals(1000, heap.size());
+		for(int i = 999; i >= 0; i--) {
+			assertEquals(i, heap.extractMax());
+		}
+	}
+	
+	@Test
+	void testAddAllSmallBatch() {
+		intHeap.addAll(List.of(100));
+		assertEquals(7, intHeap.size());
+		assertEquals(100, intHeap.extractMax());
+		assertEquals(69, intHeap.extractMax());
+	}
+	
+	@Test
+	void testAddAllLargeBatch() {
+		List<Integer> nums = new ArrayList<Integer>();
+		for(int i = 20; i < 60; i++) {
+			nums.add(i);
+		}
+		intHeap.addAll(nums);
+		assertEquals(46, intHeap.size());
+		assertEquals(69, intHeap.extractMax());
+		for(int i = 59; i >= 20; i--) {
+			assertEquals(i, intHeap.extractMax());
+		}
+		assertEquals(14, intHeap.extractMax());
+	}
+	
+	@Test
+	void testAddAllEmpty() {
+		emptyIntHeap.addAll(new ArrayList<Integer>());
+		assertTrue(emptyIntHeap.isEmpty());
+		emptyIntHeap.addAll(intList);
+		assertEquals(69, emptyIntHeap.peek());
+	}
+	
+	@Test
+	void testMerge() {
+		BinaryMaxHeap<Integer> other = new BinaryMaxHeap<Integer>(List.of(70, 1, 13));
+		intHeap.merge(other);
+		assertEquals(3, other.size());
+		assertEquals(9, intHeap.size());
+		Integer[] expected = {70, 69, 14, 13, 12, 9, 2, 1, -3};
+		for(Integer num : expected) {
+			assertEquals(num, intHeap.extractMax());
+		}
+	}
+	
+	@Test
+	void testMergeWithItself() {
+		intHeap.merge(intHeap);
+		assertEquals(12, intHeap.size());
+		assertEquals(69, intHeap.extractMax());
+		assertEquals(69, intHeap.extractMax());
+		assertEquals(14, intHeap.extractMax());
+	}
+	
+	@Test
+	void testShrinkOnDrain() {
+		for(int i = 0; i < 1000; i++) {
+			emptyIntHeap.add(i);
+		}
+		int burstCapacity = emptyIntHeap.getCapacity();
+		while(emptyIntHeap.size() > 10) {
+			emptyIntHeap.extractMax();
+		}
+		assertTrue(emptyIntHeap.getCapacity() < burstCapacity);
+		assertTrue(emptyIntHeap.getOccupancy() > 0.25);
+		assertEquals(9, emptyIntHeap.extractMax());
+	}
+	
+	@Test
+	void testShrinkHysteresis() {
+		for(int i = 0; i < 64; i++) {
+			emptyIntHeap.add(i);
+		}
+		while(emptyIntHeap.size() > 31) {
+			emptyIntHeap.extractMax();
+		}
+		int capacity = emptyIntHeap.getCapacity();
+		for(int i = 0; i < 100; i++) {
+			emptyIntHeap.add(i);
+			emptyIntHeap.extractMax();
+		}
+		assertEquals(capacity, emptyIntHeap.getCapacity());
+	}
+	
+	@Test
+	void testShrinkDisabled() {
+		emptyIntHeap.setShrinkThreshold(0);
+		for(int i = 0; i < 1000; i++) {
+			emptyIntHeap.add(i);
+		}
+		int burstCapacity = emptyIntHeap.getCapacity();
+		while(!emptyIntHeap.isEmpty()) {
+			emptyIntHeap.extractMax();
+		}
+		assertEquals(burstCapacity, emptyIntHeap.getCapacity());
+		assertThrows(IllegalArgumentException.class, () -> emptyIntHeap.setShrinkThreshold(2));
+	}
+	
+	@Test
+	void testTrimToSize() {
+		intHeap.trimToSize();
+		assertEquals(6, intHeap.getCapacity());
+		assertEquals(1.0, intHeap.getOccupancy());
+		intHeap.add(100);
+		assertEquals(100, intHeap.peek());
+		emptyIntHeap.trimToSize();
+		assertEquals(0, emptyIntHeap.getCapacity());
+		emptyIntHeap.add(5);
+		assertEquals(5, emptyIntHeap.extractMax());
+	}
+	
+	@Test
+	void testClearReleasesCapacity() {
+		for(int i = 0; i < 1000; i++) {
+			emptyIntHeap.add(i);
+		}
+		emptyIntHeap.clear();
+		assertEquals(15, emptyIntHeap.getCapacity());
+		assertEquals(0.0, emptyIntHeap.getOccupancy());
+	}
+}
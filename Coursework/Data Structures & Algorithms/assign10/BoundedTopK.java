@@ -0,0 +1,127 @@
+package assign10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class accumulates the k largest items offered to it, using O(k) memory. It keeps the
+ * items in a min-heap of at most k items, whose root is the smallest item kept, so a new item
+ * is either rejected with one comparison or replaces the root. Accumulators filled from
+ * separate parts of an input, e.g. by separate threads, can be merged into one.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <E> - The type of items accumulated.
+ */
+public class BoundedTopK<E> {
+
+	private final int k;
+	private final Comparator<? super E> cmp;
+	private E[] heap;
+	private int size;
+
+	/**
+	 * Constructs an empty accumulator of the k largest items utilizing a custom comparator.
+	 *
+	 * @param k - The number of largest items to be kept
+	 * @param cmp - The comparator defining how to compare items
+	 * @throws IllegalArgumentException if k is negative
+	 */
+	@SuppressWarnings("unchecked")
+	public BoundedTopK(int k, Comparator<? super E> cmp) {
+		if(k < 0) {
+			throw new IllegalArgumentException("Passed k value is invalid.");
+		}
+		this.k = k;
+		this.cmp = cmp;
+		heap = (E[]) new Object[Math.min(k, 16)];
+		size = 0;
+	}
+
+	/**
+	 * Offers the given item, which is kept if it is among the k largest offered so far.
+	 *
+	 * @param item - The item being offered
+	 */
+	public void offer(E item) {
+		if(size < k) {
+			if(size == heap.length) {
+				heap = Arrays.copyOf(heap, (int) Math.min(k, heap.length * 2L));
+			}
+			siftUp(size++, item);
+		} else if(k > 0 && cmp.compare(item, heap[0]) > 0) {
+			siftDown(0, item);
+		}
+	}
+
+	/**
+	 * Offers every item kept by the given accumulator to this one.
+	 *
+	 * @param other - An accumulator using the same k and comparator
+	 * @return this accumulator
+	 */
+	public BoundedTopK<E> merge(BoundedTopK<E> other) {
+		for(int i = 0; i < other.size; i++) {
+			offer(other.heap[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the number of items kept, which is the smaller of k and the number offered.
+	 *
+	 * @return The number of items kept
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the items kept, in descending order.
+	 *
+	 * @return a list of the largest items offered, in descending order
+	 */
+	public List<E> toList() {
+		List<E> largestList = new ArrayList<E>(Arrays.asList(heap).subList(0, size));
+		largestList.sort(Collections.reverseOrder(cmp));
+		return largestList;
+	}
+
+	/**
+	 * Moves a hole up from the given index until the given item can be placed in it.
+	 */
+	private void siftUp(int hole, E item) {
+		while(hole > 0) {
+			int parent = (hole - 1) / 2;
+			if(cmp.compare(item, heap[parent]) >= 0) {
+				break;
+			}
+			heap[hole] = heap[parent];
+			hole = parent;
+		}
+		heap[hole] = item;
+	}
+
+	/**
+	 * Moves a hole down from the given index until the given item can be placed in it.
+	 */
+	private void siftDown(int hole, E item) {
+		int half = size / 2;
+		while(hole < half) {
+			int child = 2 * hole + 1;
+			if(child + 1 < size && cmp.compare(heap[child + 1], heap[child]) < 0) {
+				child++;
+			}
+			if(cmp.compare(heap[child], item) >= 0) {
+				break;
+			}
+			heap[hole] = heap[child];
+			hole = child;
+		}
+		heap[hole] = item;
+	}
+}
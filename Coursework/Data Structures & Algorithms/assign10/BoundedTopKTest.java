@@ -0,0 +1,62 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedTopKTest {
+
+	private Comparator<Integer> natural = Comparator.naturalOrder();
+
+	@Test
+	void testInvalidK() {
+		assertThrows(IllegalArgumentException.class, () -> new BoundedTopK<Integer>(-1, natural));
+	}
+
+	@Test
+	void testZeroK() {
+		BoundedTopK<Integer> topK = new BoundedTopK<Integer>(0, natural);
+		topK.offer(5);
+		assertEquals(0, topK.size());
+		assertTrue(topK.toList().isEmpty());
+	}
+
+	@Test
+	void testFewerThanK() {
+		BoundedTopK<Integer> topK = new BoundedTopK<Integer>(5, natural);
+		topK.offer(2);
+		topK.offer(9);
+		assertEquals(List.of(9, 2), topK.toList());
+	}
+
+	@Test
+	void testDuplicates() {
+		BoundedTopK<Integer> topK = new BoundedTopK<Integer>(3, natural);
+		for(int i = 0; i < 10; i++) {
+			topK.offer(7);
+		}
+		topK.offer(1);
+		assertEquals(List.of(7, 7, 7), topK.toList());
+	}
+
+	@Test
+	void testOfferAndMerge() {
+		Random rng = new Random(15);
+		List<Integer> nums = new ArrayList<Integer>();
+		BoundedTopK<Integer> first = new BoundedTopK<Integer>(100, natural);
+		BoundedTopK<Integer> second = new BoundedTopK<Integer>(100, natural);
+		for(int i = 0; i < 50000; i++) {
+			int num = rng.nextInt();
+			nums.add(num);
+			(i % 2 == 0 ? first : second).offer(num);
+		}
+		Collections.sort(nums, Collections.reverseOrder());
+		assertEquals(nums.subList(0, 100), first.merge(second).toList());
+	}
+}
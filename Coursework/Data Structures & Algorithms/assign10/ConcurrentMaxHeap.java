@@ -0,0 +1,307 @@
+package assign10;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class represents a max priority queue which may be shared by many threads. It is a
+ * MultiQueue: the items are spread over several sub-heaps, each guarded by its own lock, and
+ * each add locks one sub-heap chosen at random, skipping any sub-heap another thread holds.
+ * Each sub-heap publishes its current maximum, so the maxima can be compared without locking.
+ *
+ * In relaxed mode, extractMax compares the maxima of two sub-heaps chosen at random and
+ * extracts from the larger, so it locks a single sub-heap. The item returned is then usually,
+ * but not always, the maximum of the whole queue, and it is among the largest few items with
+ * high probability. In strict mode, extractMax and peek lock every sub-heap and take the
+ * exact maximum.
+ *
+ * Strict mode is a correctness fallback with no scalability: each strict extractMax or peek
+ * holds every lock, so it serializes with every other operation, adds included, and takes
+ * more locks than a single-lock BinaryMaxHeap, which it is slower than even on one thread.
+ * Use relaxed mode for throughput, and strict mode only where an exact maximum is required.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <E> - The type of items stored in this queue.
+ */
+public class ConcurrentMaxHeap<E> implements PriorityQueue<E> {
+
+	private final SubHeap<E>[] subHeaps;
+	private final boolean strict;
+	private final Comparator<? super E> cmp;
+	private final AtomicInteger size;
+
+	/**
+	 * Constructs an empty relaxed queue utilizing natural ordering, with two sub-heaps per
+	 * available processor.
+	 */
+	public ConcurrentMaxHeap() {
+		this(2 * Runtime.getRuntime().availableProcessors(), false, null);
+	}
+
+	/**
+	 * Constructs an empty queue.
+	 *
+	 * @param subHeapCount - The number of sub-heaps, e.g. twice the number of threads
+	 * @param strict - true if extractMax and peek must return the exact maximum, at the
+	 *                 cost of locking every sub-heap, false if they may return one of the
+	 *                 largest items
+	 * @param cmp - The comparator being used in the queue, or null for natural ordering
+	 * @throws IllegalArgumentException if subHeapCount is less than 1
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public ConcurrentMaxHeap(int subHeapCount, boolean strict, Comparator<? super E> cmp) {
+		if(subHeapCount < 1) {
+			throw new IllegalArgumentException("There must be at least one sub-heap.");
+		}
+		this.strict = strict;
+		this.cmp = cmp != null ? cmp : (Comparator<? super E>) Comparator.naturalOrder();
+		subHeaps = new SubHeap[subHeapCount];
+		for(int i = 0; i < subHeapCount; i++) {
+			subHeaps[i] = new SubHeap<E>(this.cmp);
+		}
+		size = new AtomicInteger();
+	}
+
+	/**
+	 * Returns true if this queue always extracts the exact maximum.
+	 *
+	 * @return true in strict mode, false in relaxed mode
+	 */
+	public boolean isStrict() {
+		return strict;
+	}
+
+	/**
+	 * Adds the given item to a sub-heap no other thread holds. After as many failed tries
+	 * as there are sub-heaps, e.g. while a strict extractMax holds them all, it blocks on
+	 * the last sub-heap tried rather than spinning.
+	 *
+	 * @param item - The item being added to the queue
+	 */
+	public void add(E item) {
+		ThreadLocalRandom r = ThreadLocalRandom.current();
+		SubHeap<E> subHeap = subHeaps[r.nextInt(subHeaps.length)];
+		int tries = 1;
+		while(!subHeap.lock.tryLock()) {
+			if(tries++ == subHeaps.length) {
+				subHeap.lock.lock();
+				break;
+			}
+			subHeap = subHeaps[r.nextInt(subHeaps.length)];
+		}
+		try {
+			subHeap.heap.add(item);
+			subHeap.top = subHeap.heap.peek();
+			size.incrementAndGet();
+		} finally {
+			subHeap.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns, but does not remove, the maximum item in the queue. In relaxed mode the
+	 * maximum is read from the published sub-heap maxima without locking, so it may be
+	 * out of date once returned.
+	 *
+	 * @return The maximum item
+	 * @throws NoSuchElementException if this queue is empty
+	 */
+	public E peek() throws NoSuchElementException {
+		if(strict) {
+			lockAll();
+			try {
+				return best().heap.peek();
+			} finally {
+				unlockAll();
+			}
+		}
+		E max = null;
+		for(SubHeap<E> subHeap : subHeaps) {
+			E top = subHeap.top;
+			if(top != null && (max == null || cmp.compare(top, max) > 0)) {
+				max = top;
+			}
+		}
+		if(max == null) {
+			throw new NoSuchElementException("There is no value stored in the queue");
+		}
+		return max;
+	}
+
+	/**
+	 * Returns and removes the maximum item in the queue, or in relaxed mode one of the
+	 * largest items.
+	 *
+	 * @return The maximum item
+	 * @throws NoSuchElementException if this queue is empty
+	 */
+	public E extractMax() throws NoSuchElementException {
+		if(strict || subHeaps.length == 1) {
+			lockAll();
+			try {
+				return best().extract(size);
+			} finally {
+				unlockAll();
+			}
+		}
+		ThreadLocalRandom r = ThreadLocalRandom.current();
+		for(int attempt = 0; attempt < 4 * subHeaps.length; attempt++) {
+			SubHeap<E> first = subHeaps[r.nextInt(subHeaps.length)];
+			SubHeap<E> second = subHeaps[r.nextInt(subHeaps.length)];
+			E firstTop = first.top;
+			E secondTop = second.top;
+			if(firstTop == null && secondTop == null) {
+				continue;
+			}
+			SubHeap<E> chosen = secondTop == null || (firstTop != null && cmp.compare(firstTop, secondTop) >= 0) ? first : second;
+			if(!chosen.lock.tryLock()) {
+				continue;
+			}
+			try {
+				if(!chosen.heap.isEmpty()) {
+					return chosen.extract(size);
+				}
+			} finally {
+				chosen.lock.unlock();
+			}
+		}
+		// the queue is empty or nearly so, so visit every sub-heap in turn
+		for(SubHeap<E> subHeap : subHeaps) {
+			subHeap.lock.lock();
+			try {
+				if(!subHeap.heap.isEmpty()) {
+					return subHeap.extract(size);
+				}
+			} finally {
+				subHeap.lock.unlock();
+			}
+		}
+		throw new NoSuchElementException("There is no value stored in the queue");
+	}
+
+	/**
+	 * Returns the number of items stored in this queue.
+	 *
+	 * @return The size of the queue
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * Returns true if the queue is empty, false otherwise.
+	 *
+	 * @return true if queue is empty, otherwise false
+	 */
+	public boolean isEmpty() {
+		return size.get() == 0;
+	}
+
+	/**
+	 * Empties this queue.
+	 */
+	public void clear() {
+		lockAll();
+		try {
+			for(SubHeap<E> subHeap : subHeaps) {
+				size.addAndGet(-subHeap.heap.size());
+				subHeap.heap.clear();
+				subHeap.top = null;
+			}
+		} finally {
+			unlockAll();
+		}
+	}
+
+	/**
+	 * Creates and returns an array of the items in this queue. The sub-heap holding the
+	 * maximum comes first, so the maximum is at index 0, followed by the other sub-heaps,
+	 * each in the order of its backing array.
+	 */
+	public Object[] toArray() {
+		lockAll();
+		try {
+			List<Object> items = new ArrayList<Object>();
+			SubHeap<E> first = isEmpty() ? null : best();
+			if(first != null) {
+				for(Object item : first.heap.toArray()) {
+					items.add(item);
+				}
+			}
+			for(SubHeap<E> subHeap : subHeaps) {
+				if(subHeap != first) {
+					for(Object item : subHeap.heap.toArray()) {
+						items.add(item);
+					}
+				}
+			}
+			return items.toArray();
+		} finally {
+			unlockAll();
+		}
+	}
+
+	/**
+	 * Returns the sub-heap holding the maximum item. Every sub-heap must be locked.
+	 *
+	 * @throws NoSuchElementException if every sub-heap is empty
+	 */
+	private SubHeap<E> best() throws NoSuchElementException {
+		SubHeap<E> best = null;
+		for(SubHeap<E> subHeap : subHeaps) {
+			if(!subHeap.heap.isEmpty() && (best == null || cmp.compare(subHeap.heap.peek(), best.heap.peek()) > 0)) {
+				best = subHeap;
+			}
+		}
+		if(best == null) {
+			throw new NoSuchElementException("There is no value stored in the queue");
+		}
+		return best;
+	}
+
+	/**
+	 * Locks every sub-heap, always in the same order so that no two threads deadlock.
+	 */
+	private void lockAll() {
+		for(SubHeap<E> subHeap : subHeaps) {
+			subHeap.lock.lock();
+		}
+	}
+
+	private void unlockAll() {
+		for(int i = subHeaps.length - 1; i >= 0; i--) {
+			subHeaps[i].lock.unlock();
+		}
+	}
+
+	/**
+	 * A sub-heap, its lock, and its published maximum.
+	 */
+	private static class SubHeap<E> {
+
+		final ReentrantLock lock = new ReentrantLock();
+		final DaryMaxHeap<E> heap;
+		volatile E top;
+
+		SubHeap(Comparator<? super E> cmp) {
+			heap = new DaryMaxHeap<E>(4, cmp);
+		}
+
+		/**
+		 * Removes the maximum of this non-empty sub-heap, which must be locked.
+		 */
+		E extract(AtomicInteger size) {
+			E item = heap.extractMax();
+			top = heap.isEmpty() ? null : heap.peek();
+			size.decrementAndGet();
+			return item;
+		}
+	}
+}
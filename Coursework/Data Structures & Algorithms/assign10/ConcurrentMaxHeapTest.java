@@ -0,0 +1,152 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentMaxHeapTest {
+
+	@Test
+	void testInvalidSubHeapCount() {
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentMaxHeap<Integer>(0, false, null));
+	}
+
+	@Test
+	void testEmpty() {
+		for(boolean strict : new boolean[] {false, true}) {
+			ConcurrentMaxHeap<Integer> heap = new ConcurrentMaxHeap<Integer>(4, strict, null);
+			assertTrue(heap.isEmpty());
+			assertThrows(NoSuchElementException.class, () -> heap.peek());
+			assertThrows(NoSuchElementException.class, () -> heap.extractMax());
+			assertEquals(0, heap.toArray().length);
+		}
+	}
+
+	@Test
+	void testStrictOrder() {
+		ConcurrentMaxHeap<Integer> heap = new ConcurrentMaxHeap<Integer>(8, true, null);
+		List<Integer> nums = new ArrayList<Integer>();
+		for(int i = 0; i < 1000; i++) {
+			nums.add(i);
+		}
+		Collections.shuffle(nums);
+		for(Integer num : nums) {
+			heap.add(num);
+		}
+		assertEquals(999, heap.peek());
+		assertEquals(999, heap.toArray()[0]);
+		for(int i = 999; i >= 0; i--) {
+			assertEquals(i, heap.extractMax());
+		}
+		assertTrue(heap.isEmpty());
+	}
+
+	@Test
+	void testRelaxedReturnsEveryItem() {
+		ConcurrentMaxHeap<Integer> heap = new ConcurrentMaxHeap<Integer>(8, false, (a, b) -> b - a);
+		for(int i = 0; i < 1000; i++) {
+			heap.add(i);
+		}
+		assertEquals(0, heap.peek());
+		List<Integer> extracted = new ArrayList<Integer>();
+		while(!heap.isEmpty()) {
+			extracted.add(heap.extractMax());
+		}
+		// two-choice extraction starts near the front of the order
+		assertTrue(extracted.get(0) < 100);
+		Collections.sort(extracted);
+		for(int i = 0; i < 1000; i++) {
+			assertEquals(i, extracted.get(i));
+		}
+	}
+
+	@Test
+	void testClear() {
+		ConcurrentMaxHeap<Integer> heap = new ConcurrentMaxHeap<Integer>();
+		heap.add(1);
+		heap.add(2);
+		heap.clear();
+		assertEquals(0, heap.size());
+		heap.add(3);
+		assertEquals(3, heap.extractMax());
+	}
+
+	@Test
+	void testConcurrentProducersAndConsumers() throws InterruptedException {
+		for(boolean strict : new boolean[] {false, true}) {
+			ConcurrentMaxHeap<Integer> heap = new ConcurrentMaxHeap<Integer>(8, strict, null);
+			ConcurrentLinkedQueue<Integer> extracted = new ConcurrentLinkedQueue<Integer>();
+			int threads = 4;
+			int perThread = 20000;
+			List<Thread> workers = new ArrayList<Thread>();
+			for(int t = 0; t < threads; t++) {
+				int base = t * perThread;
+				workers.add(new Thread(() -> {
+					for(int i = 0; i < perThread; i++) {
+						heap.add(base + i);
+						if(i % 2 == 1) {
+							extracted.add(heap.extractMax());
+						}
+					}
+				}));
+			}
+			for(Thread worker : workers) {
+				worker.start();
+			}
+			for(Thread worker : workers) {
+				worker.join();
+			}
+			assertEquals(threads * perThread / 2, heap.size());
+			while(!heap.isEmpty()) {
+				extracted.add(heap.extractMax());
+			}
+			List<Integer> all = new ArrayList<Integer>(extracted);
+			Collections.sort(all);
+			assertEquals(threads * perThread, all.size());
+			for(int i = 0; i < all.size(); i++) {
+				assertEquals(i, all.get(i));
+			}
+		}
+	}
+
+	@Test
+	void testAddBlocksInsteadOfSpinning() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		// comparing against 2 stalls the first adder while it holds the only sub-heap
+		ConcurrentMaxHeap<Integer> heap = new ConcurrentMaxHeap<Integer>(1, false, (a, b) -> {
+			if(a == 2 || b == 2) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return Integer.compare(a, b);
+		});
+		heap.add(1);
+		Thread holder = new Thread(() -> heap.add(2));
+		holder.start();
+		while(holder.getState() != Thread.State.WAITING) {
+			Thread.sleep(1);
+		}
+		Thread adder = new Thread(() -> heap.add(3));
+		adder.start();
+		long deadline = System.currentTimeMillis() + 5000;
+		while(adder.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+			Thread.sleep(1);
+		}
+		assertEquals(Thread.State.WAITING, adder.getState());
+		release.countDown();
+		holder.join();
+		adder.join();
+		assertEquals(3, heap.size());
+		assertEquals(3, heap.extractMax());
+	}
+}
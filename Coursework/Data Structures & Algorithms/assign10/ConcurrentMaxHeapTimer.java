@@ -0,0 +1,185 @@
+package assign10;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures the throughput of a shared priority queue as the number of threads grows. The
+ * problem size is the number of threads; every timing iteration performs a fixed number of
+ * operations split evenly across the threads, half adds and half extractMaxes, on a queue
+ * prefilled so that it never empties.
+ *
+ * Compares a BinaryMaxHeap guarded by a single lock with ConcurrentMaxHeap in strict and in
+ * relaxed mode. Strict mode locks every sub-heap on each extractMax, so it is expected to
+ * trail the single lock at every thread count; it is timed to show the cost of the fallback.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class ConcurrentMaxHeapTimer extends TimerTemplate {
+
+	public enum Kind {
+		LOCKED_BINARY, STRICT, RELAXED
+	}
+
+	private static final int totalOps = 1 << 20;
+	private static final int prefill = 1 << 16;
+
+	private Kind kind;
+	private PriorityQueue<Integer> queue;
+	private Integer[] items;
+	private ExecutorService pool;
+
+	public ConcurrentMaxHeapTimer(int[] problemSizes, int timesToLoop, Kind kind) {
+		super(problemSizes, timesToLoop);
+		this.kind = kind;
+	}
+
+	@Override
+	protected void setup(int n) {
+		if(pool != null) {
+			pool.shutdown();
+		}
+		pool = Executors.newFixedThreadPool(n);
+		switch(kind) {
+		case LOCKED_BINARY:
+			queue = new SynchronizedQueue<Integer>(new BinaryMaxHeap<Integer>());
+			break;
+		case STRICT:
+			queue = new ConcurrentMaxHeap<Integer>(4 * n, true, null);
+			break;
+		default:
+			queue = new ConcurrentMaxHeap<Integer>(4 * n, false, null);
+		}
+		Random rng = new Random(15);
+		items = new Integer[1 << 16];
+		for(int i = 0; i < items.length; i++) {
+			items[i] = rng.nextInt();
+		}
+		for(int i = 0; i < prefill; i++) {
+			queue.add(items[i]);
+		}
+	}
+
+	@Override
+	protected void timingIteration(int n) {
+		List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+		for(int t = 0; t < n; t++) {
+			tasks.add(() -> {
+				int offset = ThreadLocalRandom.current().nextInt(items.length);
+				int sum = 0;
+				for(int i = 0; i < totalOps / n; i += 2) {
+					queue.add(items[(offset + i) & (items.length - 1)]);
+					sum += queue.extractMax();
+				}
+				return sum;
+			});
+		}
+		runAll(tasks);
+	}
+
+	@Override
+	protected void compensationIteration(int n) {
+		List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+		for(int t = 0; t < n; t++) {
+			tasks.add(() -> {
+				int offset = ThreadLocalRandom.current().nextInt(items.length);
+				int sum = 0;
+				for(int i = 0; i < totalOps / n; i += 2) {
+					sum += items[(offset + i) & (items.length - 1)];
+				}
+				return sum;
+			});
+		}
+		runAll(tasks);
+	}
+
+	/**
+	 * Runs every task on the pool and waits for all of them to finish.
+	 *
+	 * @param tasks - the tasks to run
+	 */
+	private void runAll(List<Callable<Integer>> tasks) {
+		try {
+			for(Future<Integer> f : pool.invokeAll(tasks)) {
+				f.get();
+			}
+		} catch (InterruptedException | ExecutionException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public static void main(String[] args) {
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		ArrayList<Integer> ns = new ArrayList<>();
+		for(int n = 1; n <= maxThreads; n *= 2) {
+			ns.add(n);
+		}
+		int[] problemSizes = new int[ns.size()];
+		for(int i = 0; i < problemSizes.length; i++) {
+			problemSizes[i] = ns.get(i);
+		}
+
+		for(Kind kind : Kind.values()) {
+			System.out.println(kind);
+			if(kind == Kind.STRICT) {
+				System.out.println("(correctness fallback: every extractMax locks all sub-heaps, so it does not scale)");
+			}
+			System.out.println("threads, avg time");
+			var timer = new ConcurrentMaxHeapTimer(problemSizes, 20, kind);
+			var results = timer.run();
+			timer.pool.shutdown();
+			System.out.println("threads, Mops/sec");
+			for(var result : results) {
+				System.out.println(result.n() + ", " + totalOps / result.avgNanoSecs() * 1000);
+			}
+		}
+	}
+
+	/**
+	 * Guards every operation of a priority queue with a single lock, as a baseline.
+	 */
+	private static class SynchronizedQueue<E> implements PriorityQueue<E> {
+
+		private PriorityQueue<E> inner;
+
+		SynchronizedQueue(PriorityQueue<E> inner) {
+			this.inner = inner;
+		}
+
+		public synchronized void add(E item) {
+			inner.add(item);
+		}
+
+		public synchronized E peek() {
+			return inner.peek();
+		}
+
+		public synchronized E extractMax() {
+			return inner.extractMax();
+		}
+
+		public synchronized int size() {
+			return inner.size();
+		}
+
+		public synchronized boolean isEmpty() {
+			return inner.isEmpty();
+		}
+
+		public synchronized void clear() {
+			inner.clear();
+		}
+
+		public synchronized Object[] toArray() {
+			return inner.toArray();
+		}
+	}
+}
@@ -0,0 +1,232 @@
+package assign10;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents a Max d-ary Heap, in which every node has up to d children. The
+ * children of the node at index i are stored at indices d*i + 1 through d*i + d. A larger
+ * arity makes the tree shallower, so each extractMax visits fewer levels, and the children
+ * compared at each level sit next to each other in the backing array.
+ *
+ * Sifting moves a hole rather than swapping: the item being placed is held aside while the
+ * items it passes are shifted into the hole, and it is written once at its final index.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <E> - The type of items stored in this heap.
+ */
+public class DaryMaxHeap<E> implements PriorityQueue<E> {
+
+	private static final int DEFAULT_ARITY = 4;
+	private static final int DEFAULT_CAPACITY = 15;
+
+	private E[] array;
+	private int size;
+	private final int arity;
+	private final Comparator<? super E> cmp;
+
+	/**
+	 * Constructs an empty 4-ary max heap utilizing natural ordering.
+	 */
+	public DaryMaxHeap() {
+		this(DEFAULT_ARITY, null);
+	}
+
+	/**
+	 * Constructs an empty d-ary max heap utilizing natural ordering.
+	 *
+	 * @param arity - The number of children of each node, e.g. 4 or 8
+	 * @throws IllegalArgumentException if arity is less than 2
+	 */
+	public DaryMaxHeap(int arity) {
+		this(arity, null);
+	}
+
+	/**
+	 * Constructs an empty d-ary max heap utilizing a custom comparator.
+	 *
+	 * @param arity - The number of children of each node, e.g. 4 or 8
+	 * @param cmp - The comparator being used in the heap, or null for natural ordering
+	 * @throws IllegalArgumentException if arity is less than 2
+	 */
+	@SuppressWarnings("unchecked")
+	public DaryMaxHeap(int arity, Comparator<? super E> cmp) {
+		if(arity < 2) {
+			throw new IllegalArgumentException("Arity must be at least 2.");
+		}
+		this.arity = arity;
+		this.cmp = cmp != null ? cmp : (Comparator<? super E>) Comparator.naturalOrder();
+		size = 0;
+		array = (E[]) new Object[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * Constructs a d-ary max heap containing all elements in the list utilizing natural ordering.
+	 *
+	 * @param list - A list of items to be added to the heap
+	 * @param arity - The number of children of each node, e.g. 4 or 8
+	 * @throws IllegalArgumentException if arity is less than 2
+	 */
+	public DaryMaxHeap(List<? extends E> list, int arity) {
+		this(list, arity, null);
+	}
+
+	/**
+	 * Constructs a d-ary max heap containing all elements in the list utilizing a custom comparator.
+	 *
+	 * @param list - A list of items to be added to the heap
+	 * @param arity - The number of children of each node, e.g. 4 or 8
+	 * @param cmp - The comparator being used in the heap, or null for natural ordering
+	 * @throws IllegalArgumentException if arity is less than 2
+	 */
+	@SuppressWarnings("unchecked")
+	public DaryMaxHeap(List<? extends E> list, int arity, Comparator<? super E> cmp) {
+		this(arity, cmp);
+		array = (E[]) list.toArray(new Object[Math.max(list.size(), DEFAULT_CAPACITY)]);
+		size = list.size();
+		for(int i = (size - 2) / arity; i >= 0 && size > 1; i--) {
+			siftDown(i, array[i]);
+		}
+	}
+
+	/**
+	 * Returns the number of children of each node in this heap.
+	 *
+	 * @return the arity of the heap
+	 */
+	public int getArity() {
+		return arity;
+	}
+
+	/**
+	 * Adds the given item to this d-ary max heap.
+	 *
+	 * @param item - The item being added to the heap
+	 */
+	public void add(E item) {
+		if(size == array.length) {
+			array = Arrays.copyOf(array, array.length * 2 + 1);
+		}
+		siftUp(size, item);
+		size++;
+	}
+
+	/**
+	 * Returns, but does not remove, the maximum item in the heap.
+	 *
+	 * @return The maximum item
+	 * @throws NoSuchElementException if this d-ary max heap is empty
+	 */
+	public E peek() throws NoSuchElementException {
+		if(size < 1) {
+			throw new NoSuchElementException("There is no value stored in the heap");
+		}
+		return array[0];
+	}
+
+	/**
+	 * Returns and removes the maximum item in the heap.
+	 *
+	 * @return The maximum item
+	 * @throws NoSuchElementException if this d-ary max heap is empty
+	 */
+	public E extractMax() throws NoSuchElementException {
+		if(size < 1) {
+			throw new NoSuchElementException("There is no value stored in the heap");
+		}
+		E maxItem = array[0];
+		size--;
+		E last = array[size];
+		array[size] = null;
+		if(size > 0) {
+			siftDown(0, last);
+		}
+		return maxItem;
+	}
+
+	/**
+	 * Returns the number of items stored in this d-ary max heap.
+	 *
+	 * @return The size of the heap
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the heap is empty, false otherwise.
+	 *
+	 * @return true if heap is empty, otherwise false
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Empties this d-ary max heap, releasing the backing array.
+	 */
+	@SuppressWarnings("unchecked")
+	public void clear() {
+		size = 0;
+		array = (E[]) new Object[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * Creates and returns an array of the items in this d-ary max heap,
+	 * in the same order they appear in the backing array.
+	 */
+	public Object[] toArray() {
+		return Arrays.copyOf(array, size, Object[].class);
+	}
+
+	/**
+	 * Moves a hole up from the given index until the given item can be placed in it.
+	 *
+	 * @param hole - The index of the hole
+	 * @param item - The item being placed
+	 */
+	private void siftUp(int hole, E item) {
+		while(hole > 0) {
+			int parent = (hole - 1) / arity;
+			if(cmp.compare(item, array[parent]) <= 0) {
+				break;
+			}
+			array[hole] = array[parent];
+			hole = parent;
+		}
+		array[hole] = item;
+	}
+
+	/**
+	 * Moves a hole down from the given index until the given item can be placed in it. Each
+	 * level makes one pass over the hole's children to find the largest.
+	 *
+	 * @param hole - The index of the hole
+	 * @param item - The item being placed
+	 */
+	private void siftDown(int hole, E item) {
+		while(true) {
+			int first = hole * arity + 1;
+			if(first >= size || first < 0) {
+				break;
+			}
+			int end = Math.min(first + arity, size);
+			int largest = first;
+			for(int child = first + 1; child < end; child++) {
+				if(cmp.compare(array[child], array[largest]) > 0) {
+					largest = child;
+				}
+			}
+			if(cmp.compare(array[largest], item) <= 0) {
+				break;
+			}
+			array[hole] = array[largest];
+			hole = largest;
+		}
+		array[hole] = item;
+	}
+}
@@ -0,0 +1,121 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DaryMaxHeapTest {
+
+	private List<String> strList;
+	private List<Integer> intList;
+	private DaryMaxHeap<Integer> intHeap, emptyIntHeap;
+	private DaryMaxHeap<String> strCusHeap;
+	private Comparator<String> strLengthCmp;
+
+	@BeforeEach
+	void setup() {
+		strLengthCmp = (str1, str2) -> str1.length()-str2.length();
+		intList = new ArrayList<Integer>();
+		intList.add(-3);
+		intList.add(12);
+		intList.add(9);
+		intList.add(69);
+		intList.add(14);
+		intList.add(2);
+		strList = new ArrayList<String>();
+		strList.add("Anton");
+		strList.add("dog");
+		strList.add("mountain");
+		strList.add("Jake");
+		strList.add("cat");
+		intHeap = new DaryMaxHeap<Integer>(intList, 4);
+		emptyIntHeap = new DaryMaxHeap<Integer>();
+		strCusHeap = new DaryMaxHeap<String>(strList, 8, strLengthCmp);
+	}
+
+	@Test
+	void testInvalidArity() {
+		assertThrows(IllegalArgumentException.class, () -> new DaryMaxHeap<Integer>(1));
+	}
+
+	@Test
+	void testEmpty() {
+		assertEquals(0, emptyIntHeap.size());
+		assertTrue(emptyIntHeap.isEmpty());
+		assertThrows(NoSuchElementException.class, () -> emptyIntHeap.peek());
+		assertThrows(NoSuchElementException.class, () -> emptyIntHeap.extractMax());
+	}
+
+	@Test
+	void testBuildFromList() {
+		assertEquals(6, intHeap.size());
+		assertEquals(69, intHeap.peek());
+		assertEquals(Arrays.toString(new Integer[] {69, 12, 9, -3, 14, 2}), Arrays.toString(intHeap.toArray()));
+	}
+
+	@Test
+	void testCustomComparator() {
+		assertEquals("mountain", strCusHeap.extractMax());
+		assertEquals("Anton", strCusHeap.extractMax());
+		assertEquals(4, strCusHeap.extractMax().length());
+	}
+
+	@Test
+	void testAddAndExtract() {
+		emptyIntHeap.add(5);
+		emptyIntHeap.add(20);
+		emptyIntHeap.add(-1);
+		assertEquals(20, emptyIntHeap.peek());
+		assertEquals(20, emptyIntHeap.extractMax());
+		assertEquals(5, emptyIntHeap.extractMax());
+		assertEquals(-1, emptyIntHeap.extractMax());
+		assertTrue(emptyIntHeap.isEmpty());
+	}
+
+	@Test
+	void testClear() {
+		intHeap.clear();
+		assertTrue(intHeap.isEmpty());
+		assertEquals(0, intHeap.toArray().length);
+		intHeap.add(3);
+		assertEquals(3, intHeap.peek());
+	}
+
+	@Test
+	void testSingleItemList() {
+		DaryMaxHeap<Integer> heap = new DaryMaxHeap<Integer>(List.of(7), 8);
+		assertEquals(7, heap.extractMax());
+	}
+
+	@Test
+	void testManyItemsEveryArity() {
+		Random rng = new Random(15);
+		List<Integer> nums = new ArrayList<Integer>();
+		for(int i = 0; i < 10000; i++) {
+			nums.add(rng.nextInt(1000));
+		}
+		List<Integer> sorted = new ArrayList<Integer>(nums);
+		Collections.sort(sorted, Collections.reverseOrder());
+		for(int arity : new int[] {2, 3, 4, 8}) {
+			DaryMaxHeap<Integer> built = new DaryMaxHeap<Integer>(nums, arity);
+			DaryMaxHeap<Integer> added = new DaryMaxHeap<Integer>(arity);
+			for(Integer num : nums) {
+				added.add(num);
+			}
+			for(Integer expected : sorted) {
+				assertEquals(expected, built.extractMax());
+				assertEquals(expected, added.extractMax());
+			}
+			assertTrue(built.isEmpty());
+		}
+	}
+}
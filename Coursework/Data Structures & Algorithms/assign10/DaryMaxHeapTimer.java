@@ -0,0 +1,66 @@
+package assign10;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Times an extract-heavy workload on a heap of n Integers: each timing iteration extracts the
+ * maximum and adds a new item 1000 times, keeping the heap at size n. Compares BinaryMaxHeap
+ * with DaryMaxHeap of the given arity (an arity of 0 selects BinaryMaxHeap).
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class DaryMaxHeapTimer extends TimerTemplate {
+
+	private static final int OPERATIONS = 1000;
+
+	private int arity;
+	private PriorityQueue<Integer> heap;
+	private Integer[] items;
+	private int next;
+
+	public DaryMaxHeapTimer(int[] problemSizes, int timesToLoop, int arity) {
+		super(problemSizes, timesToLoop);
+		this.arity = arity;
+	}
+
+	@Override
+	protected void setup(int n) {
+		Random rng = new Random(15);
+		ArrayList<Integer> nums = new ArrayList<Integer>(n);
+		for(int i = 0; i < n; i++) {
+			nums.add(rng.nextInt());
+		}
+		heap = arity == 0 ? new BinaryMaxHeap<Integer>(nums) : new DaryMaxHeap<Integer>(nums, arity);
+		items = new Integer[1 << 16];
+		for(int i = 0; i < items.length; i++) {
+			items[i] = rng.nextInt();
+		}
+	}
+
+	@Override
+	protected void timingIteration(int n) {
+		for(int i = 0; i < OPERATIONS; i++) {
+			heap.extractMax();
+			heap.add(items[next++ & (items.length - 1)]);
+		}
+	}
+
+	@Override
+	protected void compensationIteration(int n) {
+		for(int i = 0; i < OPERATIONS; i++) {
+			if(items[next++ & (items.length - 1)] == null) {
+				next--;
+			}
+		}
+	}
+
+	public static void main(String[] args) {
+		int[] problemSizes = {100000, 1000000, 4000000};
+		for(int arity : new int[] {0, 4, 8}) {
+			System.out.println((arity == 0 ? "BinaryMaxHeap" : "DaryMaxHeap, arity " + arity) + "\nn, time");
+			new DaryMaxHeapTimer(problemSizes, 200, arity).run();
+		}
+	}
+}
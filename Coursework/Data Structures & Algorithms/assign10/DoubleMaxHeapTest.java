@@ -0,0 +1,65 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DoubleMaxHeapTest {
+
+	private DoubleMaxHeap heap;
+
+	@BeforeEach
+	void setup() {
+		heap = new DoubleMaxHeap();
+	}
+
+	@Test
+	void testEmpty() {
+		assertTrue(heap.isEmpty());
+		assertThrows(NoSuchElementException.class, () -> heap.peek());
+		assertThrows(NoSuchElementException.class, () -> heap.extractMax());
+	}
+
+	@Test
+	void testSpecialValues() {
+		heap.add(0.0);
+		heap.add(Double.NaN);
+		heap.add(-0.0);
+		heap.add(Double.NEGATIVE_INFINITY);
+		heap.add(Double.POSITIVE_INFINITY);
+		assertTrue(Double.isNaN(heap.extractMax()));
+		assertEquals(Double.POSITIVE_INFINITY, heap.extractMax());
+		assertEquals(0.0, heap.extractMax());
+		assertEquals(-0.0, heap.extractMax());
+		assertEquals(Double.NEGATIVE_INFINITY, heap.extractMax());
+	}
+
+	@Test
+	void testHeapifyAndClear() {
+		heap.heapify(new double[] {1.5, 3.5, 2.5});
+		assertEquals(3, heap.size());
+		assertEquals(3.5, heap.peek());
+		heap.clear();
+		assertTrue(heap.isEmpty());
+	}
+
+	@Test
+	void testManyValues() {
+		Random rng = new Random(15);
+		double[] values = new double[10000];
+		for(int i = 0; i < values.length; i++) {
+			values[i] = rng.nextGaussian();
+		}
+		heap.heapify(values);
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		for(int i = sorted.length - 1; i >= 0; i--) {
+			assertEquals(sorted[i], heap.extractMax());
+		}
+	}
+}
@@ -1,9 +1,15 @@
 package assign10;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collector;
 
 /**
  * This class contains generic static methods for finding the k largest items in a list.
@@ -13,6 +19,12 @@ import java.util.List;
  */
 public class FindKLargest {
 	
+	/** The number of items below which a parallel task scans its range itself. */
+	private static final int PARALLEL_THRESHOLD = 1 << 14;
+	
+	/** The length of a range below which selection finishes with an insertion sort. */
+	private static final int INSERTION_THRESHOLD = 16;
+	
 	/**
 	 * Determines the k largest items in the given list, using a binary max heap and the 
 	 * natural ordering of the items.
@@ -98,4 +110,321 @@ public class FindKLargest {
 		}
 		return largestList;
 	}
+
+	/**
+	 * Determines the k largest values in the given array, using a long max heap so that no
+	 * value is boxed.
+	 * 
+	 * @param items - the given array
+	 * @param k - the number of largest values
+	 * @return an array of the k largest values, in descending order
+	 * @throws IllegalArgumentException if k is negative or larger than the length of the given array
+	 */
+	public static long[] findKLargest(long[] items, int k) throws IllegalArgumentException {
+		if(k<0||k>items.length) {
+			throw new IllegalArgumentException("Passed k value is invalid for the array.");
+		}
+		long[] largest = new long[k];
+		LongMaxHeap heap = new LongMaxHeap();
+		heap.heapify(items);
+		for(int i = 0; i < k; i++) {
+			largest[i] = heap.extractMax();
+		}
+		return largest;
+	}
+
+	/**
+	 * Determines the k largest values in the given array, using a double max heap so that no
+	 * value is boxed. Values are ordered as by Double.compare.
+	 * 
+	 * @param items - the given array
+	 * @param k - the number of largest values
+	 * @return an array of the k largest values, in descending order
+	 * @throws IllegalArgumentException if k is negative or larger than the length of the given array
+	 */
+	public static double[] findKLargest(double[] items, int k) throws IllegalArgumentException {
+		if(k<0||k>items.length) {
+			throw new IllegalArgumentException("Passed k value is invalid for the array.");
+		}
+		double[] largest = new double[k];
+		DoubleMaxHeap heap = new DoubleMaxHeap();
+		heap.heapify(items);
+		for(int i = 0; i < k; i++) {
+			largest[i] = heap.extractMax();
+		}
+		return largest;
+	}
+
+	/**
+	 * Determines the k largest items produced by the given iterator, using the natural ordering
+	 * of the items. Only k items are held at a time, so the input need not fit in memory.
+	 * 
+	 * @param items - an iterator over the given items
+	 * @param k - the number of largest items
+	 * @return a list of the k largest items, in descending order, or every item if there
+	 *         are fewer than k
+	 * @throws IllegalArgumentException if k is negative
+	 */
+	public static <E extends Comparable<? super E>> List<E> findKLargestStream(Iterator<? extends E> items, int k) throws IllegalArgumentException {
+		return findKLargestStream(items, k, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Determines the k largest items produced by the given iterator. Only k items are held at
+	 * a time, so the input need not fit in memory.
+	 * 
+	 * @param items - an iterator over the given items
+	 * @param k - the number of largest items
+	 * @param cmp - the comparator defining how to compare items
+	 * @return a list of the k largest items, in descending order, or every item if there
+	 *         are fewer than k
+	 * @throws IllegalArgumentException if k is negative
+	 */
+	public static <E> List<E> findKLargestStream(Iterator<? extends E> items, int k, Comparator<? super E> cmp) throws IllegalArgumentException {
+		BoundedTopK<E> topK = new BoundedTopK<E>(k, cmp);
+		while(items.hasNext()) {
+			topK.offer(items.next());
+		}
+		return topK.toList();
+	}
+
+	/**
+	 * Returns a Collector which gathers the k largest items of a stream, using the natural
+	 * ordering of the items. Each thread of a parallel stream holds its own k items, and the
+	 * partial results are merged.
+	 * 
+	 * @param k - the number of largest items
+	 * @return a Collector producing a list of the k largest items, in descending order
+	 * @throws IllegalArgumentException if k is negative
+	 */
+	public static <E extends Comparable<? super E>> Collector<E, ?, List<E>> kLargestCollector(int k) throws IllegalArgumentException {
+		return kLargestCollector(k, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Returns a Collector which gathers the k largest items of a stream. Each thread of a
+	 * parallel stream holds its own k items, and the partial results are merged.
+	 * 
+	 * @param k - the number of largest items
+	 * @param cmp - the comparator defining how to compare items
+	 * @return a Collector producing a list of the k largest items, in descending order
+	 * @throws IllegalArgumentException if k is negative
+	 */
+	public static <E> Collector<E, ?, List<E>> kLargestCollector(int k, Comparator<? super E> cmp) throws IllegalArgumentException {
+		if(k<0) {
+			throw new IllegalArgumentException("Passed k value is invalid.");
+		}
+		return Collector.of(() -> new BoundedTopK<E>(k, cmp), BoundedTopK::offer, BoundedTopK::merge, BoundedTopK::toList);
+	}
+
+	/**
+	 * Determines the k largest items in the given list, using the natural ordering of the
+	 * items. The list is split across the common ForkJoinPool, each task keeps the k largest
+	 * items of its range, and the partial results are merged.
+	 * 
+	 * @param items - the given list
+	 * @param k - the number of largest items
+	 * @return a list of the k largest items, in descending order
+	 * @throws IllegalArgumentException if k is negative or larger than the size of the given list
+	 */
+	public static <E extends Comparable<? super E>> List<E> findKLargestParallel(List<E> items, int k) throws IllegalArgumentException {
+		return findKLargestParallel(items, k, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Determines the k largest items in the given list. The list is split across the common
+	 * ForkJoinPool, each task keeps the k largest items of its range, and the partial results
+	 * are merged.
+	 * 
+	 * @param items - the given list
+	 * @param k - the number of largest items
+	 * @param cmp - the comparator defining how to compare items
+	 * @return a list of the k largest items, in descending order
+	 * @throws IllegalArgumentException if k is negative or larger than the size of the given list
+	 */
+	public static <E> List<E> findKLargestParallel(List<E> items, int k, Comparator<? super E> cmp) throws IllegalArgumentException {
+		if(k<0||k>items.size()) {
+			throw new IllegalArgumentException("Passed k value is invalid for the list.");
+		}
+		List<E> source = items instanceof RandomAccess ? items : new ArrayList<E>(items);
+		return ForkJoinPool.commonPool().invoke(new TopKTask<E>(source, 0, source.size(), k, cmp)).toList();
+	}
+
+	/**
+	 * Determines the k largest items in the given list, using selection and the natural
+	 * ordering of the items.
+	 * 
+	 * @param items - the given list
+	 * @param k - the number of largest items
+	 * @return a list of the k largest items, in descending order
+	 * @throws IllegalArgumentException if k is negative or larger than the size of the given list
+	 */
+	public static <E extends Comparable<? super E>> List<E> findKLargestSelect(List<E> items, int k) throws IllegalArgumentException {
+		return findKLargestSelect(items, k, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Determines the k largest items in the given list, using selection. A copy of the list is
+	 * partitioned by introselect until the k largest items are at its end, and only those are
+	 * sorted, so the running time is O(N + k log k). Quickselect with median-of-three pivots
+	 * falls back to median-of-medians pivots once it has partitioned too many times, so the
+	 * worst case is also linear. This suits k being a large fraction of N.
+	 * 
+	 * @param items - the given list
+	 * @param k - the number of largest items
+	 * @param cmp - the comparator defining how to compare items
+	 * @return a list of the k largest items, in descending order
+	 * @throws IllegalArgumentException if k is negative or larger than the size of the given list
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> List<E> findKLargestSelect(List<E> items, int k, Comparator<? super E> cmp) throws IllegalArgumentException {
+		if(k<0||k>items.size()) {
+			throw new IllegalArgumentException("Passed k value is invalid for the list.");
+		}
+		E[] array = (E[]) items.toArray();
+		int n = array.length;
+		if(k > 0 && k < n) {
+			select(array, 0, n - 1, n - k, cmp);
+		}
+		List<E> largestList = new ArrayList<E>(Arrays.asList(array).subList(n - k, n));
+		largestList.sort(Collections.reverseOrder(cmp));
+		return largestList;
+	}
+
+	/**
+	 * Rearranges the given range so that the item at index target is the one which would be
+	 * there if the range were sorted, with no larger item before it and no smaller item after.
+	 * 
+	 * @param array - the items being rearranged
+	 * @param lo - the first index of the range
+	 * @param hi - the last index of the range
+	 * @param target - the index being selected
+	 * @param cmp - the comparator defining how to compare items
+	 */
+	private static <E> void select(E[] array, int lo, int hi, int target, Comparator<? super E> cmp) {
+		int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+		while(hi > lo) {
+			if(hi - lo < INSERTION_THRESHOLD) {
+				insertionSort(array, lo, hi, cmp);
+				return;
+			}
+			E pivot = depthLimit-- > 0 ? medianOfThree(array, lo, hi, cmp) : medianOfMedians(array, lo, hi, cmp);
+			// three-way partition: [lo, lt) < pivot, [lt, gt] == pivot, (gt, hi] > pivot
+			int lt = lo;
+			int gt = hi;
+			int i = lo;
+			while(i <= gt) {
+				int c = cmp.compare(array[i], pivot);
+				if(c < 0) {
+					swap(array, lt++, i++);
+				} else if(c > 0) {
+					swap(array, i, gt--);
+				} else {
+					i++;
+				}
+			}
+			if(target < lt) {
+				hi = lt - 1;
+			} else if(target > gt) {
+				lo = gt + 1;
+			} else {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns the median of the first, middle, and last items of the given range.
+	 */
+	private static <E> E medianOfThree(E[] array, int lo, int hi, Comparator<? super E> cmp) {
+		E a = array[lo];
+		E b = array[(lo + hi) >>> 1];
+		E c = array[hi];
+		if(cmp.compare(a, b) < 0) {
+			if(cmp.compare(b, c) < 0) {
+				return b;
+			}
+			return cmp.compare(a, c) < 0 ? c : a;
+		}
+		if(cmp.compare(a, c) < 0) {
+			return a;
+		}
+		return cmp.compare(b, c) < 0 ? c : b;
+	}
+
+	/**
+	 * Returns an item of the given range which has at least 30% of the range on either side of
+	 * it. The median of each group of five is moved to the front of the range, and the median
+	 * of those is selected recursively.
+	 */
+	private static <E> E medianOfMedians(E[] array, int lo, int hi, Comparator<? super E> cmp) {
+		int medians = lo;
+		for(int group = lo; group <= hi; group += 5) {
+			int groupHi = Math.min(group + 4, hi);
+			insertionSort(array, group, groupHi, cmp);
+			swap(array, medians++, (group + groupHi) >>> 1);
+		}
+		int mid = (lo + medians - 1) >>> 1;
+		select(array, lo, medians - 1, mid, cmp);
+		return array[mid];
+	}
+
+	/**
+	 * Sorts the given range in ascending order.
+	 */
+	private static <E> void insertionSort(E[] array, int lo, int hi, Comparator<? super E> cmp) {
+		for(int i = lo + 1; i <= hi; i++) {
+			E item = array[i];
+			int j = i - 1;
+			while(j >= lo && cmp.compare(array[j], item) > 0) {
+				array[j + 1] = array[j];
+				j--;
+			}
+			array[j + 1] = item;
+		}
+	}
+
+	private static <E> void swap(E[] array, int i, int j) {
+		E temp = array[i];
+		array[i] = array[j];
+		array[j] = temp;
+	}
+
+	/**
+	 * A task which finds the k largest items in a range of a list, splitting the range in
+	 * half until it is small enough to scan.
+	 */
+	private static class TopKTask<E> extends RecursiveTask<BoundedTopK<E>> {
+
+		private static final long serialVersionUID = 1L;
+		private final List<E> items;
+		private final int lo;
+		private final int hi;
+		private final int k;
+		private final Comparator<? super E> cmp;
+
+		TopKTask(List<E> items, int lo, int hi, int k, Comparator<? super E> cmp) {
+			this.items = items;
+			this.lo = lo;
+			this.hi = hi;
+			this.k = k;
+			this.cmp = cmp;
+		}
+
+		@Override
+		protected BoundedTopK<E> compute() {
+			if(hi - lo <= PARALLEL_THRESHOLD) {
+				BoundedTopK<E> topK = new BoundedTopK<E>(k, cmp);
+				for(int i = lo; i < hi; i++) {
+					topK.offer(items.get(i));
+				}
+				return topK;
+			}
+			int mid = (lo + hi) >>> 1;
+			TopKTask<E> left = new TopKTask<E>(items, lo, mid, k, cmp);
+			left.fork();
+			BoundedTopK<E> right = new TopKTask<E>(items, mid, hi, k, cmp).compute();
+			return right.merge(left.join());
+		}
+	}
 }
\ No newline at end of file
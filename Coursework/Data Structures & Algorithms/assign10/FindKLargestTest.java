@@ -3,8 +3,13 @@ package assign10;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -178,4 +183,115 @@ class FindKLargestTest {
 		
 		assertEquals(words, FindKLargest.findKLargestSort(strList, 3, strLengthCmp));
 	}
+	
+	@Test
+	void findKLargestLongs() {
+		long[] values = {-3, 12, 9, 69, 14, 2, Long.MIN_VALUE, Long.MAX_VALUE};
+		assertArrayEquals(new long[] {Long.MAX_VALUE, 69, 14}, FindKLargest.findKLargest(values, 3));
+		assertEquals(12, values[1]);
+	}
+	
+	@Test
+	void findKLargestLongsInvalidK() {
+		assertThrows(IllegalArgumentException.class, ()-> FindKLargest.findKLargest(new long[] {1, 2}, 3));
+		assertEquals(0, FindKLargest.findKLargest(new long[0], 0).length);
+	}
+	
+	@Test
+	void findKLargestDoubles() {
+		double[] values = {-3.5, 12.25, 9, 69.1, 14, 2};
+		assertArrayEquals(new double[] {69.1, 14, 12.25, 9, 2, -3.5}, FindKLargest.findKLargest(values, 6));
+		assertThrows(IllegalArgumentException.class, ()-> FindKLargest.findKLargest(values, -1));
+	}
+	
+	@Test
+	void findKLargestStreamInts() {
+		ArrayList<Integer> nums = new ArrayList<Integer>();
+		nums.add(69);
+		nums.add(14);
+		nums.add(12);
+		assertEquals(nums, FindKLargest.findKLargestStream(intList.iterator(), 3));
+	}
+	
+	@Test
+	void findKLargestStreamKLargerThanInput() {
+		assertEquals(6, FindKLargest.findKLargestStream(intList.iterator(), 100).size());
+		assertThrows(IllegalArgumentException.class, ()-> FindKLargest.findKLargestStream(intList.iterator(), -1));
+	}
+	
+	@Test
+	void findKLargestStreamCMPStrs() {
+		List<String> largest = FindKLargest.findKLargestStream(strList.iterator(), 2, strLengthCmp);
+		assertEquals(List.of("mountain", "Anton"), largest);
+	}
+	
+	@Test
+	void kLargestCollectorParallel() {
+		List<Integer> largest = IntStream.range(0, 1000000).parallel().boxed()
+				.collect(FindKLargest.kLargestCollector(100));
+		assertEquals(IntStream.range(999900, 1000000).boxed().sorted((a, b) -> b - a).collect(Collectors.toList()), largest);
+	}
+	
+	@Test
+	void kLargestCollectorCMP() {
+		assertEquals(List.of("mountain"), strList.stream().collect(FindKLargest.kLargestCollector(1, strLengthCmp)));
+		assertThrows(IllegalArgumentException.class, ()-> FindKLargest.kLargestCollector(-1, strLengthCmp));
+	}
+	
+	@Test
+	void findKLargestParallelInts() {
+		ArrayList<Integer> nums = new ArrayList<Integer>();
+		nums.add(69);
+		nums.add(14);
+		assertEquals(nums, FindKLargest.findKLargestParallel(intList, 2));
+		assertThrows(IllegalArgumentException.class, ()-> FindKLargest.findKLargestParallel(intList, 7));
+	}
+	
+	@Test
+	void findKLargestParallelLarge() {
+		Random rng = new Random(15);
+		List<Integer> nums = new ArrayList<Integer>();
+		for(int i = 0; i < 200000; i++) {
+			nums.add(rng.nextInt(50000));
+		}
+		Comparator<Integer> reversed = Comparator.reverseOrder();
+		assertEquals(FindKLargest.findKLargestSort(nums, 500), FindKLargest.findKLargestParallel(nums, 500));
+		assertEquals(FindKLargest.findKLargestSort(nums, 500, reversed), FindKLargest.findKLargestParallel(new LinkedList<Integer>(nums), 500, reversed));
+	}
+	
+	@Test
+	void findKLargestSelectCMPStrs() {
+		assertEquals(List.of("mountain", "Anton"), FindKLargest.findKLargestSelect(strList, 2, strLengthCmp));
+		assertEquals(new ArrayList<String>(), FindKLargest.findKLargestSelect(strEmptyList, 0, strLengthCmp));
+		assertThrows(IllegalArgumentException.class, ()-> FindKLargest.findKLargestSelect(intList, -1));
+	}
+	
+	@Test
+	void findKLargestSelectMatchesSort() {
+		Random rng = new Random(15);
+		for(int trial = 0; trial < 50; trial++) {
+			int n = 1 + rng.nextInt(5000);
+			List<Integer> nums = new ArrayList<Integer>();
+			for(int i = 0; i < n; i++) {
+				nums.add(rng.nextInt(trial + 2));
+			}
+			int k = rng.nextInt(n + 1);
+			assertEquals(FindKLargest.findKLargestSort(nums, k), FindKLargest.findKLargestSelect(nums, k));
+		}
+	}
+	
+	@Test
+	void findKLargestSelectAdversarialOrders() {
+		List<Integer> sorted = new ArrayList<Integer>();
+		for(int i = 0; i < 100000; i++) {
+			sorted.add(i);
+		}
+		List<Integer> organPipe = new ArrayList<Integer>(sorted.subList(0, 50000));
+		List<Integer> descending = new ArrayList<Integer>(sorted.subList(0, 50000));
+		Collections.reverse(descending);
+		organPipe.addAll(descending);
+		for(List<Integer> nums : List.of(sorted, organPipe)) {
+			assertEquals(FindKLargest.findKLargestSort(nums, 30000), FindKLargest.findKLargestSelect(nums, 30000));
+		}
+	}
 }
\ No newline at end of file
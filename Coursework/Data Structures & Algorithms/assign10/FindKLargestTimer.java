@@ -0,0 +1,74 @@
+package assign10;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Times each way of finding the k largest of n Integers, for k = 100 and for k = n/2.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class FindKLargestTimer extends TimerTemplate {
+
+	public enum Method {
+		HEAP, SORT, STREAM, PARALLEL, SELECT
+	}
+
+	private Method method;
+	private boolean halfK;
+	private ArrayList<Integer> nums;
+
+	public FindKLargestTimer(int[] problemSizes, int timesToLoop, Method method, boolean halfK) {
+		super(problemSizes, timesToLoop);
+		this.method = method;
+		this.halfK = halfK;
+	}
+
+	@Override
+	protected void setup(int n) {
+		Random rng = new Random(15);
+		nums = new ArrayList<Integer>(n);
+		for(int i = 0; i < n; i++) {
+			nums.add(rng.nextInt());
+		}
+	}
+
+	@Override
+	protected void timingIteration(int n) {
+		int k = halfK ? n / 2 : 100;
+		switch(method) {
+		case HEAP:
+			FindKLargest.findKLargestHeap(nums, k);
+			break;
+		case SORT:
+			FindKLargest.findKLargestSort(nums, k);
+			break;
+		case STREAM:
+			FindKLargest.findKLargestStream(nums.iterator(), k);
+			break;
+		case PARALLEL:
+			FindKLargest.findKLargestParallel(nums, k);
+			break;
+		case SELECT:
+			FindKLargest.findKLargestSelect(nums, k);
+			break;
+		}
+	}
+
+	@Override
+	protected void compensationIteration(int n) {
+	}
+
+	public static void main(String[] args) {
+		int[] problemSizes = {100000, 1000000, 5000000};
+		System.out.println("parallelism " + ForkJoinPool.commonPool().getParallelism());
+		for(boolean halfK : new boolean[] {false, true}) {
+			for(Method method : Method.values()) {
+				System.out.println(method + (halfK ? ", k = n/2" : ", k = 100") + "\nn, time");
+				new FindKLargestTimer(problemSizes, 5, method, halfK).run();
+			}
+		}
+	}
+}
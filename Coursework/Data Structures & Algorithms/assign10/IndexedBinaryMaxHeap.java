@@ -0,0 +1,253 @@
+package assign10;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents a Max Binary Heap which also maps each item to its index in the
+ * backing array. An item can therefore be found in O(1), and removed or moved after its
+ * priority changes in O(log N), without rebuilding the heap or adding duplicates.
+ *
+ * Items are identified by equals and hashCode, so the heap holds at most one of each item,
+ * and an item's hashCode must not change while it is in the heap. Its priority, as seen by
+ * compareTo or the comparator, may change, as long as updatePriority is called afterward.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <E> - The type of items stored in this heap.
+ */
+public class IndexedBinaryMaxHeap<E> implements PriorityQueue<E> {
+
+	private static final int DEFAULT_CAPACITY = 15;
+
+	private E[] array;
+	private int size;
+	private final Comparator<? super E> cmp;
+	private final HashMap<E, Integer> positions;
+
+	/**
+	 * Constructs an empty indexed binary max heap utilizing natural ordering.
+	 */
+	public IndexedBinaryMaxHeap() {
+		this(null);
+	}
+
+	/**
+	 * Constructs an empty indexed binary max heap utilizing a custom comparator.
+	 *
+	 * @param cmp - The comparator being used in the heap, or null for natural ordering
+	 */
+	@SuppressWarnings("unchecked")
+	public IndexedBinaryMaxHeap(Comparator<? super E> cmp) {
+		this.cmp = cmp != null ? cmp : (Comparator<? super E>) Comparator.naturalOrder();
+		array = (E[]) new Object[DEFAULT_CAPACITY];
+		positions = new HashMap<E, Integer>();
+		size = 0;
+	}
+
+	/**
+	 * Adds the given item to this heap.
+	 *
+	 * @param item - The item being added to the heap
+	 * @throws IllegalArgumentException if the item is already in the heap
+	 */
+	public void add(E item) {
+		if(positions.containsKey(item)) {
+			throw new IllegalArgumentException("The item is already in the heap.");
+		}
+		if(size == array.length) {
+			array = Arrays.copyOf(array, array.length * 2 + 1);
+		}
+		size++;
+		siftUp(size - 1, item);
+	}
+
+	/**
+	 * Returns, but does not remove, the maximum item in the heap.
+	 *
+	 * @return The maximum item
+	 * @throws NoSuchElementException if this heap is empty
+	 */
+	public E peek() throws NoSuchElementException {
+		if(size < 1) {
+			throw new NoSuchElementException("There is no value stored in the heap");
+		}
+		return array[0];
+	}
+
+	/**
+	 * Returns and removes the maximum item in the heap.
+	 *
+	 * @return The maximum item
+	 * @throws NoSuchElementException if this heap is empty
+	 */
+	public E extractMax() throws NoSuchElementException {
+		if(size < 1) {
+			throw new NoSuchElementException("There is no value stored in the heap");
+		}
+		E maxItem = array[0];
+		removeAt(0);
+		return maxItem;
+	}
+
+	/**
+	 * Determines if the given item is in the heap.
+	 * O(1)
+	 *
+	 * @param item - The item being searched for
+	 * @return true if the item is in the heap, false otherwise
+	 */
+	public boolean contains(E item) {
+		return positions.containsKey(item);
+	}
+
+	/**
+	 * Removes the given item from the heap.
+	 * O(log N)
+	 *
+	 * @param item - The item being removed
+	 * @return true if the item was in the heap, false otherwise
+	 */
+	public boolean remove(E item) {
+		Integer index = positions.get(item);
+		if(index == null) {
+			return false;
+		}
+		removeAt(index);
+		return true;
+	}
+
+	/**
+	 * Restores the heap order after the priority of the given item has increased or decreased.
+	 * O(log N)
+	 *
+	 * @param item - The item whose priority has changed
+	 * @throws NoSuchElementException if the item is not in the heap
+	 */
+	public void updatePriority(E item) throws NoSuchElementException {
+		Integer index = positions.get(item);
+		if(index == null) {
+			throw new NoSuchElementException("The item is not in the heap.");
+		}
+		resift(index, array[index]);
+	}
+
+	/**
+	 * Returns the number of items stored in this heap.
+	 *
+	 * @return The size of the heap
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the heap is empty, false otherwise.
+	 *
+	 * @return true if heap is empty, otherwise false
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Empties this heap.
+	 */
+	@SuppressWarnings("unchecked")
+	public void clear() {
+		size = 0;
+		array = (E[]) new Object[DEFAULT_CAPACITY];
+		positions.clear();
+	}
+
+	/**
+	 * Creates and returns an array of the items in this heap,
+	 * in the same order they appear in the backing array.
+	 */
+	public Object[] toArray() {
+		return Arrays.copyOf(array, size, Object[].class);
+	}
+
+	/**
+	 * Removes the item at the given index, filling the hole with the last item.
+	 *
+	 * @param index - The index of the item being removed
+	 */
+	private void removeAt(int index) {
+		positions.remove(array[index]);
+		size--;
+		E last = array[size];
+		array[size] = null;
+		if(index < size) {
+			resift(index, last);
+		}
+	}
+
+	/**
+	 * Places the given item at the hole at the given index, moving it up or down as needed.
+	 *
+	 * @param hole - The index of the hole
+	 * @param item - The item being placed
+	 */
+	private void resift(int hole, E item) {
+		if(hole > 0 && cmp.compare(item, array[(hole - 1) / 2]) > 0) {
+			siftUp(hole, item);
+		} else {
+			siftDown(hole, item);
+		}
+	}
+
+	/**
+	 * Moves a hole up from the given index until the given item can be placed in it.
+	 *
+	 * @param hole - The index of the hole
+	 * @param item - The item being placed
+	 */
+	private void siftUp(int hole, E item) {
+		while(hole > 0) {
+			int parent = (hole - 1) / 2;
+			if(cmp.compare(item, array[parent]) <= 0) {
+				break;
+			}
+			place(hole, array[parent]);
+			hole = parent;
+		}
+		place(hole, item);
+	}
+
+	/**
+	 * Moves a hole down from the given index until the given item can be placed in it.
+	 *
+	 * @param hole - The index of the hole
+	 * @param item - The item being placed
+	 */
+	private void siftDown(int hole, E item) {
+		int half = size / 2;
+		while(hole < half) {
+			int child = 2 * hole + 1;
+			if(child + 1 < size && cmp.compare(array[child + 1], array[child]) > 0) {
+				child++;
+			}
+			if(cmp.compare(array[child], item) <= 0) {
+				break;
+			}
+			place(hole, array[child]);
+			hole = child;
+		}
+		place(hole, item);
+	}
+
+	/**
+	 * Stores the given item at the given index and records its position.
+	 *
+	 * @param index - The index the item is stored at
+	 * @param item - The item being stored
+	 */
+	private void place(int index, E item) {
+		array[index] = item;
+		positions.put(item, index);
+	}
+}
@@ -0,0 +1,143 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IndexedBinaryMaxHeapTest {
+
+	/**
+	 * An item whose priority can change while it is in a heap.
+	 */
+	private static class Task {
+		int priority;
+
+		Task(int priority) {
+			this.priority = priority;
+		}
+	}
+
+	private Comparator<Task> taskCmp;
+	private IndexedBinaryMaxHeap<Task> taskHeap;
+	private IndexedBinaryMaxHeap<Integer> intHeap;
+	private Task[] tasks;
+
+	@BeforeEach
+	void setup() {
+		taskCmp = (t1, t2) -> Integer.compare(t1.priority, t2.priority);
+		taskHeap = new IndexedBinaryMaxHeap<Task>(taskCmp);
+		tasks = new Task[10];
+		for(int i = 0; i < tasks.length; i++) {
+			tasks[i] = new Task(i * 10);
+			taskHeap.add(tasks[i]);
+		}
+		intHeap = new IndexedBinaryMaxHeap<Integer>();
+		intHeap.add(-3);
+		intHeap.add(12);
+		intHeap.add(69);
+	}
+
+	@Test
+	void testNaturalOrdering() {
+		assertEquals(69, intHeap.extractMax());
+		assertEquals(12, intHeap.extractMax());
+		assertEquals(-3, intHeap.extractMax());
+		assertThrows(NoSuchElementException.class, () -> intHeap.peek());
+	}
+
+	@Test
+	void testAddDuplicate() {
+		assertThrows(IllegalArgumentException.class, () -> intHeap.add(12));
+	}
+
+	@Test
+	void testContains() {
+		assertTrue(intHeap.contains(12));
+		assertFalse(intHeap.contains(13));
+		intHeap.extractMax();
+		assertFalse(intHeap.contains(69));
+	}
+
+	@Test
+	void testRemove() {
+		assertTrue(taskHeap.remove(tasks[4]));
+		assertFalse(taskHeap.remove(tasks[4]));
+		assertFalse(taskHeap.contains(tasks[4]));
+		assertEquals(9, taskHeap.size());
+		for(int i = 9; i >= 0; i--) {
+			if(i != 4) {
+				assertSame(tasks[i], taskHeap.extractMax());
+			}
+		}
+	}
+
+	@Test
+	void testIncreasePriority() {
+		tasks[2].priority = 1000;
+		taskHeap.updatePriority(tasks[2]);
+		assertSame(tasks[2], taskHeap.peek());
+	}
+
+	@Test
+	void testDecreasePriority() {
+		tasks[9].priority = -1;
+		taskHeap.updatePriority(tasks[9]);
+		assertSame(tasks[8], taskHeap.extractMax());
+		for(int i = 0; i < 8; i++) {
+			taskHeap.extractMax();
+		}
+		assertSame(tasks[9], taskHeap.extractMax());
+	}
+
+	@Test
+	void testUpdateMissing() {
+		assertThrows(NoSuchElementException.class, () -> taskHeap.updatePriority(new Task(5)));
+	}
+
+	@Test
+	void testClear() {
+		taskHeap.clear();
+		assertTrue(taskHeap.isEmpty());
+		assertFalse(taskHeap.contains(tasks[0]));
+		taskHeap.add(tasks[0]);
+		assertEquals(1, taskHeap.toArray().length);
+	}
+
+	@Test
+	void testRandomOperations() {
+		Random rng = new Random(15);
+		List<Task> present = new ArrayList<Task>();
+		IndexedBinaryMaxHeap<Task> heap = new IndexedBinaryMaxHeap<Task>(taskCmp);
+		for(int i = 0; i < 20000; i++) {
+			int op = rng.nextInt(4);
+			if(op == 0 || present.isEmpty()) {
+				Task task = new Task(rng.nextInt(1000));
+				heap.add(task);
+				present.add(task);
+			} else if(op == 1) {
+				Task task = present.get(rng.nextInt(present.size()));
+				task.priority = rng.nextInt(1000);
+				heap.updatePriority(task);
+			} else if(op == 2) {
+				Task task = present.remove(rng.nextInt(present.size()));
+				assertTrue(heap.remove(task));
+			} else {
+				int max = Integer.MIN_VALUE;
+				for(Task task : present) {
+					max = Math.max(max, task.priority);
+				}
+				Task extracted = heap.extractMax();
+				assertEquals(max, extracted.priority);
+				present.remove(extracted);
+			}
+			assertEquals(present.size(), heap.size());
+		}
+	}
+}
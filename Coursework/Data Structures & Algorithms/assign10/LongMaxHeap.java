@@ -0,0 +1,160 @@
+package assign10;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents a Max Binary Heap of long values, backed by a long array so that no
+ * value is ever boxed. It offers the operations of PriorityQueue with long in place of the
+ * item type.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class LongMaxHeap {
+
+	private long[] array;
+	private int size;
+
+	/**
+	 * Constructs an empty long max heap.
+	 */
+	public LongMaxHeap() {
+		this(15);
+	}
+
+	/**
+	 * Constructs an empty long max heap which can hold the given number of values before
+	 * growing its backing array.
+	 *
+	 * @param initialCapacity - The initial length of the backing array
+	 * @throws IllegalArgumentException if initialCapacity is negative
+	 */
+	public LongMaxHeap(int initialCapacity) {
+		if(initialCapacity < 0) {
+			throw new IllegalArgumentException("Initial capacity cannot be negative.");
+		}
+		array = new long[Math.max(initialCapacity, 1)];
+		size = 0;
+	}
+
+	/**
+	 * Replaces the contents of this heap with the given values, in O(N).
+	 *
+	 * @param values - The values to be stored in the heap, which are copied
+	 */
+	public void heapify(long[] values) {
+		array = Arrays.copyOf(values, Math.max(values.length, 1));
+		size = values.length;
+		for(int i = size / 2 - 1; i >= 0; i--) {
+			siftDown(i, array[i]);
+		}
+	}
+
+	/**
+	 * Adds the given value to this heap.
+	 *
+	 * @param value - The value being added to the heap
+	 */
+	public void add(long value) {
+		if(size == array.length) {
+			array = Arrays.copyOf(array, array.length * 2 + 1);
+		}
+		int hole = size++;
+		while(hole > 0) {
+			int parent = (hole - 1) / 2;
+			if(value <= array[parent]) {
+				break;
+			}
+			array[hole] = array[parent];
+			hole = parent;
+		}
+		array[hole] = value;
+	}
+
+	/**
+	 * Returns, but does not remove, the maximum value in the heap.
+	 *
+	 * @return The maximum value
+	 * @throws NoSuchElementException if this heap is empty
+	 */
+	public long peek() throws NoSuchElementException {
+		if(size < 1) {
+			throw new NoSuchElementException("There is no value stored in the heap");
+		}
+		return array[0];
+	}
+
+	/**
+	 * Returns and removes the maximum value in the heap.
+	 *
+	 * @return The maximum value
+	 * @throws NoSuchElementException if this heap is empty
+	 */
+	public long extractMax() throws NoSuchElementException {
+		if(size < 1) {
+			throw new NoSuchElementException("There is no value stored in the heap");
+		}
+		long maxValue = array[0];
+		size--;
+		if(size > 0) {
+			siftDown(0, array[size]);
+		}
+		return maxValue;
+	}
+
+	/**
+	 * Returns the number of values stored in this heap.
+	 *
+	 * @return The size of the heap
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the heap is empty, false otherwise.
+	 *
+	 * @return true if heap is empty, otherwise false
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Empties this heap.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Creates and returns an array of the values in this heap,
+	 * in the same order they appear in the backing array.
+	 */
+	public long[] toArray() {
+		return Arrays.copyOf(array, size);
+	}
+
+	/**
+	 * Moves a hole down from the given index until the given value can be placed in it.
+	 *
+	 * @param hole - The index of the hole
+	 * @param value - The value being placed
+	 */
+	private void siftDown(int hole, long value) {
+		int half = size / 2;
+		while(hole < half) {
+			int child = 2 * hole + 1;
+			if(child + 1 < size && array[child + 1] > array[child]) {
+				child++;
+			}
+			if(array[child] <= value) {
+				break;
+			}
+			array[hole] = array[child];
+			hole = child;
+		}
+		array[hole] = value;
+	}
+}
@@ -0,0 +1,80 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LongMaxHeapTest {
+
+	private LongMaxHeap heap, emptyHeap;
+
+	@BeforeEach
+	void setup() {
+		heap = new LongMaxHeap();
+		heap.heapify(new long[] {-3, 12, 9, 69, 14, 2});
+		emptyHeap = new LongMaxHeap(0);
+	}
+
+	@Test
+	void testHeapify() {
+		assertEquals(6, heap.size());
+		assertEquals(Arrays.toString(new long[] {69, 14, 9, 12, -3, 2}), Arrays.toString(heap.toArray()));
+	}
+
+	@Test
+	void testEmpty() {
+		assertTrue(emptyHeap.isEmpty());
+		assertThrows(NoSuchElementException.class, () -> emptyHeap.peek());
+		assertThrows(NoSuchElementException.class, () -> emptyHeap.extractMax());
+		assertThrows(IllegalArgumentException.class, () -> new LongMaxHeap(-1));
+	}
+
+	@Test
+	void testAddAndExtract() {
+		emptyHeap.add(5);
+		emptyHeap.add(Long.MAX_VALUE);
+		emptyHeap.add(Long.MIN_VALUE);
+		assertEquals(Long.MAX_VALUE, emptyHeap.peek());
+		assertEquals(Long.MAX_VALUE, emptyHeap.extractMax());
+		assertEquals(5, emptyHeap.extractMax());
+		assertEquals(Long.MIN_VALUE, emptyHeap.extractMax());
+		assertTrue(emptyHeap.isEmpty());
+	}
+
+	@Test
+	void testClear() {
+		heap.clear();
+		assertTrue(heap.isEmpty());
+		heap.add(7);
+		assertEquals(7, heap.peek());
+	}
+
+	@Test
+	void testManyValues() {
+		Random rng = new Random(15);
+		long[] values = new long[10000];
+		for(int i = 0; i < values.length; i++) {
+			values[i] = rng.nextLong();
+		}
+		heap.heapify(values);
+		for(int i = 0; i < 5000; i++) {
+			emptyHeap.add(values[i]);
+		}
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		for(int i = sorted.length - 1; i >= 0; i--) {
+			assertEquals(sorted[i], heap.extractMax());
+		}
+		long previous = Long.MAX_VALUE;
+		while(!emptyHeap.isEmpty()) {
+			long next = emptyHeap.extractMax();
+			assertTrue(next <= previous);
+			previous = next;
+		}
+	}
+}
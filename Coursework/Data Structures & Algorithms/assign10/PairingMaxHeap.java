@@ -0,0 +1,340 @@
+package assign10;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents a Max Pairing Heap: a tree in which every node's item is at least as
+ * large as its children's, where each node points to its leftmost child and its next sibling.
+ * Two heaps are melded by making the root with the smaller item the leftmost child of the
+ * other, so add, merge, and increaseKey run in O(1). extractMax melds the root's children in
+ * pairs from left to right, then melds the pairs from right to left, in amortized O(log N).
+ *
+ * insert returns a Handle to the item's node, which increaseKey uses to raise the item's
+ * priority in place.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ *
+ * @param <E> - The type of items stored in this heap.
+ */
+public class PairingMaxHeap<E> implements PriorityQueue<E> {
+
+	/**
+	 * A reference to an item in a PairingMaxHeap, which stays valid until the item is
+	 * extracted or the heap is cleared.
+	 */
+	public static final class Handle<E> {
+
+		private E item;
+		private Handle<E> child;
+		private Handle<E> next;
+		// the left sibling, or the parent of a leftmost child
+		private Handle<E> prev;
+		private boolean inHeap;
+		// the owner of the heap the item was added to, which forwards to the heap it is in
+		private Owner owner;
+
+		private Handle(E item, Owner owner) {
+			this.item = item;
+			this.inHeap = true;
+			this.owner = owner;
+		}
+
+		/**
+		 * @return the item this handle refers to
+		 */
+		public E getItem() {
+			return item;
+		}
+	}
+
+	/**
+	 * Identifies a heap to its handles. When a heap is merged into another, its owner
+	 * forwards to the other heap's owner, so the handles of both need not be visited.
+	 */
+	private static final class Owner {
+
+		private Owner forward;
+	}
+
+	private Handle<E> root;
+	private int size;
+	private Owner owner = new Owner();
+	private final Comparator<? super E> cmp;
+
+	/**
+	 * Constructs an empty pairing max heap utilizing natural ordering.
+	 */
+	public PairingMaxHeap() {
+		this(null);
+	}
+
+	/**
+	 * Constructs an empty pairing max heap utilizing a custom comparator.
+	 *
+	 * @param cmp - The comparator being used in the heap, or null for natural ordering
+	 */
+	@SuppressWarnings("unchecked")
+	public PairingMaxHeap(Comparator<? super E> cmp) {
+		this.cmp = cmp != null ? cmp : (Comparator<? super E>) Comparator.naturalOrder();
+		root = null;
+		size = 0;
+	}
+
+	/**
+	 * Adds the given item to this heap.
+	 * O(1)
+	 *
+	 * @param item - The item being added to the heap
+	 */
+	public void add(E item) {
+		insert(item);
+	}
+
+	/**
+	 * Adds the given item to this heap and returns a handle to it.
+	 * O(1)
+	 *
+	 * @param item - The item being added to the heap
+	 * @return a handle for use with increaseKey
+	 */
+	public Handle<E> insert(E item) {
+		Handle<E> node = new Handle<E>(item, owner);
+		root = root == null ? node : link(root, node);
+		size++;
+		return node;
+	}
+
+	/**
+	 * Replaces the item of the given handle with a larger or equal item, and restores the
+	 * heap order by cutting the node from its parent and melding it with the root.
+	 * O(1)
+	 *
+	 * @param handle - A handle to an item in this heap
+	 * @param item - The new item, which must not be smaller than the old one
+	 * @throws IllegalArgumentException if the handle's item is not in this heap, or the
+	 *                                  new item is smaller than the old one
+	 */
+	public void increaseKey(Handle<E> handle, E item) throws IllegalArgumentException {
+		if(!handle.inHeap || ownerOf(handle) != owner) {
+			throw new IllegalArgumentException("The handle's item is not in this heap.");
+		}
+		if(cmp.compare(item, handle.item) < 0) {
+			throw new IllegalArgumentException("The new item is smaller than the old one.");
+		}
+		handle.item = item;
+		if(handle == root) {
+			return;
+		}
+		if(handle.prev.child == handle) {
+			handle.prev.child = handle.next;
+		} else {
+			handle.prev.next = handle.next;
+		}
+		if(handle.next != null) {
+			handle.next.prev = handle.prev;
+		}
+		handle.prev = null;
+		handle.next = null;
+		root = link(root, handle);
+	}
+
+	/**
+	 * Moves every item of the given heap into this heap, leaving the given heap empty.
+	 * Handles to the given heap's items remain valid in this heap.
+	 * O(1)
+	 *
+	 * @param other - The heap whose items are being moved, which must use the same ordering
+	 */
+	public void merge(PairingMaxHeap<E> other) {
+		if(other == this || other.root == null) {
+			return;
+		}
+		root = root == null ? other.root : link(root, other.root);
+		size += other.size;
+		other.root = null;
+		other.size = 0;
+		other.owner.forward = owner;
+		other.owner = new Owner();
+	}
+
+	/**
+	 * Finds the owner of the heap a handle's item is in, by following the forwards left by
+	 * merges, and points the handle and every owner passed directly at it.
+	 *
+	 * @param handle - A handle whose item is in a heap
+	 * @return The owner of that heap
+	 */
+	private static Owner ownerOf(Handle<?> handle) {
+		Owner current = handle.owner;
+		while(current.forward != null) {
+			current = current.forward;
+		}
+		Owner passed = handle.owner;
+		while(passed != current) {
+			Owner next = passed.forward;
+			passed.forward = current;
+			passed = next;
+		}
+		handle.owner = current;
+		return current;
+	}
+
+	/**
+	 * Returns, but does not remove, the maximum item in the heap.
+	 *
+	 * @return The maximum item
+	 * @throws NoSuchElementException if this heap is empty
+	 */
+	public E peek() throws NoSuchElementException {
+		if(root == null) {
+			throw new NoSuchElementException("There is no value stored in the heap");
+		}
+		return root.item;
+	}
+
+	/**
+	 * Returns and removes the maximum item in the heap.
+	 * O(log N) amortized
+	 *
+	 * @return The maximum item
+	 * @throws NoSuchElementException if this heap is empty
+	 */
+	public E extractMax() throws NoSuchElementException {
+		if(root == null) {
+			throw new NoSuchElementException("There is no value stored in the heap");
+		}
+		Handle<E> oldRoot = root;
+		root = meldChildren(oldRoot.child);
+		oldRoot.child = null;
+		oldRoot.inHeap = false;
+		size--;
+		return oldRoot.item;
+	}
+
+	/**
+	 * Returns the number of items stored in this heap.
+	 *
+	 * @return The size of the heap
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the heap is empty, false otherwise.
+	 *
+	 * @return true if heap is empty, otherwise false
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Empties this heap. Handles to its items become invalid.
+	 * O(N), to invalidate the handles
+	 */
+	public void clear() {
+		ArrayDeque<Handle<E>> stack = new ArrayDeque<Handle<E>>();
+		if(root != null) {
+			stack.push(root);
+		}
+		while(!stack.isEmpty()) {
+			Handle<E> node = stack.pop();
+			for(Handle<E> child = node.child; child != null; child = child.next) {
+				stack.push(child);
+			}
+			node.inHeap = false;
+		}
+		root = null;
+		size = 0;
+	}
+
+	/**
+	 * Creates and returns an array of the items in this heap, in preorder, so the maximum
+	 * is at index 0 and every item comes before its children.
+	 */
+	public Object[] toArray() {
+		Object[] items = new Object[size];
+		int index = 0;
+		ArrayDeque<Handle<E>> stack = new ArrayDeque<Handle<E>>();
+		if(root != null) {
+			stack.push(root);
+		}
+		while(!stack.isEmpty()) {
+			Handle<E> node = stack.pop();
+			items[index++] = node.item;
+			if(node.next != null && node != root) {
+				stack.push(node.next);
+			}
+			if(node.child != null) {
+				stack.push(node.child);
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Melds two roots, making the one with the smaller item the leftmost child of the other.
+	 *
+	 * @return the root of the melded tree
+	 */
+	private Handle<E> link(Handle<E> a, Handle<E> b) {
+		if(cmp.compare(b.item, a.item) > 0) {
+			Handle<E> temp = a;
+			a = b;
+			b = temp;
+		}
+		b.next = a.child;
+		if(a.child != null) {
+			a.child.prev = b;
+		}
+		b.prev = a;
+		a.child = b;
+		return a;
+	}
+
+	/**
+	 * Melds a list of siblings into one tree in two passes: adjacent pairs are melded from
+	 * left to right, then the results are melded from right to left. The first pass pushes
+	 * each melded pair onto a stack, so the second pass pops them in right to left order.
+	 *
+	 * @param first - The leftmost sibling, or null
+	 * @return the root of the melded tree, or null if there were no siblings
+	 */
+	private Handle<E> meldChildren(Handle<E> first) {
+		Handle<E> stack = null;
+		Handle<E> current = first;
+		while(current != null) {
+			Handle<E> a = current;
+			Handle<E> b = a.next;
+			current = b == null ? null : b.next;
+			a.prev = null;
+			a.next = null;
+			Handle<E> pair = a;
+			if(b != null) {
+				b.prev = null;
+				b.next = null;
+				pair = link(a, b);
+			}
+			pair.next = stack;
+			stack = pair;
+		}
+		if(stack == null) {
+			return null;
+		}
+		Handle<E> result = stack;
+		stack = stack.next;
+		result.next = null;
+		while(stack != null) {
+			Handle<E> nextPair = stack.next;
+			stack.next = null;
+			result = link(result, stack);
+			stack = nextPair;
+		}
+		result.prev = null;
+		return result;
+	}
+}
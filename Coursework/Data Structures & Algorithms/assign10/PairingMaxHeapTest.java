@@ -0,0 +1,187 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PairingMaxHeapTest {
+
+	private PairingMaxHeap<Integer> intHeap;
+	private PairingMaxHeap<String> stringHeap;
+
+	@BeforeEach
+	void setup() {
+		intHeap = new PairingMaxHeap<Integer>();
+		intHeap.add(-3);
+		intHeap.add(12);
+		intHeap.add(69);
+		intHeap.add(2);
+		stringHeap = new PairingMaxHeap<String>(Comparator.comparing(String::length));
+		stringHeap.add("to");
+		stringHeap.add("longest");
+		stringHeap.add("a");
+	}
+
+	@Test
+	void testEmpty() {
+		PairingMaxHeap<Integer> heap = new PairingMaxHeap<Integer>();
+		assertTrue(heap.isEmpty());
+		assertThrows(NoSuchElementException.class, () -> heap.peek());
+		assertThrows(NoSuchElementException.class, () -> heap.extractMax());
+		assertEquals(0, heap.toArray().length);
+	}
+
+	@Test
+	void testExtractInOrder() {
+		assertEquals(69, intHeap.peek());
+		assertEquals(69, intHeap.extractMax());
+		assertEquals(12, intHeap.extractMax());
+		assertEquals(2, intHeap.extractMax());
+		assertEquals(-3, intHeap.extractMax());
+		assertTrue(intHeap.isEmpty());
+	}
+
+	@Test
+	void testComparator() {
+		assertEquals("longest", stringHeap.extractMax());
+		assertEquals("to", stringHeap.extractMax());
+		assertEquals("a", stringHeap.extractMax());
+	}
+
+	@Test
+	void testToArray() {
+		Object[] items = intHeap.toArray();
+		assertEquals(4, items.length);
+		assertEquals(69, items[0]);
+		List<Object> list = List.of(items);
+		assertTrue(list.containsAll(List.of(-3, 12, 69, 2)));
+	}
+
+	@Test
+	void testMerge() {
+		PairingMaxHeap<Integer> other = new PairingMaxHeap<Integer>();
+		other.add(100);
+		other.add(5);
+		intHeap.merge(other);
+		assertTrue(other.isEmpty());
+		assertEquals(6, intHeap.size());
+		int[] expected = {100, 69, 12, 5, 2, -3};
+		for(int value : expected) {
+			assertEquals(value, intHeap.extractMax());
+		}
+	}
+
+	@Test
+	void testMergeKeepsHandles() {
+		PairingMaxHeap<Integer> other = new PairingMaxHeap<Integer>();
+		PairingMaxHeap.Handle<Integer> handle = other.insert(1);
+		other.add(0);
+		intHeap.merge(other);
+		intHeap.increaseKey(handle, 1000);
+		assertEquals(1000, intHeap.extractMax());
+	}
+
+	@Test
+	void testIncreaseKeyOtherHeap() {
+		PairingMaxHeap<Integer> other = new PairingMaxHeap<Integer>();
+		PairingMaxHeap.Handle<Integer> handle = other.insert(1);
+		other.add(5);
+		assertThrows(IllegalArgumentException.class, () -> intHeap.increaseKey(handle, 1000));
+		assertEquals(4, intHeap.size());
+		assertEquals(2, other.size());
+		assertEquals(69, intHeap.extractMax());
+		assertEquals(5, other.extractMax());
+		assertEquals(1, other.extractMax());
+	}
+
+	@Test
+	void testIncreaseKeyAfterChainedMerges() {
+		PairingMaxHeap<Integer> first = new PairingMaxHeap<Integer>();
+		PairingMaxHeap<Integer> second = new PairingMaxHeap<Integer>();
+		PairingMaxHeap.Handle<Integer> handle = first.insert(1);
+		second.merge(first);
+		intHeap.merge(second);
+		assertThrows(IllegalArgumentException.class, () -> first.increaseKey(handle, 500));
+		assertThrows(IllegalArgumentException.class, () -> second.increaseKey(handle, 500));
+		PairingMaxHeap.Handle<Integer> later = first.insert(7);
+		assertThrows(IllegalArgumentException.class, () -> intHeap.increaseKey(later, 500));
+		intHeap.increaseKey(handle, 500);
+		assertEquals(500, intHeap.extractMax());
+		first.increaseKey(later, 8);
+		assertEquals(8, first.extractMax());
+	}
+
+	@Test
+	void testIncreaseKey() {
+		PairingMaxHeap.Handle<Integer> handle = intHeap.insert(1);
+		intHeap.extractMax();
+		intHeap.increaseKey(handle, 50);
+		assertEquals(50, handle.getItem());
+		assertEquals(50, intHeap.extractMax());
+		assertEquals(12, intHeap.extractMax());
+	}
+
+	@Test
+	void testIncreaseKeyRoot() {
+		PairingMaxHeap.Handle<Integer> handle = intHeap.insert(70);
+		intHeap.increaseKey(handle, 80);
+		assertEquals(80, intHeap.extractMax());
+		assertEquals(69, intHeap.extractMax());
+	}
+
+	@Test
+	void testIncreaseKeySmaller() {
+		PairingMaxHeap.Handle<Integer> handle = intHeap.insert(10);
+		assertThrows(IllegalArgumentException.class, () -> intHeap.increaseKey(handle, 9));
+	}
+
+	@Test
+	void testIncreaseKeyExtracted() {
+		PairingMaxHeap.Handle<Integer> handle = intHeap.insert(100);
+		intHeap.extractMax();
+		assertThrows(IllegalArgumentException.class, () -> intHeap.increaseKey(handle, 200));
+	}
+
+	@Test
+	void testClear() {
+		PairingMaxHeap.Handle<Integer> handle = intHeap.insert(5);
+		intHeap.clear();
+		assertTrue(intHeap.isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> intHeap.increaseKey(handle, 6));
+		intHeap.add(7);
+		assertEquals(7, intHeap.peek());
+	}
+
+	@Test
+	void testRandomOperations() {
+		// each item carries a unique id in its low bits, so the maximum is never tied
+		Random rng = new Random(15);
+		PairingMaxHeap<Long> heap = new PairingMaxHeap<Long>();
+		List<PairingMaxHeap.Handle<Long>> present = new ArrayList<PairingMaxHeap.Handle<Long>>();
+		for(int i = 0; i < 20000; i++) {
+			int op = rng.nextInt(3);
+			if(op == 0 || present.isEmpty()) {
+				present.add(heap.insert(((long) rng.nextInt(1000) << 16) + i));
+			} else if(op == 1) {
+				PairingMaxHeap.Handle<Long> handle = present.get(rng.nextInt(present.size()));
+				heap.increaseKey(handle, handle.getItem() + ((long) rng.nextInt(100) << 16));
+			} else {
+				int maxIndex = 0;
+				for(int j = 1; j < present.size(); j++) {
+					if(present.get(j).getItem() > present.get(maxIndex).getItem()) {
+						maxIndex = j;
+					}
+				}
+				assertEquals(present.remove(maxIndex).getItem(), heap.extractMax());
+			}
+			assertEquals(present.size(), heap.size());
+		}
+	}
+}
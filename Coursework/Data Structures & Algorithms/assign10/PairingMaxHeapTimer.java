@@ -0,0 +1,105 @@
+package assign10;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares PairingMaxHeap with BinaryMaxHeap on three workloads over n Integers, each of
+ * which starts every timing iteration from empty heaps:
+ *
+ * INSERT_HEAVY adds n items and extracts n / 16 of them.
+ * EXTRACT_HEAVY adds n items and extracts all of them.
+ * MELD_HEAVY adds the n items to 64 separate heaps, merges them into one, and extracts
+ * n / 16 items.
+ *
+ * @author Jake Heairld and Anton Smolyanyy
+ * @version October 18, 2026
+ */
+public class PairingMaxHeapTimer extends TimerTemplate {
+
+	public enum Workload {
+		INSERT_HEAVY, EXTRACT_HEAVY, MELD_HEAVY
+	}
+
+	private static final int HEAPS_TO_MELD = 64;
+
+	private Workload workload;
+	private boolean pairing;
+	private Integer[] items;
+
+	public PairingMaxHeapTimer(int[] problemSizes, int timesToLoop, Workload workload, boolean pairing) {
+		super(problemSizes, timesToLoop);
+		this.workload = workload;
+		this.pairing = pairing;
+	}
+
+	@Override
+	protected void setup(int n) {
+		Random rng = new Random(15);
+		items = new Integer[n];
+		for(int i = 0; i < n; i++) {
+			items[i] = rng.nextInt();
+		}
+	}
+
+	@Override
+	protected void timingIteration(int n) {
+		PriorityQueue<Integer> heap;
+		if(workload == Workload.MELD_HEAVY) {
+			heap = pairing ? meldPairing(n) : meldBinary(n);
+		} else {
+			heap = pairing ? new PairingMaxHeap<Integer>() : new BinaryMaxHeap<Integer>();
+			for(Integer item : items) {
+				heap.add(item);
+			}
+		}
+		int extracts = workload == Workload.EXTRACT_HEAVY ? n : n / 16;
+		for(int i = 0; i < extracts; i++) {
+			heap.extractMax();
+		}
+	}
+
+	@Override
+	protected void compensationIteration(int n) {
+		// every iteration builds its heaps from scratch, so there is nothing to subtract
+	}
+
+	private PairingMaxHeap<Integer> meldPairing(int n) {
+		List<PairingMaxHeap<Integer>> heaps = new ArrayList<PairingMaxHeap<Integer>>(HEAPS_TO_MELD);
+		for(int h = 0; h < HEAPS_TO_MELD; h++) {
+			heaps.add(new PairingMaxHeap<Integer>());
+		}
+		for(int i = 0; i < n; i++) {
+			heaps.get(i % HEAPS_TO_MELD).add(items[i]);
+		}
+		for(int h = 1; h < HEAPS_TO_MELD; h++) {
+			heaps.get(0).merge(heaps.get(h));
+		}
+		return heaps.get(0);
+	}
+
+	private BinaryMaxHeap<Integer> meldBinary(int n) {
+		List<BinaryMaxHeap<Integer>> heaps = new ArrayList<BinaryMaxHeap<Integer>>(HEAPS_TO_MELD);
+		for(int h = 0; h < HEAPS_TO_MELD; h++) {
+			heaps.add(new BinaryMaxHeap<Integer>());
+		}
+		for(int i = 0; i < n; i++) {
+			heaps.get(i % HEAPS_TO_MELD).add(items[i]);
+		}
+		for(int h = 1; h < HEAPS_TO_MELD; h++) {
+			heaps.get(0).merge(heaps.get(h));
+		}
+		return heaps.get(0);
+	}
+
+	public static void main(String[] args) {
+		int[] problemSizes = {10000, 100000, 1000000};
+		for(Workload workload : Workload.values()) {
+			for(boolean pairing : new boolean[] {false, true}) {
+				System.out.println(workload + ", " + (pairing ? "PairingMaxHeap" : "BinaryMaxHeap") + "\nn, time");
+				new PairingMaxHeapTimer(problemSizes, 10, workload, pairing).run();
+			}
+		}
+	}
+}
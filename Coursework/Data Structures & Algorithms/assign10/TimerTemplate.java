@@ -97,4 +97,12 @@ abstract public class TimerTemplate {
         return ret;
     }
 
+    /**
+     * Time all problem sizes
+     * @return Array of timing results
+     */
+    Result[] run(){
+        return run(null);
+    }
+
 }